@@ -1,21 +1,19 @@
 #!/bin/bash
 # Performance Report Generator Script
-# Usage: ./generate-report.sh [log-file-path]
-# Example: ./generate-report.sh logs/application.log
+# Usage: ./generate-report.sh [log-file-or-directory...] [--json report.json] [--window seconds]
+# Example: ./generate-report.sh logs --json report.json
+# Rotated and gzipped log files are read as well.
 
-LOG_FILE="${1:-logs/application.log}"
+if [ $# -eq 0 ]; then
+    set -- logs
+fi
 
 echo "Generating Performance Report..."
 echo ""
 
-if [ ! -f "$LOG_FILE" ]; then
-    echo "Error: Log file not found: $LOG_FILE"
-    exit 1
-fi
-
 mvn -q compile exec:java \
     -Dexec.mainClass="com.example.ecommerce_system.util.PerformanceReportGenerator" \
-    -Dexec.args="$LOG_FILE"
+    -Dexec.args="$*"
 
 if [ $? -ne 0 ]; then
     echo ""
@@ -0,0 +1,71 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.EcommerceApplication;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Boots the application without the web layer against an in-memory H2
+ * database in PostgreSQL mode, so service benchmarks go through the real
+ * repositories, mappers and transaction boundaries. Caching is switched off
+ * so every invocation reaches the database. Overrides replace the default
+ * with the same key.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(String... overrides) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.profiles.active=jmh",
+                "--spring.main.web-application-type=none",
+                "--spring.main.banner-mode=off",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID()
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.cache.type=none",
+                "--jwt.token.secret-key=benchmark-secret",
+                "--spring.security.oauth2.client.registration.google.client-id=benchmark",
+                "--spring.security.oauth2.client.registration.google.client-secret=benchmark",
+                "--logging.level.root=WARN",
+                "--logging.level.org.springframework.beans.factory.support.DisposableBeanAdapter=ERROR",
+                "--logging.file.name="
+        ));
+        for (String override : overrides) {
+            String key = override.substring(0, override.indexOf('=') + 1);
+            args.removeIf(arg -> arg.startsWith(key));
+            args.add(override);
+        }
+        return SpringApplication.run(EcommerceApplication.class, args.toArray(String[]::new));
+    }
+
+    /**
+     * Runs the call with an entity manager bound to the thread, the way
+     * open-in-view does for a web request, so lazy associations touched by
+     * the services behave as they do in production.
+     */
+    static <T> T inRequest(EntityManagerFactory entityManagerFactory, Supplier<T> call) {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(entityManager));
+        try {
+            return call.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            EntityManagerFactoryUtils.closeEntityManager(entityManager);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Customer;
+import com.example.ecommerce_system.model.OrderStatus;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.repository.CategoryRepository;
+import com.example.ecommerce_system.repository.CustomerRepository;
+import com.example.ecommerce_system.repository.OrderStatusRepository;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.repository.RoleRepository;
+import com.example.ecommerce_system.repository.UserRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds the reference rows and a catalogue of products the benchmarks work
+ * against. Stock is large enough that no benchmark runs out.
+ */
+final class BenchmarkData {
+
+    static final int STOCK = 1_000_000_000;
+
+    final UUID userId;
+    final UUID categoryId;
+    final List<UUID> productIds;
+
+    private BenchmarkData(UUID userId, UUID categoryId, List<UUID> productIds) {
+        this.userId = userId;
+        this.categoryId = categoryId;
+        this.productIds = productIds;
+    }
+
+    static BenchmarkData seed(ApplicationContext context, int productCount) {
+        // Not mapped by an entity, so the generated schema lacks it.
+        context.getBean(JdbcTemplate.class).execute("""
+                CREATE TABLE IF NOT EXISTS inventory_ledger_segment (
+                    segment_name varchar(255) PRIMARY KEY,
+                    applied_at timestamp with time zone DEFAULT CURRENT_TIMESTAMP NOT NULL
+                )
+                """);
+
+        var orderStatusRepository = context.getBean(OrderStatusRepository.class);
+        Arrays.stream(OrderStatusType.values())
+                .filter(type -> orderStatusRepository.findOrderStatusByStatusName(type).isEmpty())
+                .forEach(type -> orderStatusRepository.save(OrderStatus.builder()
+                        .statusId(UUID.randomUUID())
+                        .statusName(type)
+                        .build()));
+
+        var roleRepository = context.getBean(RoleRepository.class);
+        Role role = roleRepository.findRoleByRoleName(RoleType.CUSTOMER)
+                .orElseGet(() -> roleRepository.save(Role.builder().roleName(RoleType.CUSTOMER).build()));
+
+        User user = context.getBean(UserRepository.class).save(User.builder()
+                .userId(UUID.randomUUID())
+                .email("benchmark-" + UUID.randomUUID() + "@example.com")
+                .passwordHash("not-used")
+                .role(role)
+                .createdAt(Instant.now())
+                .build());
+
+        context.getBean(CustomerRepository.class).save(Customer.builder()
+                .customerId(UUID.randomUUID())
+                .user(user)
+                .firstName("Bench")
+                .lastName("Mark")
+                .active(true)
+                .build());
+
+        Category category = context.getBean(CategoryRepository.class).save(Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Benchmark")
+                .description("Benchmark products")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build());
+
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(Product.builder()
+                    .productId(UUID.randomUUID())
+                    .name("Product " + i)
+                    .description(i % 2 == 0 ? "Wireless accessory" : "Wired accessory")
+                    .price(10.0 + i)
+                    .stockQuantity(STOCK)
+                    .category(category)
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build());
+        }
+        List<UUID> productIds = context.getBean(ProductRepository.class).saveAll(products).stream()
+                .map(Product::getProductId)
+                .toList();
+
+        return new BenchmarkData(user.getUserId(), category.getCategoryId(), productIds);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.cart.CartItemRequestDto;
+import com.example.ecommerce_system.dto.cart.CartItemResponseDto;
+import com.example.ecommerce_system.repository.CartItemRepository;
+import com.example.ecommerce_system.service.CartService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adding products to a customer's cart. The cart is emptied between
+ * iterations so its size does not grow across the whole run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CartServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private CartService cartService;
+    private CartItemRepository cartItemRepository;
+    private BenchmarkData data;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start();
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        cartService = context.getBean(CartService.class);
+        cartItemRepository = context.getBean(CartItemRepository.class);
+        data = BenchmarkData.seed(context, 100);
+    }
+
+    @Setup(Level.Iteration)
+    public void emptyCart() {
+        cartItemRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public CartItemResponseDto addToCart() {
+        CartItemRequestDto request = CartItemRequestDto.builder()
+                .productId(data.productIds.get(next++ % data.productIds.size()))
+                .quantity(1)
+                .build();
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> cartService.addToCart(data.userId, request));
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.config.JwtAuthenticationFilter;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.service.FileTokenRevocationStore;
+import com.example.ecommerce_system.service.JwtTokenService;
+import com.example.ecommerce_system.service.TokenBlacklistService;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the JWT filter for a client that keeps sending the same
+ * bearer token, with and without the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(4)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    @Param({"true", "false"})
+    boolean verifiedTokenCache;
+
+    private JwtAuthenticationFilter filter;
+    private String authorization;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtTokenService jwtTokenService = new JwtTokenService(
+                "benchmark-secret", 86_400_000L, verifiedTokenCache ? 30_000 : 0, verifiedTokenCache ? 10_000 : 0);
+        TokenBlacklistService tokenBlacklistService =
+                new TokenBlacklistService(new FileTokenRevocationStore(""), 86_400_000L, 100_000, 0.01);
+        filter = new JwtAuthenticationFilter(jwtTokenService, tokenBlacklistService);
+
+        User user = User.builder()
+                .userId(UUID.randomUUID())
+                .email("benchmark@example.com")
+                .role(Role.builder().roleName(RoleType.CUSTOMER).build())
+                .createdAt(Instant.now())
+                .build();
+        authorization = "Bearer " + jwtTokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public Object authenticate() throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/products");
+        request.addHeader("Authorization", authorization);
+
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
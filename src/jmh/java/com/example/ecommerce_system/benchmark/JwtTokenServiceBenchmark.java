@@ -0,0 +1,62 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.service.JwtTokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token signing and uncached verification, which run on every login and on
+ * every authenticated request whose token is not in the verified-token cache.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenServiceBenchmark {
+
+    private JwtTokenService jwtTokenService;
+    private User user;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtTokenService = new JwtTokenService("benchmark-secret", 86_400_000L, 0, 0);
+
+        user = User.builder()
+                .userId(UUID.randomUUID())
+                .email("benchmark@example.com")
+                .role(Role.builder().roleName(RoleType.CUSTOMER).build())
+                .createdAt(Instant.now())
+                .build();
+        token = jwtTokenService.generateToken(user);
+    }
+
+    @Benchmark
+    public DecodedJWT validateToken() {
+        return jwtTokenService.validateToken(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtTokenService.generateToken(user);
+    }
+}
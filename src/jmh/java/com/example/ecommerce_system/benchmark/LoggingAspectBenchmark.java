@@ -0,0 +1,83 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of a service call that also hits a repository, with the
+ * logging aspect switched off, sampling 1% at INFO, tracing every call at
+ * INFO, and tracing every call with rendered arguments at DEBUG. Trace lines
+ * go to a file through the async appender, as they do in production.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingAspectBenchmark {
+
+    @Param({"off", "info-sampled", "info", "debug"})
+    String mode;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ProductService productService;
+    private ProductFilter filter;
+    private UUID productId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start(
+                "--logging.aspect.enabled=" + !mode.equals("off"),
+                "--logging.aspect.sample-rate=" + (mode.equals("info-sampled") ? "0.01" : "1.0"),
+                "--logging.level.com.example.ecommerce_system.trace=" + (mode.equals("debug") ? "DEBUG" : "INFO"),
+                "--logging.file.name=target/benchmark-trace.log",
+                "--logging.threshold.console=OFF"
+        );
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        productService = context.getBean(ProductService.class);
+        BenchmarkData data = BenchmarkData.seed(context, 1000);
+
+        productId = data.productIds.get(0);
+        filter = ProductFilter.builder().categoryId(data.categoryId).build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductResponseDto getProduct() {
+        return BenchmarkApplication.inRequest(entityManagerFactory, () -> productService.getProduct(productId));
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> searchProducts() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> productService.searchProducts(filter, 20, 0));
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.orders.OrderResponseDto;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.model.Category;
+import com.example.ecommerce_system.model.Customer;
+import com.example.ecommerce_system.model.OrderItem;
+import com.example.ecommerce_system.model.OrderStatus;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.model.Orders;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.model.Review;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.util.mapper.CategoryMapperImpl;
+import com.example.ecommerce_system.util.mapper.CustomerMapperImpl;
+import com.example.ecommerce_system.util.mapper.OrderItemMapperImpl;
+import com.example.ecommerce_system.util.mapper.OrderMapper;
+import com.example.ecommerce_system.util.mapper.OrderMapperImpl;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import com.example.ecommerce_system.util.mapper.ProductMapperImpl;
+import com.example.ecommerce_system.util.mapper.ReviewMapper;
+import com.example.ecommerce_system.util.mapper.ReviewMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MapStruct mappers on detached entities, isolating mapping cost from the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"1", "10", "50"})
+    int size;
+
+    private OrderMapper orderMapper;
+    private ProductMapper productMapper;
+    private ReviewMapper reviewMapper;
+
+    private Orders order;
+    private List<Product> products;
+    private List<Review> reviews;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        OrderMapperImpl orders = new OrderMapperImpl();
+        ReflectionTestUtils.setField(orders, "orderItemMapper", new OrderItemMapperImpl());
+        ReviewMapperImpl reviewMappings = new ReviewMapperImpl();
+        ReflectionTestUtils.setField(reviewMappings, "customerMapper", new CustomerMapperImpl());
+        ProductMapperImpl productMappings = new ProductMapperImpl();
+        ReflectionTestUtils.setField(productMappings, "categoryMapper", new CategoryMapperImpl());
+        ReflectionTestUtils.setField(productMappings, "reviewMapper", reviewMappings);
+        orderMapper = orders;
+        productMapper = productMappings;
+        reviewMapper = reviewMappings;
+
+        Category category = Category.builder().categoryId(UUID.randomUUID()).name("Benchmark").build();
+        Customer customer = Customer.builder()
+                .customerId(UUID.randomUUID())
+                .firstName("Bench")
+                .lastName("Mark")
+                .user(User.builder().userId(UUID.randomUUID()).email("benchmark@example.com").createdAt(Instant.now()).build())
+                .build();
+
+        products = new ArrayList<>(size);
+        reviews = new ArrayList<>(size);
+        List<OrderItem> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Product product = Product.builder()
+                    .productId(UUID.randomUUID())
+                    .name("Product " + i)
+                    .description("Benchmark product")
+                    .price(10.0 + i)
+                    .stockQuantity(100)
+                    .category(category)
+                    .updatedAt(Instant.now())
+                    .build();
+            products.add(product);
+            reviews.add(Review.builder()
+                    .reviewId(UUID.randomUUID())
+                    .product(product)
+                    .customer(customer)
+                    .rating(5)
+                    .comment("Great product")
+                    .createdAt(Instant.now())
+                    .build());
+            items.add(OrderItem.builder()
+                    .orderItemId(UUID.randomUUID())
+                    .product(product)
+                    .quantity(1)
+                    .priceAtPurchase(product.getPrice())
+                    .build());
+        }
+
+        order = Orders.builder()
+                .orderId(UUID.randomUUID())
+                .customer(customer)
+                .status(OrderStatus.builder().statusId(UUID.randomUUID()).statusName(OrderStatusType.PENDING).build())
+                .orderDate(Instant.now())
+                .shippingCountry("Ghana")
+                .shippingCity("Accra")
+                .shippingPostalCode("00233")
+                .orderItems(items)
+                .build();
+    }
+
+    @Benchmark
+    public OrderResponseDto orderToDto() {
+        return orderMapper.toDto(order);
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> productsToDtoList() {
+        return productMapper.toDTOList(products);
+    }
+
+    @Benchmark
+    public List<ReviewResponseDto> reviewsToDtoList() {
+        return reviewMapper.toDTOList(reviews);
+    }
+}
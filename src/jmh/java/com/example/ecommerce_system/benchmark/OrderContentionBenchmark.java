@@ -0,0 +1,105 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.orders.OrderItemDto;
+import com.example.ecommerce_system.dto.orders.OrderRequestDto;
+import com.example.ecommerce_system.dto.orders.OrderResponseDto;
+import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Several threads ordering and processing orders for the same product, which
+ * is where stock updates contend on a single row. Throughput is reported for
+ * the conditional stock decrement and for the inventory ledger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class OrderContentionBenchmark {
+
+    @Param({"false", "true"})
+    boolean ledgerEnabled;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private OrderService orderService;
+    private BenchmarkData data;
+    private OrderRequestDto request;
+
+    private static final OrderRequestDto PROCESS = OrderRequestDto.builder()
+            .status(OrderStatusType.PROCESSED)
+            .build();
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        context = BenchmarkApplication.start(
+                "--inventory.ledger.enabled=" + ledgerEnabled,
+                "--inventory.ledger.journal-directory=" + Files.createTempDirectory("inventory-journal")
+        );
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        orderService = context.getBean(OrderService.class);
+        data = BenchmarkData.seed(context, 1);
+
+        request = OrderRequestDto.builder()
+                .country("Ghana")
+                .city("Accra")
+                .postalCode("00233")
+                .items(List.of(OrderItemDto.builder().productId(data.productIds.get(0)).quantity(1).build()))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    /**
+     * An order waiting to be processed, placed fresh for every invocation.
+     */
+    @State(Scope.Thread)
+    public static class PendingOrder {
+        UUID orderId;
+
+        @Setup(Level.Invocation)
+        public void place(OrderContentionBenchmark benchmark) {
+            orderId = benchmark.placeOrder().getOrderId();
+        }
+    }
+
+    @Benchmark
+    public OrderResponseDto placeOrder() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> orderService.placeOrder(request, data.userId));
+    }
+
+    @Benchmark
+    public OrderResponseDto updateOrderStatus(PendingOrder order) {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> orderService.updateOrderStatus(order.orderId, PROCESS));
+    }
+}
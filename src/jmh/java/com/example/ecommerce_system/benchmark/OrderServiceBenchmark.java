@@ -0,0 +1,83 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.orders.OrderItemDto;
+import com.example.ecommerce_system.dto.orders.OrderRequestDto;
+import com.example.ecommerce_system.dto.orders.OrderResponseDto;
+import com.example.ecommerce_system.service.OrderService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of placing an order as the number of line items grows, with stock
+ * checked against the product rows or reserved through the inventory ledger.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+
+    @Param({"1", "10", "50"})
+    int itemCount;
+
+    @Param({"false", "true"})
+    boolean ledgerEnabled;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private OrderService orderService;
+    private BenchmarkData data;
+    private OrderRequestDto request;
+
+    @Setup(Level.Trial)
+    public void start() throws IOException {
+        context = BenchmarkApplication.start(
+                "--inventory.ledger.enabled=" + ledgerEnabled,
+                "--inventory.ledger.journal-directory=" + Files.createTempDirectory("inventory-journal")
+        );
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        orderService = context.getBean(OrderService.class);
+        data = BenchmarkData.seed(context, itemCount);
+
+        List<OrderItemDto> items = data.productIds.stream()
+                .map(productId -> OrderItemDto.builder().productId(productId).quantity(1).build())
+                .toList();
+        request = OrderRequestDto.builder()
+                .country("Ghana")
+                .city("Accra")
+                .postalCode("00233")
+                .items(items)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public OrderResponseDto placeOrder() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> orderService.placeOrder(request, data.userId));
+    }
+}
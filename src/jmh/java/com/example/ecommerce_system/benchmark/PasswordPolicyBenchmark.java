@@ -0,0 +1,49 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.util.PasswordPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pass {@link PasswordPolicy} against the five String.matches calls
+ * signup used before, for a strong password and for one that fails the last rule.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PasswordPolicyBenchmark {
+
+    @Param({"Password123!", "Password123"})
+    String password;
+
+    private final PasswordPolicy passwordPolicy = new PasswordPolicy(8, true, true, true, true, "");
+
+    @Benchmark
+    public List<String> singlePass() {
+        return passwordPolicy.violations(password);
+    }
+
+    @Benchmark
+    public String regex() {
+        if (password == null || password.length() < 8) return "length";
+        if (!password.matches(".*[A-Z].*")) return "uppercase";
+        if (!password.matches(".*[a-z].*")) return "lowercase";
+        if (!password.matches(".*\\d.*")) return "digit";
+        if (!password.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*")) return "special";
+        return null;
+    }
+}
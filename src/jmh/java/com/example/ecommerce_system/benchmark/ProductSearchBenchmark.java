@@ -0,0 +1,134 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Product text search over a generated catalogue of a million rows, through
+ * the PostgreSQL full-text index and through the LIKE specification it
+ * replaces. Full-text search needs PostgreSQL, so this benchmark runs against
+ * the database given by {@code BENCHMARK_DB_URL}, {@code BENCHMARK_DB_USER}
+ * and {@code BENCHMARK_DB_PASSWORD}; the schema is created and dropped by
+ * the run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSearchBenchmark {
+
+    private static final String[] WORDS = {
+            "wireless", "wired", "bluetooth", "ergonomic", "mechanical", "gaming", "portable", "compact",
+            "keyboard", "mouse", "headset", "speaker", "monitor", "charger", "cable", "adapter"
+    };
+
+    @Param({"fulltext", "like"})
+    String search;
+
+    @Param({"1000000"})
+    int productCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ProductService productService;
+    private ProductFilter nameFilter;
+    private ProductFilter descriptionInCategoryFilter;
+
+    @Setup(Level.Trial)
+    public void start() {
+        String url = System.getenv("BENCHMARK_DB_URL");
+        if (url == null)
+            throw new IllegalStateException("Set BENCHMARK_DB_URL (and BENCHMARK_DB_USER, BENCHMARK_DB_PASSWORD) to a PostgreSQL database");
+
+        context = BenchmarkApplication.start(
+                "--spring.datasource.url=" + url,
+                "--spring.datasource.username=" + System.getenv().getOrDefault("BENCHMARK_DB_USER", "postgres"),
+                "--spring.datasource.password=" + System.getenv().getOrDefault("BENCHMARK_DB_PASSWORD", ""),
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.PostgreSQLDialect",
+                "--product.search.full-text.enabled=" + search.equals("fulltext")
+        );
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        productService = context.getBean(ProductService.class);
+        BenchmarkData data = BenchmarkData.seed(context, 0);
+        generateProducts(context.getBean(JdbcTemplate.class), data);
+
+        nameFilter = ProductFilter.builder().name("ergonomic keyboard").build();
+        descriptionInCategoryFilter = ProductFilter.builder()
+                .categoryId(data.categoryId)
+                .description("bluetooth")
+                .minPrice(100.0)
+                .maxPrice(500.0)
+                .build();
+    }
+
+    /**
+     * Adds the search column and index from db.sql to the generated schema and
+     * fills the catalogue in one INSERT ... SELECT, names and descriptions
+     * drawn from a small vocabulary so every search term matches many rows.
+     */
+    private void generateProducts(JdbcTemplate jdbcTemplate, BenchmarkData data) {
+        jdbcTemplate.execute("""
+                ALTER TABLE product ADD COLUMN search_vector tsvector GENERATED ALWAYS AS (
+                    setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+                    setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+                ) STORED
+                """);
+        jdbcTemplate.execute("CREATE INDEX index_product_search_vector ON product USING gin (search_vector)");
+
+        String words = "ARRAY['" + String.join("','", WORDS) + "']";
+        jdbcTemplate.update("""
+                INSERT INTO product (product_id, name, description, price, stock_quantity, version,
+                                     category_id, created_at, updated_at)
+                SELECT gen_random_uuid(),
+                       %1$s[1 + i %% 16] || ' ' || %1$s[1 + (i / 16) %% 16] || ' ' || i,
+                       %1$s[1 + (i / 7) %% 16] || ' ' || %1$s[1 + (i / 11) %% 16] || ' accessory with a long description',
+                       10 + i %% 990,
+                       %2$d,
+                       0,
+                       ?,
+                       now(),
+                       now()
+                FROM generate_series(1, ?) AS i
+                """.formatted(words, BenchmarkData.STOCK), data.categoryId, productCount);
+        jdbcTemplate.execute("ANALYZE product");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> searchByName() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> productService.searchProducts(nameFilter, 20, 0));
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> searchByDescriptionInCategoryAndPrice() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> productService.searchProducts(descriptionInCategoryFilter, 20, 0));
+    }
+}
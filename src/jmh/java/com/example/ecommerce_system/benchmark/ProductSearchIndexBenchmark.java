@@ -0,0 +1,117 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.service.ProductSearchIndex;
+import com.example.ecommerce_system.service.ProductService;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uncached product search served by the in-memory index and by the database.
+ * With the index, the heap it retains per product is printed once the
+ * catalogue has been indexed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductSearchIndexBenchmark {
+
+    @Param({"index", "database"})
+    String source;
+
+    @Param({"10000", "100000"})
+    int productCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ProductService productService;
+    private ProductFilter nameFilter;
+    private ProductFilter rangeFilter;
+
+    @Setup(Level.Trial)
+    public void start() {
+        boolean index = source.equals("index");
+        context = BenchmarkApplication.start("--product.search.index.enabled=" + index);
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        productService = context.getBean(ProductService.class);
+        BenchmarkData data = BenchmarkData.seed(context, productCount);
+        if (index) reportFootprint(context.getBean(ProductSearchIndex.class));
+
+        nameFilter = ProductFilter.builder().name("product 42").build();
+        rangeFilter = ProductFilter.builder()
+                .categoryId(data.categoryId)
+                .description("wireless")
+                .minPrice(100.0)
+                .maxPrice(500.0)
+                .build();
+    }
+
+    /**
+     * Loads the catalogue into the application's index, then builds a second,
+     * private index over it and reports the heap that one retains, which
+     * includes the product DTOs it serves.
+     */
+    private void reportFootprint(ProductSearchIndex productSearchIndex) {
+        productSearchIndex.rebuild();
+
+        long start = System.nanoTime();
+        ProductSearchIndex measured = new ProductSearchIndex(
+                context.getBean(ProductRepository.class), context.getBean(ProductMapper.class), true, 5000, 4);
+        measured.rebuild();
+        long buildMillis = (System.nanoTime() - start) / 1_000_000;
+        int indexed = measured.size();
+
+        long withIndex = usedHeap();
+        measured = null;
+        long retained = withIndex - usedHeap();
+        System.out.printf("%nIndexed %d products in %d ms, about %d bytes of heap per product%n",
+                indexed, buildMillis, retained / Math.max(indexed, 1));
+    }
+
+    private static long usedHeap() {
+        MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        for (int i = 0; i < 3; i++) memory.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> searchProductsByName() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> productService.searchProducts(nameFilter, 20, 0));
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> searchProductsByCategoryAndPrice() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> productService.searchProducts(rangeFilter, 20, 0));
+    }
+}
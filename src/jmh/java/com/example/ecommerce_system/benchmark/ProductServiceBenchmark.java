@@ -0,0 +1,77 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.service.ProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uncached product search over catalogues of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProductServiceBenchmark {
+
+    @Param({"1000", "10000"})
+    int productCount;
+
+    private ConfigurableApplicationContext context;
+    private EntityManagerFactory entityManagerFactory;
+    private ProductService productService;
+    private ProductFilter nameFilter;
+    private ProductFilter rangeFilter;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkApplication.start();
+        entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        productService = context.getBean(ProductService.class);
+        BenchmarkData data = BenchmarkData.seed(context, productCount);
+
+        nameFilter = ProductFilter.builder().name("product 42").build();
+        rangeFilter = ProductFilter.builder()
+                .categoryId(data.categoryId)
+                .description("wireless")
+                .minPrice(100.0)
+                .maxPrice(500.0)
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> searchProductsByName() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> productService.searchProducts(nameFilter, 20, 0));
+    }
+
+    @Benchmark
+    public List<ProductResponseDto> searchProductsByCategoryAndPrice() {
+        return BenchmarkApplication.inRequest(entityManagerFactory,
+                () -> productService.searchProducts(rangeFilter, 20, 0));
+    }
+}
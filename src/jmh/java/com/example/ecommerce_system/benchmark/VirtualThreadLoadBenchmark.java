@@ -0,0 +1,124 @@
+package com.example.ecommerce_system.benchmark;
+
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.service.JwtTokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end load on the embedded Tomcat with more concurrent clients than
+ * the default 200 platform request threads, in platform-thread mode and in
+ * the {@code virtual} profile. Throughput and the sampled latency
+ * percentiles (p99, p99.9) are the numbers to compare.
+ *
+ * <p>The virtual mode needs a Java 21 runtime:
+ * {@code mvn -Pjmh,java21 -DskipTests verify -Djmh.includes=VirtualThreadLoadBenchmark}.
+ * H2 answers in microseconds, so the gap here understates what a networked
+ * PostgreSQL shows, where request threads spend most of their time waiting.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(256)
+@Fork(1)
+public class VirtualThreadLoadBenchmark {
+
+    private static final int POOL_SIZE = 20;
+
+    @Param({"platform", "virtual"})
+    String threads;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private HttpRequest categoriesRequest;
+    private HttpRequest productsQuery;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        boolean virtual = threads.equals("virtual");
+        if (virtual && Runtime.version().feature() < 21)
+            throw new IllegalStateException("Virtual threads need Java 21, run with -Pjava21 on a Java 21 JDK");
+
+        context = BenchmarkApplication.start(
+                "--spring.profiles.active=" + (virtual ? "jmh,virtual" : "jmh"),
+                "--spring.main.web-application-type=servlet",
+                "--server.port=0",
+                "--spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                "--logging.aspect.enabled=false",
+                "--performance.monitoring.enabled=false"
+        );
+        BenchmarkData data = BenchmarkData.seed(context, 200);
+
+        User user = User.builder()
+                .userId(data.userId)
+                .email("benchmark@example.com")
+                .role(Role.builder().roleName(RoleType.CUSTOMER).build())
+                .createdAt(Instant.now())
+                .build();
+        String authorization = "Bearer " + context.getBean(JwtTokenService.class).generateToken(user);
+        String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+
+        client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        categoriesRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/categories?limit=20&offset=0"))
+                .header("Authorization", authorization)
+                .GET()
+                .build();
+        productsQuery = HttpRequest.newBuilder(URI.create(baseUrl + "/graphql"))
+                .header("Authorization", authorization)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"query\":\"{ getAllProducts(limit: 20) { items { productId name price } hasNext } }\"}"))
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public int restCategories() throws IOException, InterruptedException {
+        return send(categoriesRequest);
+    }
+
+    @Benchmark
+    public int graphqlProducts() throws IOException, InterruptedException {
+        return send(productsQuery);
+    }
+
+    private int send(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200)
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + ": " + response.body());
+        return response.body().length();
+    }
+}
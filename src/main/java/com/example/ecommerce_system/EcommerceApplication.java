@@ -1,9 +1,12 @@
 package com.example.ecommerce_system;
 
+import com.example.ecommerce_system.repository.SliceJpaRepositoryImpl;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
 @SpringBootApplication
+@EnableJpaRepositories(repositoryBaseClass = SliceJpaRepositoryImpl.class)
 public class EcommerceApplication {
 
 	public static void main(String[] args) {
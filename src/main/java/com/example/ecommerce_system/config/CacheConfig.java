@@ -1,7 +1,7 @@
 package com.example.ecommerce_system.config;
 
+import com.example.ecommerce_system.util.TaggedCaffeineCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.cache.caffeine.CaffeineCache;
@@ -17,9 +17,6 @@ import java.util.Arrays;
 @EnableCaching
 public class CacheConfig {
 
-    @Value("${jwt.token.expiration-ms:86400000}")
-    private long tokenExpirationMs;
-
     @Bean
     @Profile("dev")
     public CacheManager devCacheManager() {
@@ -40,19 +37,19 @@ public class CacheConfig {
 
     private CacheManager createCacheManager(Duration baseTtl, int baseSize) {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        Duration tokenBlacklistTtl = Duration.ofMillis(tokenExpirationMs);
 
         cacheManager.setCaches(Arrays.asList(
             buildCache("categories", baseTtl, 2, baseSize, 2),
             buildCache("products", baseTtl, 2, baseSize, 4),
             buildCache("users", baseTtl, 3, baseSize, 1),
+            buildCache("user_principals", baseTtl, 1, baseSize, 1),
             buildCache("customers", baseTtl, 3, baseSize, 2),
             buildCache("orders", baseTtl, 2, baseSize, 4),
             buildCache("order_items", baseTtl, 2, baseSize, 10),
             buildCache("carts", baseTtl, 1, baseSize, 2),
             buildCache("reviews", baseTtl, 2, baseSize, 6),
-            buildCache("paginated", baseTtl.dividedBy(2), baseSize, 3),
-            buildCache("tokenBlacklist", tokenBlacklistTtl, baseSize, 1)
+            buildCache("row_estimates", baseTtl, 1, baseSize, 1),
+            buildTaggedCache("paginated", baseTtl.dividedBy(2), baseSize, 3)
         ));
 
         return cacheManager;
@@ -66,11 +63,10 @@ public class CacheConfig {
             .build());
     }
 
-    private CaffeineCache buildCache(String name, Duration ttl, int baseSize, int sizeMultiplier) {
-        return new CaffeineCache(name, Caffeine.newBuilder()
+    private CaffeineCache buildTaggedCache(String name, Duration ttl, int baseSize, int sizeMultiplier) {
+        return TaggedCaffeineCache.of(name, Caffeine.newBuilder()
             .expireAfterWrite(ttl)
             .maximumSize((long) baseSize * sizeMultiplier)
-            .recordStats()
-            .build());
+            .recordStats());
     }
 }
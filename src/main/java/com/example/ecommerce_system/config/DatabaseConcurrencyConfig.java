@@ -0,0 +1,36 @@
+package com.example.ecommerce_system.config;
+
+import com.example.ecommerce_system.util.ConcurrencyLimitedDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application data source in a {@link ConcurrencyLimitedDataSource}
+ * when {@code database.concurrency-limit.enabled} is set, which the
+ * {@code virtual} profile does. The limit defaults to the Hikari pool size,
+ * so requests wait for a permit before they wait for the pool.
+ */
+@Configuration
+@ConditionalOnProperty(name = "database.concurrency-limit.enabled", havingValue = "true")
+public class DatabaseConcurrencyConfig {
+
+    @Bean
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(
+            @Value("${database.concurrency-limit.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent,
+            @Value("${database.concurrency-limit.acquire-timeout-ms:${spring.datasource.hikari.connection-timeout:30000}}") long acquireTimeoutMs
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConcurrencyLimitedDataSource))
+                    return new ConcurrencyLimitedDataSource(dataSource, maxConcurrent, acquireTimeoutMs);
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,243 @@
+package com.example.ecommerce_system.config;
+
+import com.example.ecommerce_system.util.aspect.PerformanceAspect;
+import com.example.ecommerce_system.util.aspect.RequestMetrics;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.Charset;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Samples a configurable share of requests and, for those, counts the bytes
+ * actually read from the request and written to the response. Once the
+ * response is complete, every controller call timed by
+ * {@link PerformanceAspect} during the request is logged with those counts.
+ * Unsampled requests pass through untouched.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class PerformanceMonitoringFilter extends OncePerRequestFilter {
+
+    private final boolean enabled;
+    private final double sampleRate;
+
+    public PerformanceMonitoringFilter(
+            @Value("${performance.monitoring.enabled:true}") boolean enabled,
+            @Value("${performance.monitoring.sample-rate:1.0}") double sampleRate
+    ) {
+        this.enabled = enabled;
+        this.sampleRate = sampleRate;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !enabled || (sampleRate < 1.0 && ThreadLocalRandom.current().nextDouble() >= sampleRate);
+    }
+
+    @Override
+    protected void doFilterInternal(
+            @NonNull HttpServletRequest request,
+            @NonNull HttpServletResponse response,
+            @NonNull FilterChain filterChain
+    ) throws ServletException, IOException {
+        RequestMetrics metrics = new RequestMetrics();
+        request.setAttribute(RequestMetrics.ATTRIBUTE, metrics);
+
+        CountingRequest countingRequest = new CountingRequest(request);
+        CountingResponse countingResponse = new CountingResponse(response);
+
+        try {
+            filterChain.doFilter(countingRequest, countingResponse);
+        } finally {
+            if (countingRequest.isAsyncStarted()) {
+                countingRequest.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        report(metrics, countingRequest, countingResponse);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                    }
+                });
+            } else {
+                countingResponse.flushWriter();
+                report(metrics, countingRequest, countingResponse);
+            }
+        }
+    }
+
+    private void report(RequestMetrics metrics, CountingRequest request, CountingResponse response) {
+        long requestSize = request.getContentLengthLong() >= 0 ? request.getContentLengthLong() : request.bytesRead;
+        String contentLength = response.getHeader(HttpHeaders.CONTENT_LENGTH);
+        long responseSize = contentLength != null ? Long.parseLong(contentLength) : response.bytesWritten;
+
+        for (RequestMetrics.Invocation invocation : metrics.getInvocations()) {
+            log.info("[{}] {} - Duration: {}ms, Request Size: {} bytes, Response Size: {} bytes",
+                    invocation.type(),
+                    invocation.signature(),
+                    PerformanceAspect.formatMillis(invocation.durationNanos()),
+                    requestSize,
+                    responseSize);
+        }
+    }
+
+    private static class CountingRequest extends HttpServletRequestWrapper {
+        private long bytesRead;
+        private ServletInputStream inputStream;
+        private BufferedReader reader;
+
+        CountingRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                ServletInputStream delegate = super.getInputStream();
+                inputStream = new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        int b = delegate.read();
+                        if (b >= 0) bytesRead++;
+                        return b;
+                    }
+
+                    @Override
+                    public int read(byte[] buffer, int offset, int length) throws IOException {
+                        int n = delegate.read(buffer, offset, length);
+                        if (n > 0) bytesRead += n;
+                        return n;
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return delegate.isFinished();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setReadListener(ReadListener listener) {
+                        delegate.setReadListener(listener);
+                    }
+                };
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            if (reader == null) {
+                Charset charset = Charset.forName(getCharacterEncoding() != null ? getCharacterEncoding() : "UTF-8");
+                reader = new BufferedReader(new InputStreamReader(getInputStream(), charset));
+            }
+            return reader;
+        }
+    }
+
+    private static class CountingResponse extends HttpServletResponseWrapper {
+        private long bytesWritten;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+
+        CountingResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                ServletOutputStream delegate = super.getOutputStream();
+                outputStream = new ServletOutputStream() {
+                    @Override
+                    public void write(int b) throws IOException {
+                        delegate.write(b);
+                        bytesWritten++;
+                    }
+
+                    @Override
+                    public void write(byte[] buffer, int offset, int length) throws IOException {
+                        delegate.write(buffer, offset, length);
+                        bytesWritten += length;
+                    }
+
+                    @Override
+                    public void flush() throws IOException {
+                        delegate.flush();
+                    }
+
+                    @Override
+                    public void close() throws IOException {
+                        delegate.close();
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return delegate.isReady();
+                    }
+
+                    @Override
+                    public void setWriteListener(WriteListener listener) {
+                        delegate.setWriteListener(listener);
+                    }
+                };
+            }
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            if (writer == null) {
+                writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+            }
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            flushWriter();
+            super.flushBuffer();
+        }
+
+        void flushWriter() {
+            if (writer != null) writer.flush();
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.ecommerce_system.config;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import com.example.ecommerce_system.util.aspect.LoggingAspect;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sends the trace log written by {@link LoggingAspect} through bounded
+ * ring-buffer appenders in front of the regular console and file appenders,
+ * so request threads only enqueue the event. When the buffer is full events
+ * are dropped instead of blocking the caller; lower levels go first.
+ */
+@Configuration
+public class TraceLogConfig {
+
+    private final int queueSize;
+    private final List<AsyncAppender> asyncAppenders = new ArrayList<>();
+
+    public TraceLogConfig(@Value("${logging.aspect.async-queue-size:8192}") int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    @PostConstruct
+    public void attachAsyncAppenders() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) return;
+
+        Logger root = context.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME);
+        Logger trace = context.getLogger(LoggingAspect.TRACE_LOGGER);
+
+        List<Appender<ILoggingEvent>> targets = new ArrayList<>();
+        root.iteratorForAppenders().forEachRemaining(targets::add);
+        if (targets.isEmpty()) return;
+
+        for (Appender<ILoggingEvent> target : targets) {
+            AsyncAppender async = new AsyncAppender();
+            async.setContext(context);
+            async.setName("ASYNC_TRACE_" + target.getName());
+            async.setQueueSize(queueSize);
+            async.setNeverBlock(true);
+            async.setIncludeCallerData(false);
+            async.addAppender(target);
+            async.start();
+
+            trace.addAppender(async);
+            asyncAppenders.add(async);
+        }
+        trace.setAdditive(false);
+    }
+
+    @PreDestroy
+    public void detachAsyncAppenders() {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) return;
+
+        Logger trace = context.getLogger(LoggingAspect.TRACE_LOGGER);
+        trace.setAdditive(true);
+        for (AsyncAppender async : asyncAppenders) {
+            trace.detachAppender(async);
+            async.stop();
+        }
+        asyncAppenders.clear();
+    }
+}
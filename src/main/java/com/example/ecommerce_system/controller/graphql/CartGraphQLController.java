@@ -4,27 +4,33 @@ import com.example.ecommerce_system.dto.cart.AddCartItem;
 import com.example.ecommerce_system.dto.cart.CartItemRequestDto;
 import com.example.ecommerce_system.dto.cart.CartItemResponseDto;
 import com.example.ecommerce_system.dto.cart.UpdateCartItem;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
 import com.example.ecommerce_system.service.CartService;
+import com.example.ecommerce_system.service.ProductService;
 import com.example.ecommerce_system.util.SecurityContextHelper;
 import lombok.AllArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Controller
 @AllArgsConstructor
 public class CartGraphQLController {
     private final CartService cartService;
+    private final ProductService productService;
 
     @QueryMapping
     public List<CartItemResponseDto> getCustomerCartItems() {
         UUID userId = SecurityContextHelper.getCurrentUserId();
-        return cartService.getCartItemsByCustomer(userId);
+        return cartService.getCartItemSummariesByCustomer(userId);
     }
 
     @MutationMapping
@@ -50,4 +56,26 @@ public class CartGraphQLController {
         cartService.removeFromCart(userId, cartItemUuid);
         return true;
     }
+
+    /**
+     * Resolves the product of every cart item in the response with one query.
+     * Items that were mapped with their product already are returned as they are.
+     */
+    @BatchMapping(typeName = "CartItemResponseDto", field = "product")
+    public Map<CartItemResponseDto, ProductResponseDto> product(List<CartItemResponseDto> cartItems) {
+        Map<UUID, ProductResponseDto> products = productService.getProductsByIds(
+                cartItems.stream()
+                        .filter(item -> item.getProduct() == null)
+                        .map(CartItemResponseDto::getProductId)
+                        .distinct()
+                        .toList()
+        );
+
+        Map<CartItemResponseDto, ProductResponseDto> result = new HashMap<>();
+        for (CartItemResponseDto item : cartItems) {
+            ProductResponseDto product = item.getProduct();
+            result.put(item, product != null ? product : products.get(item.getProductId()));
+        }
+        return result;
+    }
 }
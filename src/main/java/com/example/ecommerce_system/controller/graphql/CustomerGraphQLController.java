@@ -0,0 +1,29 @@
+package com.example.ecommerce_system.controller.graphql;
+
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.dto.customer.CustomerResponseDto;
+import com.example.ecommerce_system.service.CustomerService;
+import jakarta.validation.constraints.Min;
+import lombok.AllArgsConstructor;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.stereotype.Controller;
+
+@Controller
+@AllArgsConstructor
+public class CustomerGraphQLController {
+    private final CustomerService customerService;
+
+    /**
+     * GraphQL query to retrieve customers page by page, continuing after the given cursor.
+     */
+    @QueryMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPageDto<CustomerResponseDto> getAllCustomers(
+            @Argument @Min(1) Integer limit,
+            @Argument String after) {
+        int limitValue = limit != null ? limit : 10;
+        return customerService.getAllCustomersAfter(after, limitValue);
+    }
+}
@@ -1,14 +1,19 @@
 package com.example.ecommerce_system.controller.graphql;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.orders.CreateOrderRequest;
+import com.example.ecommerce_system.dto.orders.OrderFilter;
 import com.example.ecommerce_system.dto.orders.OrderRequestDto;
 import com.example.ecommerce_system.dto.orders.OrderResponseDto;
+import com.example.ecommerce_system.model.OrderStatusType;
 import com.example.ecommerce_system.service.OrderService;
 import com.example.ecommerce_system.util.SecurityContextHelper;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 
@@ -32,6 +37,33 @@ public class OrderGraphQLController {
         return orderService.getCustomerOrders(userId, limitValue, offsetValue);
     }
 
+    @QueryMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public CursorPageDto<OrderResponseDto> getAllOrders(
+            @Argument @Min(1) Integer limit,
+            @Argument String after,
+            @Argument UUID customerId,
+            @Argument OrderStatusType status,
+            @Argument Double minAmount,
+            @Argument Double maxAmount,
+            @Argument String country,
+            @Argument String city) {
+
+        int limitValue = limit != null ? limit : 10;
+        OrderFilter filter = OrderFilter.builder()
+                .customerId(customerId)
+                .status(status)
+                .minAmount(minAmount)
+                .maxAmount(maxAmount)
+                .shippingCountry(country)
+                .shippingCity(city)
+                .build();
+
+        return filter.isEmpty()
+                ? orderService.getAllOrdersAfter(after, limitValue)
+                : orderService.searchOrdersAfter(filter, after, limitValue);
+    }
+
     @MutationMapping
     public OrderResponseDto placeOrder(
             @Argument @Validated(CreateOrderRequest.class) OrderRequestDto input) {
@@ -1,31 +1,87 @@
 package com.example.ecommerce_system.controller.graphql;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.dto.category.CategoryResponseDto;
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
 import com.example.ecommerce_system.dto.product.ProductFilter;
-import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.service.CategoryService;
 import com.example.ecommerce_system.service.ProductService;
-import lombok.AllArgsConstructor;
+import com.example.ecommerce_system.service.ReviewService;
+import graphql.execution.ExecutionStepInfo;
+import graphql.schema.DataFetchingEnvironment;
+import jakarta.validation.constraints.Min;
+import org.dataloader.DataLoader;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.graphql.data.method.annotation.SchemaMapping;
+import org.springframework.graphql.execution.BatchLoaderRegistry;
 import org.springframework.stereotype.Controller;
+import reactor.core.publisher.Mono;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
 
 @Controller
-@AllArgsConstructor
 public class ProductGraphQlController {
 
+    private static final String REVIEW_LIMIT = "reviewLimit";
+    private static final String PRODUCT_REVIEWS = "productReviews";
+    private static final int DEFAULT_REVIEW_LIMIT = 10;
+    private static final int MAX_REVIEW_LIMIT = 50;
+
     private final ProductService productService;
+    private final ReviewService reviewService;
+    private final CategoryService categoryService;
+
+    /**
+     * Reviews are batched by product and review limit rather than with a
+     * batch mapping, so aliased product fields asking for different limits
+     * each get their own.
+     */
+    public ProductGraphQlController(
+            ProductService productService,
+            ReviewService reviewService,
+            CategoryService categoryService,
+            BatchLoaderRegistry batchLoaderRegistry
+    ) {
+        this.productService = productService;
+        this.reviewService = reviewService;
+        this.categoryService = categoryService;
+        batchLoaderRegistry.<ProductReviewsKey, List<ReviewResponseDto>>forName(PRODUCT_REVIEWS)
+                .registerMappedBatchLoader((keys, environment) -> Mono.fromSupplier(() -> loadReviews(keys)));
+    }
+
+    /**
+     * Retrieves products newest first, continuing after the given cursor.
+     */
+    @QueryMapping
+    public CursorPageDto<ProductResponseDto> getAllProducts(
+            @Argument @Min(1) Integer limit,
+            @Argument String after
+    ) {
+        int limitValue = limit != null ? limit : 10;
+        return productService.getAllProductsAfter(after, limitValue);
+    }
 
     /**
      * Retrieves all products with their reviews.
      * Supports optional filtering by name, description, category, price range, and stock range.
+     * Only the product page is loaded here; categories and reviews are resolved
+     * in batches below, and only if the client selects them. The reviewLimit
+     * argument is read by the reviews field of each product.
      */
     @QueryMapping
-    public List<ProductWithReviewsDto> getAllProductsWithReviews(
+    public List<ProductResponseDto> getAllProductsWithReviews(
             @Argument int limit,
             @Argument int offset,
-            @Argument(name = "reviewLimit") int reviewLimit,
             @Argument String name,
             @Argument String description,
             @Argument UUID categoryId,
@@ -34,10 +90,101 @@ public class ProductGraphQlController {
             @Argument Integer minStock,
             @Argument Integer maxStock
     ) {
-        final int MAX_REVIEW_LIMIT = 50;
-        int effectiveReviewLimit = Math.min(reviewLimit, MAX_REVIEW_LIMIT);
+        ProductFilter filter = toFilter(name, description, categoryId, minPrice, maxPrice, minStock, maxStock);
+
+        return filter.isEmpty()
+                ? productService.getAllProducts(limit, offset)
+                : productService.searchProducts(filter, limit, offset);
+    }
+
+    /**
+     * Counts the products matching the same filters as getAllProductsWithReviews
+     * per category and per price bucket, so a client can ask for a page and
+     * its facets in one request.
+     */
+    @QueryMapping
+    public ProductFacetsDto getProductFacets(
+            @Argument String name,
+            @Argument String description,
+            @Argument UUID categoryId,
+            @Argument Double minPrice,
+            @Argument Double maxPrice,
+            @Argument Integer minStock,
+            @Argument Integer maxStock
+    ) {
+        return productService.getProductFacets(
+                toFilter(name, description, categoryId, minPrice, maxPrice, minStock, maxStock));
+    }
 
-        ProductFilter filter = ProductFilter.builder()
+    /**
+     * Queues the product for the reviews batch, with the reviewLimit of the
+     * field it was listed by.
+     */
+    @SchemaMapping(typeName = "ProductWithReviewsDto", field = "reviews")
+    public CompletableFuture<List<ReviewResponseDto>> reviews(
+            ProductResponseDto product,
+            DataFetchingEnvironment environment
+    ) {
+        DataLoader<ProductReviewsKey, List<ReviewResponseDto>> reviews = environment.getDataLoader(PRODUCT_REVIEWS);
+        return reviews.load(new ProductReviewsKey(product.getProductId(), reviewLimit(environment)));
+    }
+
+    /**
+     * Loads the newest reviews of every queued product with one query per
+     * distinct review limit, usually just one.
+     */
+    private Map<ProductReviewsKey, List<ReviewResponseDto>> loadReviews(Set<ProductReviewsKey> keys) {
+        Map<ProductReviewsKey, List<ReviewResponseDto>> result = new HashMap<>();
+        keys.stream()
+                .collect(Collectors.groupingBy(ProductReviewsKey::reviewLimit))
+                .forEach((reviewLimit, sameLimit) -> {
+                    Map<UUID, List<ReviewResponseDto>> reviewsByProduct = reviewService.getTopReviewsByProducts(
+                            sameLimit.stream().map(ProductReviewsKey::productId).toList(),
+                            reviewLimit
+                    );
+                    for (ProductReviewsKey key : sameLimit)
+                        result.put(key, reviewsByProduct.getOrDefault(key.productId(), List.of()));
+                });
+        return result;
+    }
+
+    /**
+     * The reviewLimit argument of the nearest enclosing field that has one,
+     * capped at MAX_REVIEW_LIMIT.
+     */
+    private static int reviewLimit(DataFetchingEnvironment environment) {
+        for (ExecutionStepInfo step = environment.getExecutionStepInfo(); step != null; step = step.getParent()) {
+            Integer reviewLimit = step.getArgument(REVIEW_LIMIT);
+            if (reviewLimit != null) return Math.min(reviewLimit, MAX_REVIEW_LIMIT);
+        }
+        return DEFAULT_REVIEW_LIMIT;
+    }
+
+    /**
+     * Loads the categories of every product in the page with one query.
+     */
+    @BatchMapping(typeName = "ProductWithReviewsDto", field = "category")
+    public Map<ProductResponseDto, CategoryResponseDto> category(List<ProductResponseDto> products) {
+        Map<UUID, CategoryResponseDto> categories = categoryService.getCategoriesByIds(
+                products.stream().map(ProductResponseDto::getCategoryId).distinct().toList()
+        );
+
+        Map<ProductResponseDto, CategoryResponseDto> result = new HashMap<>();
+        for (ProductResponseDto product : products)
+            result.put(product, categories.get(product.getCategoryId()));
+        return result;
+    }
+
+    private static ProductFilter toFilter(
+            String name,
+            String description,
+            UUID categoryId,
+            Double minPrice,
+            Double maxPrice,
+            Integer minStock,
+            Integer maxStock
+    ) {
+        return ProductFilter.builder()
                 .name(name)
                 .description(description)
                 .categoryId(categoryId)
@@ -46,9 +193,7 @@ public class ProductGraphQlController {
                 .minStock(minStock)
                 .maxStock(maxStock)
                 .build();
-
-        return filter.isEmpty()
-                ? productService.getAllProductsWithReviews(limit, offset, effectiveReviewLimit)
-                : productService.searchProductsWithReviews(filter, limit, offset);
     }
+
+    private record ProductReviewsKey(UUID productId, int reviewLimit) {}
 }
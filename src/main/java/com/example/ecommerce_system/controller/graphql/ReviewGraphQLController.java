@@ -1,22 +1,30 @@
 package com.example.ecommerce_system.controller.graphql;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.dto.customer.CustomerResponseDto;
 import com.example.ecommerce_system.dto.review.ReviewRequestDto;
 import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.service.CustomerService;
 import com.example.ecommerce_system.service.ReviewService;
 import com.example.ecommerce_system.util.SecurityContextHelper;
+import jakarta.validation.constraints.Min;
 import lombok.AllArgsConstructor;
 import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.BatchMapping;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Controller
 @AllArgsConstructor
 public class ReviewGraphQLController {
     private final ReviewService reviewService;
+    private final CustomerService customerService;
 
     /**
      * GraphQL query to retrieve paginated reviews for a specific product.
@@ -33,6 +41,20 @@ public class ReviewGraphQLController {
         return reviewService.getReviewsByProduct(productUuid, actualLimit, actualOffset);
     }
 
+    /**
+     * GraphQL query to retrieve a product's reviews page by page, continuing after the given cursor.
+     */
+    @QueryMapping
+    public CursorPageDto<ReviewResponseDto> getProductReviewsPage(
+            @Argument String productId,
+            @Argument @Min(1) Integer limit,
+            @Argument String after) {
+        UUID productUuid = UUID.fromString(productId);
+        int actualLimit = limit != null ? limit : 10;
+
+        return reviewService.getReviewsByProductAfter(productUuid, after, actualLimit);
+    }
+
     /**
      * GraphQL mutation to create a new review for a product.
      * Validates that the customer has ordered and received (processed) the product.
@@ -46,4 +68,26 @@ public class ReviewGraphQLController {
 
         return reviewService.createReview(productUuid, userId, request);
     }
+
+    /**
+     * Resolves the customer of every review in the response with one query.
+     * Reviews that were mapped with their customer already are returned as they are.
+     */
+    @BatchMapping(typeName = "ReviewResponseDto", field = "customer")
+    public Map<ReviewResponseDto, CustomerResponseDto> customer(List<ReviewResponseDto> reviews) {
+        Map<UUID, CustomerResponseDto> customers = customerService.getCustomersByIds(
+                reviews.stream()
+                        .filter(review -> review.getCustomer() == null && review.getCustomerId() != null)
+                        .map(ReviewResponseDto::getCustomerId)
+                        .distinct()
+                        .toList()
+        );
+
+        Map<ReviewResponseDto, CustomerResponseDto> result = new HashMap<>();
+        for (ReviewResponseDto review : reviews) {
+            CustomerResponseDto customer = review.getCustomer();
+            result.put(review, customer != null ? customer : customers.get(review.getCustomerId()));
+        }
+        return result;
+    }
 }
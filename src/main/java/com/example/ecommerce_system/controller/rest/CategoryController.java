@@ -2,6 +2,8 @@ package com.example.ecommerce_system.controller.rest;
 
 import com.example.ecommerce_system.dto.*;
 import com.example.ecommerce_system.dto.category.*;
+import com.example.ecommerce_system.service.ApproximateCountService;
+import com.example.ecommerce_system.service.ApproximateCountService.CountedTable;
 import com.example.ecommerce_system.service.CategoryService;
 import com.example.ecommerce_system.util.handler.SuccessResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
@@ -23,6 +25,7 @@ import java.util.UUID;
 @RequestMapping("/categories")
 public class CategoryController {
     private final CategoryService categoryService;
+    private final ApproximateCountService approximateCountService;
 
     @Operation(summary="Retrieve all categories")
     @ApiResponses({
@@ -46,6 +49,16 @@ public class CategoryController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, categories);
     }
 
+    @Operation(summary = "Count categories, approximately on large tables")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Total number of categories and whether it is an estimate")
+    })
+    @GetMapping("/count")
+    public SuccessResponseDto<ApproximateCountDto> countCategories() {
+        var count = approximateCountService.count(CountedTable.CATEGORY);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, count);
+    }
+
     @Operation(summary = "Retrieve a single category by categoryId")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "A single category retrieved")
@@ -1,9 +1,13 @@
 package com.example.ecommerce_system.controller.rest;
 
+import com.example.ecommerce_system.dto.ApproximateCountDto;
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.SuccessResponseDto;
 import com.example.ecommerce_system.dto.customer.CustomerRequestDto;
 import com.example.ecommerce_system.dto.customer.CustomerResponseDto;
 import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.service.ApproximateCountService;
+import com.example.ecommerce_system.service.ApproximateCountService.CountedTable;
 import com.example.ecommerce_system.service.CustomerService;
 import com.example.ecommerce_system.service.ReviewService;
 import com.example.ecommerce_system.util.handler.SuccessResponseHandler;
@@ -29,6 +33,7 @@ import java.util.UUID;
 public class CustomerAdminController {
     private final CustomerService customerService;
     private final ReviewService reviewService;
+    private final ApproximateCountService approximateCountService;
 
     @Operation(summary = "Retrieve all customers")
     @ApiResponses({
@@ -43,6 +48,30 @@ public class CustomerAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, customers);
     }
 
+    @Operation(summary = "Count customers, approximately on large tables")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Total number of customers and whether it is an estimate")
+    })
+    @GetMapping("/count")
+    public SuccessResponseDto<ApproximateCountDto> countCustomers() {
+        var count = approximateCountService.count(CountedTable.CUSTOMER);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, count);
+    }
+
+    @Operation(summary = "Retrieve customers page by page using a cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "A page of customers and the cursor of the next page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/cursor")
+    public SuccessResponseDto<CursorPageDto<CustomerResponseDto>> getCustomersByCursor(
+            @RequestParam @Min(1) int limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        var customers = customerService.getAllCustomersAfter(cursor, limit);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, customers);
+    }
+
     @Operation(summary = "Retrieve a single customer by customerId")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "A single customer retrieved"),
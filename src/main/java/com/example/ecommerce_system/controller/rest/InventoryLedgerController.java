@@ -0,0 +1,44 @@
+package com.example.ecommerce_system.controller.rest;
+
+import com.example.ecommerce_system.dto.inventory.InventoryLedgerStats;
+import com.example.ecommerce_system.service.InventoryLedgerService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/admin/inventory-ledger")
+@PreAuthorize("hasRole('ADMIN')")
+@AllArgsConstructor
+@Tag(name = "Inventory Ledger", description = "Endpoints for monitoring the in-memory inventory ledger")
+public class InventoryLedgerController {
+
+    private final InventoryLedgerService inventoryLedgerService;
+
+    @Operation(summary = "Get reservation throughput and write-behind statistics")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ledger statistics retrieved")
+    })
+    @GetMapping("/stats")
+    public ResponseEntity<InventoryLedgerStats> getStats() {
+        return ResponseEntity.ok(inventoryLedgerService.getStats());
+    }
+
+    @Operation(summary = "Write pending stock deltas to the database immediately")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Pending deltas flushed")
+    })
+    @PostMapping("/flush")
+    public ResponseEntity<InventoryLedgerStats> flush() {
+        inventoryLedgerService.flush();
+        return ResponseEntity.ok(inventoryLedgerService.getStats());
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.ecommerce_system.controller.rest;
 
+import com.example.ecommerce_system.dto.ApproximateCountDto;
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.SuccessResponseDto;
 import com.example.ecommerce_system.dto.orders.OrderFilter;
 import com.example.ecommerce_system.dto.orders.OrderRequestDto;
 import com.example.ecommerce_system.dto.orders.OrderResponseDto;
 import com.example.ecommerce_system.dto.orders.UpdateOrderRequest;
 import com.example.ecommerce_system.model.OrderStatusType;
+import com.example.ecommerce_system.service.ApproximateCountService;
+import com.example.ecommerce_system.service.ApproximateCountService.CountedTable;
 import com.example.ecommerce_system.service.OrderService;
 import com.example.ecommerce_system.util.handler.SuccessResponseHandler;
 import io.swagger.v3.oas.annotations.Operation;
@@ -31,6 +35,7 @@ import java.util.UUID;
 @PreAuthorize("hasRole('ADMIN')")
 public class OrderAdminController {
     private final OrderService orderService;
+    private final ApproximateCountService approximateCountService;
 
     @Operation(summary = "Retrieve all orders with optional filtering")
     @ApiResponses({
@@ -49,7 +54,65 @@ public class OrderAdminController {
             @RequestParam(required = false) String country,
             @RequestParam(required = false) String city
     ) {
-        OrderFilter filter = OrderFilter.builder()
+        OrderFilter filter = buildFilter(
+                customerId, status, minOrderDate, maxOrderDate, minAmount, maxAmount, country, city);
+
+        List<OrderResponseDto> orders = filter.isEmpty()
+                ? orderService.getAllOrders(limit, offset)
+                : orderService.searchOrders(filter, limit, offset);
+
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, orders);
+    }
+
+    @Operation(summary = "Count orders, approximately on large tables")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Total number of orders and whether it is an estimate")
+    })
+    @GetMapping("/count")
+    public SuccessResponseDto<ApproximateCountDto> countOrders() {
+        var count = approximateCountService.count(CountedTable.ORDERS);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, count);
+    }
+
+    @Operation(summary = "Retrieve orders page by page using a cursor, with optional filtering")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "A page of orders and the cursor of the next page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/cursor")
+    public SuccessResponseDto<CursorPageDto<OrderResponseDto>> getOrdersByCursor(
+            @RequestParam @Min(1) int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) UUID customerId,
+            @RequestParam(required = false) OrderStatusType status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant minOrderDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant maxOrderDate,
+            @RequestParam(required = false) @PositiveOrZero Double minAmount,
+            @RequestParam(required = false) @PositiveOrZero Double maxAmount,
+            @RequestParam(required = false) String country,
+            @RequestParam(required = false) String city
+    ) {
+        OrderFilter filter = buildFilter(
+                customerId, status, minOrderDate, maxOrderDate, minAmount, maxAmount, country, city);
+
+        CursorPageDto<OrderResponseDto> orders = filter.isEmpty()
+                ? orderService.getAllOrdersAfter(cursor, limit)
+                : orderService.searchOrdersAfter(filter, cursor, limit);
+
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, orders);
+    }
+
+    private OrderFilter buildFilter(
+            UUID customerId,
+            OrderStatusType status,
+            Instant minOrderDate,
+            Instant maxOrderDate,
+            Double minAmount,
+            Double maxAmount,
+            String country,
+            String city
+    ) {
+        return OrderFilter.builder()
                 .customerId(customerId)
                 .status(status)
                 .minOrderDate(minOrderDate)
@@ -59,12 +122,6 @@ public class OrderAdminController {
                 .shippingCountry(country)
                 .shippingCity(city)
                 .build();
-
-        List<OrderResponseDto> orders = filter.isEmpty()
-                ? orderService.getAllOrders(limit, offset)
-                : orderService.searchOrders(filter, limit, offset);
-
-        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, orders);
     }
 
     @Operation(summary = "Retrieve a single order by orderId")
@@ -0,0 +1,38 @@
+package com.example.ecommerce_system.controller.rest;
+
+import com.example.ecommerce_system.dto.metrics.MethodTimingSnapshot;
+import com.example.ecommerce_system.service.MethodMetricsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/admin/performance-metrics")
+@PreAuthorize("hasRole('ADMIN')")
+@AllArgsConstructor
+@Tag(name = "Performance Metrics", description = "Endpoints for in-process latency percentiles")
+public class PerformanceMetricsController {
+
+    private final MethodMetricsService methodMetricsService;
+
+    @Operation(summary = "Get p50/p95/p99/p999 latency per controller, service and repository method")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Method timings retrieved")
+    })
+    @GetMapping("/timers")
+    public ResponseEntity<List<MethodTimingSnapshot>> getTimers(
+            @RequestParam(required = false) String layer
+    ) {
+        return ResponseEntity.ok(methodMetricsService.getTimings(layer));
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.ecommerce_system.controller.rest;
 
+import com.example.ecommerce_system.dto.ApproximateCountDto;
 import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.SuccessResponseDto;
 import com.example.ecommerce_system.dto.product.CreateProductRequest;
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
 import com.example.ecommerce_system.dto.product.ProductRequestDto;
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
 import com.example.ecommerce_system.dto.product.UpdateProductRequest;
 import com.example.ecommerce_system.dto.review.ReviewResponseDto;
+import com.example.ecommerce_system.service.ApproximateCountService;
+import com.example.ecommerce_system.service.ApproximateCountService.CountedTable;
 import com.example.ecommerce_system.service.ProductService;
 import com.example.ecommerce_system.service.ReviewService;
 import com.example.ecommerce_system.util.handler.SuccessResponseHandler;
@@ -32,6 +37,7 @@ import java.util.UUID;
 public class ProductAdminController {
     private final ProductService productService;
     private final ReviewService reviewService;
+    private final ApproximateCountService approximateCountService;
 
     @Operation(summary = "Retrieve all products")
     @ApiResponses({
@@ -49,15 +55,7 @@ public class ProductAdminController {
             @RequestParam(required = false) @Min(0) Integer minStock,
             @RequestParam(required = false) @Min(0) Integer maxStock
     ) {
-        ProductFilter filter = ProductFilter.builder()
-                .name(name)
-                .description(description)
-                .categoryId(categoryId)
-                .minPrice(minPrice)
-                .maxPrice(maxPrice)
-                .minStock(minStock)
-                .maxStock(maxStock)
-                .build();
+        ProductFilter filter = toFilter(name, description, categoryId, minPrice, maxPrice, minStock, maxStock);
 
         List<ProductResponseDto> products = filter.isEmpty()
                 ? productService.getAllProducts(limit, offset)
@@ -66,6 +64,49 @@ public class ProductAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, products);
     }
 
+    @Operation(summary = "Count the products matching a filter per category and price bucket")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Product counts per category and per price bucket")
+    })
+    @GetMapping("/facets")
+    public SuccessResponseDto<ProductFacetsDto> getProductFacets(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) String description,
+            @RequestParam(required = false) UUID categoryId,
+            @RequestParam(required = false) @PositiveOrZero Double minPrice,
+            @RequestParam(required = false) @PositiveOrZero Double maxPrice,
+            @RequestParam(required = false) @Min(0) Integer minStock,
+            @RequestParam(required = false) @Min(0) Integer maxStock
+    ) {
+        ProductFilter filter = toFilter(name, description, categoryId, minPrice, maxPrice, minStock, maxStock);
+        var facets = productService.getProductFacets(filter);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, facets);
+    }
+
+    @Operation(summary = "Count products, approximately on large tables")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Total number of products and whether it is an estimate")
+    })
+    @GetMapping("/count")
+    public SuccessResponseDto<ApproximateCountDto> countProducts() {
+        var count = approximateCountService.count(CountedTable.PRODUCT);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, count);
+    }
+
+    @Operation(summary = "Retrieve products page by page using a cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "A page of products and the cursor of the next page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor")
+    })
+    @GetMapping("/cursor")
+    public SuccessResponseDto<CursorPageDto<ProductResponseDto>> getProductsByCursor(
+            @RequestParam @Min(1) int limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        var products = productService.getAllProductsAfter(cursor, limit);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, products);
+    }
+
     @Operation(summary = "Retrieve a single product by productId")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "A single product retrieved"),
@@ -92,6 +133,22 @@ public class ProductAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, product);
     }
 
+    @Operation(summary = "Retrieve a single product's reviews page by page using a cursor")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "A page of reviews and the cursor of the next page"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor"),
+            @ApiResponse(responseCode = "404", description = "Product not found")
+    })
+    @GetMapping("/{id}/reviews/cursor")
+    public SuccessResponseDto<CursorPageDto<ReviewResponseDto>> getProductReviewsByCursor(
+            @PathVariable UUID id,
+            @RequestParam @Min(1) int limit,
+            @RequestParam(required = false) String cursor
+    ) {
+        var reviews = reviewService.getReviewsByProductAfter(id, cursor, limit);
+        return SuccessResponseHandler.generateSuccessResponse(HttpStatus.OK, reviews);
+    }
+
     @Operation(summary = "Create a new product")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Product created"),
@@ -132,4 +189,23 @@ public class ProductAdminController {
         return SuccessResponseHandler.generateSuccessResponse(HttpStatus.NO_CONTENT, null);
     }
 
+    private static ProductFilter toFilter(
+            String name,
+            String description,
+            UUID categoryId,
+            Double minPrice,
+            Double maxPrice,
+            Integer minStock,
+            Integer maxStock
+    ) {
+        return ProductFilter.builder()
+                .name(name)
+                .description(description)
+                .categoryId(categoryId)
+                .minPrice(minPrice)
+                .maxPrice(maxPrice)
+                .minStock(minStock)
+                .maxStock(maxStock)
+                .build();
+    }
 }
@@ -0,0 +1,15 @@
+package com.example.ecommerce_system.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApproximateCountDto {
+    private long total;
+    private boolean approximate;
+}
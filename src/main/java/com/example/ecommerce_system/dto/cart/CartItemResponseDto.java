@@ -16,6 +16,7 @@ import java.util.UUID;
 public class CartItemResponseDto {
     private UUID cartItemId;
     private UUID cartId;
+    private UUID productId;
     private ProductResponseDto product;
     private Integer quantity;
     private Instant addedAt;
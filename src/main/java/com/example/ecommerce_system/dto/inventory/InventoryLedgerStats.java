@@ -0,0 +1,28 @@
+package com.example.ecommerce_system.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventoryLedgerStats {
+    private boolean enabled;
+    private int trackedProducts;
+    private long reservations;
+    private long rejectedReservations;
+    private long reservedUnits;
+    private long releasedUnits;
+    private double reservationsPerSecond;
+    private int pendingProducts;
+    private long flushCount;
+    private long failedFlushes;
+    private long flushedRows;
+    private LocalDateTime lastFlushAt;
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,23 @@
+package com.example.ecommerce_system.dto.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MethodTimingSnapshot {
+    private String layer;
+    private String className;
+    private String method;
+    private long count;
+    private double meanMs;
+    private double maxMs;
+    private double p50Ms;
+    private double p95Ms;
+    private double p99Ms;
+    private double p999Ms;
+}
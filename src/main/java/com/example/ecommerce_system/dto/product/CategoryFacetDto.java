@@ -0,0 +1,17 @@
+package com.example.ecommerce_system.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryFacetDto {
+    private UUID categoryId;
+    private long count;
+}
@@ -0,0 +1,18 @@
+package com.example.ecommerce_system.dto.product;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PriceBucketFacetDto {
+    private Double minPrice;
+    private Double maxPrice;
+    private long count;
+}
@@ -0,0 +1,18 @@
+package com.example.ecommerce_system.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductFacetsDto {
+    private long total;
+    private List<CategoryFacetDto> categories;
+    private List<PriceBucketFacetDto> priceBuckets;
+}
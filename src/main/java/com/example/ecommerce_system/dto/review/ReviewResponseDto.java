@@ -16,6 +16,7 @@ import java.util.UUID;
 public class ReviewResponseDto {
     private UUID reviewId;
     private UUID productId;
+    private UUID customerId;
     private CustomerResponseDto customer;
     private Integer rating;
     private String comment;
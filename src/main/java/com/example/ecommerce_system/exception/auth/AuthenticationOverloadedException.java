@@ -0,0 +1,7 @@
+package com.example.ecommerce_system.exception.auth;
+
+public class AuthenticationOverloadedException extends RuntimeException {
+    public AuthenticationOverloadedException() {
+        super("Too many authentication requests, please retry shortly.");
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.ecommerce_system.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable user and role projection used as the principal of a password
+ * login. It is cached by {@code CustomUserDetailsService} and handed back by
+ * the authentication manager, so login can issue a token without loading the
+ * user a second time. It deliberately does not implement
+ * {@code CredentialsContainer}: erasing credentials after authentication must
+ * not clear the password hash of the cached instance.
+ */
+@Getter
+@AllArgsConstructor
+public class AuthenticatedUser implements UserDetails {
+    private final UUID userId;
+    private final String email;
+    private final String passwordHash;
+    private final UUID roleId;
+    private final RoleType roleName;
+    private final Instant createdAt;
+
+    public static AuthenticatedUser from(User user) {
+        Role role = user.getRole();
+        return new AuthenticatedUser(
+                user.getUserId(),
+                user.getEmail(),
+                user.getPasswordHash(),
+                role.getRoleId(),
+                role.getRoleName(),
+                user.getCreatedAt()
+        );
+    }
+
+    /**
+     * Detached {@link User} carrying the projected fields, for token
+     * generation and response mapping. It is not attached to any persistence
+     * context and must not be saved.
+     */
+    public User toUser() {
+        return User.builder()
+                .userId(userId)
+                .email(email)
+                .passwordHash(passwordHash)
+                .role(Role.builder().roleId(roleId).roleName(roleName).build())
+                .createdAt(createdAt)
+                .build();
+    }
+
+    @Override
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return List.of(new SimpleGrantedAuthority("ROLE_" + roleName.name()));
+    }
+
+    @Override
+    public String getPassword() {
+        return passwordHash;
+    }
+
+    @Override
+    public String getUsername() {
+        return email;
+    }
+}
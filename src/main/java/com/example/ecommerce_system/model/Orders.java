@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.BatchSize;
 
 import java.time.Instant;
 import java.util.List;
@@ -46,6 +47,10 @@ public class Orders {
     @Column(name = "shipping_postal_code")
     private String shippingPostalCode;
 
+    @Column(name = "stock_reserved")
+    private boolean stockReserved;
+
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<OrderItem> orderItems;
 }
@@ -1,9 +1,10 @@
 package com.example.ecommerce_system.repository;
 
 import com.example.ecommerce_system.model.Customer;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,11 +13,11 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface CustomerRepository extends JpaRepository<Customer, UUID> {
+public interface CustomerRepository extends JpaRepository<Customer, UUID>, JpaSpecificationExecutor<Customer>, SliceRepository<Customer> {
     Optional<Customer> findCustomerByUser_UserId(UUID userId);
 
     @Query("SELECT c FROM Customer c WHERE " +
            "LOWER(c.firstName) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
            "LOWER(c.lastName) LIKE LOWER(CONCAT('%', :query, '%'))")
-    Page<Customer> searchCustomersByName(@Param("query") String query, Pageable pageable);
+    Slice<Customer> searchCustomersByName(@Param("query") String query, Pageable pageable);
 }
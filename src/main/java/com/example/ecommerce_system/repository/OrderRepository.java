@@ -2,6 +2,9 @@ package com.example.ecommerce_system.repository;
 
 import com.example.ecommerce_system.model.Orders;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -12,8 +15,21 @@ import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Orders, UUID>, JpaSpecificationExecutor<Orders> {
+public interface OrderRepository extends JpaRepository<Orders, UUID>, JpaSpecificationExecutor<Orders>, SliceRepository<Orders> {
 
+    /**
+     * Order listings load the status in the same select; line items are then
+     * initialised for the whole page at once through batch fetching.
+     */
+    @Override
+    @EntityGraph(attributePaths = "status")
+    Slice<Orders> findSlice(Pageable pageable);
+
+    @Override
+    @EntityGraph(attributePaths = "status")
+    Slice<Orders> findSlice(Specification<Orders> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = "status")
     List<Orders> findAllByCustomer_CustomerId(UUID customerId, Pageable pageable);
 
     @Query("SELECT COUNT(o) > 0 FROM Orders o JOIN o.orderItems oi WHERE o.customer.customerId = :customerId AND oi.product.productId = :productId AND o.status.statusName = 'PROCESSED'")
@@ -0,0 +1,33 @@
+package com.example.ecommerce_system.repository;
+
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.util.PriceBuckets;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+public interface ProductSearchRepository {
+
+    /**
+     * Whether {@link #searchFullText} can be used: the database is PostgreSQL,
+     * where {@code product.search_vector} and its GIN index exist, and
+     * {@code product.search.full-text.enabled} is set.
+     */
+    boolean isFullTextSearchAvailable();
+
+    /**
+     * Products whose name and description words match the filter text by
+     * prefix, narrowed by the filter's category, price and stock ranges and
+     * ordered by relevance ({@code ts_rank}), then by product id.
+     */
+    List<Product> searchFullText(ProductFilter filter, Pageable pageable);
+
+    /**
+     * Per-category and per-price-bucket counts of the products matching the
+     * filter, from one grouped query. Text is matched through the full-text
+     * index when it is available and by substring otherwise.
+     */
+    ProductFacetsDto countFacets(ProductFilter filter, PriceBuckets priceBuckets);
+}
@@ -0,0 +1,146 @@
+package com.example.ecommerce_system.repository;
+
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.util.PriceBuckets;
+import com.example.ecommerce_system.util.ProductFacetCounter;
+import com.example.ecommerce_system.util.ProductSearchQuery;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Full-text product search on PostgreSQL. {@code search_vector} is a stored
+ * generated column, so the database keeps it current on every insert and
+ * update, and the GIN index answers the match without scanning the table.
+ * Both the column and the query use the 'simple' configuration, which only
+ * lower-cases words, so the database matches exactly the words the
+ * in-memory index does. Results are ranked by {@code ts_rank}, ties broken
+ * by product id, which the index reproduces.
+ */
+public class ProductSearchRepositoryImpl implements ProductSearchRepository {
+
+    private static final String COLUMNS = """
+            p.product_id, p.name, p.description, p.price, p.stock_quantity,
+            p.version, p.category_id, p.created_at, p.updated_at
+            """;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final boolean enabled;
+    private volatile Boolean postgres;
+
+    public ProductSearchRepositoryImpl(@Value("${product.search.full-text.enabled:true}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isFullTextSearchAvailable() {
+        if (!enabled) return false;
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Product> searchFullText(ProductFilter filter, Pageable pageable) {
+        String tsQuery = ProductSearchQuery.toTsQuery(filter)
+                .orElseThrow(() -> new IllegalArgumentException("Filter has no search text"));
+
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("query", tsQuery);
+
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append("""
+                FROM product p, to_tsquery('simple', :query) q
+                WHERE p.search_vector @@ q
+                """);
+        appendRanges(sql, parameters, filter);
+        sql.append(" ORDER BY ts_rank(p.search_vector, q) DESC, p.product_id LIMIT :limit OFFSET :offset");
+        parameters.put("limit", pageable.getPageSize());
+        parameters.put("offset", pageable.getOffset());
+
+        Query query = entityManager.createNativeQuery(sql.toString(), Product.class);
+        parameters.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    /**
+     * Groups the matching products by category and price bucket; the facet
+     * counter sums those groups up into each facet. The number of groups is
+     * bounded by categories times buckets, however many products match.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ProductFacetsDto countFacets(ProductFilter filter, PriceBuckets priceBuckets) {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT p.category_id, ")
+                .append(priceBuckets.toSqlCase("p.price"))
+                .append(" AS price_bucket FROM product p WHERE 1 = 1");
+
+        Optional<String> tsQuery = ProductSearchQuery.toTsQuery(filter);
+        if (tsQuery.isPresent() && isFullTextSearchAvailable()) {
+            sql.append(" AND p.search_vector @@ to_tsquery('simple', :query)");
+            parameters.put("query", tsQuery.get());
+        } else {
+            if (filter.hasName()) {
+                sql.append(" AND LOWER(p.name) LIKE :name");
+                parameters.put("name", "%" + filter.getName().toLowerCase() + "%");
+            }
+            if (filter.hasDescription()) {
+                sql.append(" AND LOWER(p.description) LIKE :description");
+                parameters.put("description", "%" + filter.getDescription().toLowerCase() + "%");
+            }
+        }
+        appendRanges(sql, parameters, filter);
+
+        String grouped = "SELECT f.category_id, f.price_bucket, COUNT(*) FROM (" + sql
+                + ") f GROUP BY f.category_id, f.price_bucket";
+        Query query = entityManager.createNativeQuery(grouped);
+        parameters.forEach(query::setParameter);
+
+        ProductFacetCounter counter = new ProductFacetCounter(priceBuckets);
+        for (Object[] row : (List<Object[]>) query.getResultList())
+            counter.add((UUID) row[0], ((Number) row[1]).intValue(), ((Number) row[2]).longValue());
+        return counter.toDto();
+    }
+
+    private static void appendRanges(StringBuilder sql, Map<String, Object> parameters, ProductFilter filter) {
+        if (filter.hasCategoryId()) {
+            sql.append(" AND p.category_id = :categoryId");
+            parameters.put("categoryId", filter.getCategoryId());
+        }
+        if (filter.hasMinPrice()) {
+            sql.append(" AND p.price >= :minPrice");
+            parameters.put("minPrice", filter.getMinPrice());
+        }
+        if (filter.hasMaxPrice()) {
+            sql.append(" AND p.price <= :maxPrice");
+            parameters.put("maxPrice", filter.getMaxPrice());
+        }
+        if (filter.hasMinStock()) {
+            sql.append(" AND p.stock_quantity >= :minStock");
+            parameters.put("minStock", filter.getMinStock());
+        }
+        if (filter.hasMaxStock()) {
+            sql.append(" AND p.stock_quantity <= :maxStock");
+            parameters.put("maxStock", filter.getMaxStock());
+        }
+    }
+}
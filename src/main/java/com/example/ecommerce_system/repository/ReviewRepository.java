@@ -1,17 +1,43 @@
 package com.example.ecommerce_system.repository;
 
 import com.example.ecommerce_system.model.Review;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Repository
-public interface ReviewRepository extends JpaRepository<Review, UUID> {
+public interface ReviewRepository extends JpaRepository<Review, UUID>, JpaSpecificationExecutor<Review> {
 
-    Page<Review> findAllByProduct_ProductId(UUID productId, Pageable pageable);
+    Slice<Review> findAllByProduct_ProductId(UUID productId, Pageable pageable);
 
-    Page<Review> findAllByCustomer_CustomerId(UUID customerId, Pageable pageable);
+    Slice<Review> findAllByCustomer_CustomerId(UUID customerId, Pageable pageable);
+
+    /**
+     * Newest reviewLimit reviews of each given product, ranked per product
+     * with ROW_NUMBER so the limit applies to every product independently.
+     */
+    @Query(value = """
+        SELECT ranked.review_id, ranked.product_id, ranked.customer_id,
+               ranked.rating, ranked.comment, ranked.created_at
+        FROM (
+            SELECT r.*,
+                   ROW_NUMBER() OVER (PARTITION BY r.product_id ORDER BY r.created_at DESC, r.review_id DESC) AS review_rank
+            FROM review r
+            WHERE r.product_id IN (:productIds)
+        ) ranked
+        WHERE ranked.review_rank <= :reviewLimit
+        ORDER BY ranked.product_id, ranked.review_rank
+        """, nativeQuery = true)
+    List<Review> findTopReviewsByProductIds(
+            @Param("productIds") Collection<UUID> productIds,
+            @Param("reviewLimit") int reviewLimit
+    );
 }
@@ -0,0 +1,56 @@
+package com.example.ecommerce_system.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.convert.QueryByExamplePredicateBuilder;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+
+import java.util.List;
+
+/**
+ * Repository base class adding {@link SliceRepository}. Queries are built by
+ * {@link SimpleJpaRepository}, so sorting and entity graphs declared on the
+ * repository methods apply as they do for {@code findAll}.
+ */
+public class SliceJpaRepositoryImpl<T, ID> extends SimpleJpaRepository<T, ID> implements SliceRepository<T> {
+
+    public SliceJpaRepositoryImpl(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+    }
+
+    @Override
+    public Slice<T> findSlice(Pageable pageable) {
+        return toSlice(getQuery(null, pageable), pageable);
+    }
+
+    @Override
+    public Slice<T> findSlice(Specification<T> spec, Pageable pageable) {
+        return toSlice(getQuery(spec, pageable), pageable);
+    }
+
+    @Override
+    public <S extends T> Slice<S> findSlice(Example<S> example, Pageable pageable) {
+        Specification<S> spec = (root, query, cb) ->
+                QueryByExamplePredicateBuilder.getPredicate(root, cb, example, EscapeCharacter.DEFAULT);
+        return toSlice(getQuery(spec, example.getProbeType(), pageable), pageable);
+    }
+
+    private static <S> Slice<S> toSlice(TypedQuery<S> query, Pageable pageable) {
+        if (pageable.isUnpaged()) return new SliceImpl<>(query.getResultList());
+
+        query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        query.setMaxResults(pageable.getPageSize() + 1);
+        List<S> rows = query.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<S> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.ecommerce_system.repository;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Offset pages without the {@code COUNT} query that {@code Page} results run.
+ * One row more than the page size is fetched to tell whether a next page
+ * exists. Implemented for every repository by {@link SliceJpaRepositoryImpl}.
+ */
+@NoRepositoryBean
+public interface SliceRepository<T> {
+
+    Slice<T> findSlice(Pageable pageable);
+
+    Slice<T> findSlice(Specification<T> spec, Pageable pageable);
+
+    <S extends T> Slice<S> findSlice(Example<S> example, Pageable pageable);
+}
@@ -1,6 +1,7 @@
 package com.example.ecommerce_system.repository;
 
 import com.example.ecommerce_system.model.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +11,7 @@ import java.util.UUID;
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findUserByEmail(String email);
+
+    @EntityGraph(attributePaths = "role")
+    Optional<User> findWithRoleByEmail(String email);
 }
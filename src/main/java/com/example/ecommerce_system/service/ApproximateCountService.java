@@ -0,0 +1,59 @@
+package com.example.ecommerce_system.service;
+
+import com.example.ecommerce_system.dto.ApproximateCountDto;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Total row counts for clients that want one next to a list page, which no
+ * longer counts its rows. On PostgreSQL the planner's estimate in
+ * {@code pg_class.reltuples} is read instead of scanning the table; it is
+ * kept current by autovacuum and ANALYZE. Tables that have never been
+ * analyzed, and other databases, fall back to an exact {@code COUNT(*)}.
+ */
+@Service
+public class ApproximateCountService {
+
+    private static final String ESTIMATE_SQL = "SELECT reltuples::bigint FROM pg_class WHERE oid = to_regclass(?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean postgres;
+
+    public ApproximateCountService(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public enum CountedTable {
+        PRODUCT("product"),
+        ORDERS("orders"),
+        CUSTOMER("customer"),
+        CATEGORY("category");
+
+        private final String tableName;
+
+        CountedTable(String tableName) {
+            this.tableName = tableName;
+        }
+    }
+
+    @Cacheable(value = "row_estimates", key = "#table")
+    public ApproximateCountDto count(CountedTable table) {
+        if (isPostgres()) {
+            Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class, table.tableName);
+            if (estimate != null && estimate > 0) return new ApproximateCountDto(estimate, true);
+        }
+
+        Long exact = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table.tableName, Long.class);
+        return new ApproximateCountDto(exact != null ? exact : 0, false);
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                    "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName()));
+        }
+        return Boolean.TRUE.equals(postgres);
+    }
+}
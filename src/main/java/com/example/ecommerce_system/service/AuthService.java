@@ -6,7 +6,7 @@ import com.example.ecommerce_system.dto.auth.SignupRequestDto;
 import com.example.ecommerce_system.exception.auth.DuplicateEmailException;
 import com.example.ecommerce_system.exception.auth.InvalidCredentialsException;
 import com.example.ecommerce_system.exception.auth.UserNotFoundException;
-import com.example.ecommerce_system.exception.auth.WeakPasswordException;
+import com.example.ecommerce_system.model.AuthenticatedUser;
 import com.example.ecommerce_system.model.Customer;
 import com.example.ecommerce_system.model.Role;
 import com.example.ecommerce_system.model.RoleType;
@@ -14,13 +14,15 @@ import com.example.ecommerce_system.model.User;
 import com.example.ecommerce_system.repository.CustomerRepository;
 import com.example.ecommerce_system.repository.RoleRepository;
 import com.example.ecommerce_system.repository.UserRepository;
+import com.example.ecommerce_system.util.PasswordPolicy;
 import com.example.ecommerce_system.util.mapper.AuthMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -37,20 +39,21 @@ public class AuthService {
     private final CustomerRepository customerRepository;
     private final RoleRepository roleRepository;
 
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordEncoder passwordEncoder;
     private final AuthMapper authMapper;
     private final JwtTokenService jwtTokenService;
     private final AuthenticationManager authenticationManager;
     private final TokenBlacklistService tokenBlacklistService;
+    private final PasswordPolicy passwordPolicy;
 
     /**
      * Register a new user with the provided credentials.
-     * Validates password strength, checks for duplicate email, hashes the password, and persists the user.
+     * Validates password strength against the password policy, checks for duplicate email, hashes the password, and persists the user.
      * Also creates a customer record for the new user.
      */
     @Transactional
     public AuthResponseDto signup(SignupRequestDto request) {
-        validatePassword(request.getPassword());
+        passwordPolicy.validate(request.getPassword());
 
         Optional<User> existingUser = userRepository.findUserByEmail(request.getEmail());
         if (existingUser.isPresent())
@@ -94,8 +97,9 @@ public class AuthService {
      * Verifies credentials and returns user details if valid.
      */
     public AuthResponseDto login(LoginRequestDto request) {
+        Authentication authentication;
         try {
-            authenticationManager.authenticate(
+            authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(request.getEmail(), request.getPassword())
             );
         } catch (AuthenticationException e) {
@@ -103,13 +107,24 @@ public class AuthService {
             throw new InvalidCredentialsException();
         }
 
-        User user = userRepository.findUserByEmail(request.getEmail())
-                .orElseThrow(() -> new UserNotFoundException(request.getEmail()));
+        User user = resolveAuthenticatedUser(authentication, request.getEmail());
 
         String token = generateJwtToken(user);
         return authMapper.toDTO(user, token);
     }
 
+    /**
+     * Reuse the user loaded by the authentication provider when it is available,
+     * falling back to a lookup for providers that return another principal type.
+     */
+    private User resolveAuthenticatedUser(Authentication authentication, String email) {
+        if (authentication != null && authentication.getPrincipal() instanceof AuthenticatedUser principal)
+            return principal.toUser();
+
+        return userRepository.findUserByEmail(email)
+                .orElseThrow(() -> new UserNotFoundException(email));
+    }
+
     private String generateJwtToken(User user) {
         return jwtTokenService.generateToken(user);
     }
@@ -156,26 +171,4 @@ public class AuthService {
             log.debug("Logout error: {}", e.getMessage());
         }
     }
-
-    private void validatePassword(String password) {
-        if (password == null || password.length() < 8) {
-            throw new WeakPasswordException("Password must be at least 8 characters long.");
-        }
-
-        if (!password.matches(".*[A-Z].*")) {
-            throw new WeakPasswordException("Password must contain at least one uppercase letter.");
-        }
-
-        if (!password.matches(".*[a-z].*")) {
-            throw new WeakPasswordException("Password must contain at least one lowercase letter.");
-        }
-
-        if (!password.matches(".*\\d.*")) {
-            throw new WeakPasswordException("Password must contain at least one digit.");
-        }
-
-        if (!password.matches(".*[!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?].*")) {
-            throw new WeakPasswordException("Password must contain at least one special character.");
-        }
-    }
 }
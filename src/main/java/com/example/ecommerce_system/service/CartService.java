@@ -20,6 +20,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -43,7 +44,7 @@ public class CartService {
 
         var product = retrieveProductFromRepository(request.getProductId());
 
-        var cart = getOrCreateCartForCustomer(customer.getCustomerId());
+        var cart = getOrCreateCartForCustomer(customer);
 
         CartItem cartItem = CartItem.builder()
                 .cartItemId(UUID.randomUUID())
@@ -70,15 +71,14 @@ public class CartService {
         );
     }
 
-    private Cart getOrCreateCartForCustomer(UUID customerId) {
-        Optional<Cart> existingCart = cartRepository.findCartByCustomer_CustomerId(customerId);
+    private Cart getOrCreateCartForCustomer(Customer customer) {
+        Optional<Cart> existingCart = cartRepository.findCartByCustomer_CustomerId(customer.getCustomerId());
         if (existingCart.isPresent()) return existingCart.get();
 
-        var customer = retrieveCustomerFromRepository(customerId);
-
         Cart newCart = Cart.builder()
                 .cartId(UUID.randomUUID())
                 .customer(customer)
+                .cartItems(new ArrayList<>())
                 .createdAt(Instant.now())
                 .updatedAt(Instant.now())
                 .build();
@@ -131,15 +131,25 @@ public class CartService {
      * Returns an empty list if the customer has no cart. Each cart item includes full product details.
      */
     public List<CartItemResponseDto> getCartItemsByCustomer(UUID userId) {
-        var customer = retrieveCustomerFromRepository(userId);
+        return cartItemMapper.toDTOList(retrieveCartItems(userId));
+    }
 
-        Optional<Cart> cartOpt = cartRepository.findCartByCustomer_CustomerId(customer.getCustomerId());
+    /**
+     * Retrieve all cart items for a customer with only the product id of each item.
+     * The products themselves are not loaded, so callers can resolve them in one batch when needed.
+     */
+    public List<CartItemResponseDto> getCartItemSummariesByCustomer(UUID userId) {
+        return retrieveCartItems(userId).stream()
+                .map(cartItemMapper::toSummaryDTO)
+                .toList();
+    }
 
-        if (cartOpt.isEmpty()) return List.of();
+    private List<CartItem> retrieveCartItems(UUID userId) {
+        var customer = retrieveCustomerFromRepository(userId);
 
-        List<CartItem> cartItems = cartOpt.get().getCartItems();
+        Optional<Cart> cartOpt = cartRepository.findCartByCustomer_CustomerId(customer.getCustomerId());
 
-        return cartItemMapper.toDTOList(cartItems);
+        return cartOpt.map(Cart::getCartItems).orElse(List.of());
     }
 
 }
@@ -11,6 +11,7 @@ import com.example.ecommerce_system.util.mapper.CategoryMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.PageRequest;
@@ -18,9 +19,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @AllArgsConstructor
 @Service
@@ -33,7 +37,7 @@ public class CategoryService {
      * Create a new category with the provided name and description.
      * Validates that no category with the same name already exists before creation.
      */
-    @CacheEvict(value = {"categories", "paginated"}, allEntries = true)
+    @CacheEvict(value = "paginated", key = "'categories'")
     public CategoryResponseDto createCategory(CategoryRequestDto request) {
         Optional<Category> existing = categoryRepository.findCategoryByName(request.getName());
         if (existing.isPresent()) throw new DuplicateCategoryException(request.getName());
@@ -52,7 +56,10 @@ public class CategoryService {
      * Update the category identified by the given ID with new values.
      * Validates that the category exists and the new name doesn't conflict with existing categories.
      */
-    @CacheEvict(value = {"categories", "paginated"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "categories", allEntries = true),
+            @CacheEvict(value = "paginated", key = "{'categories', 'products'}")
+    })
     @Transactional
     public CategoryResponseDto updateCategory(UUID id, CategoryRequestDto request) {
         Category existingOption = categoryRepository.findById(id)
@@ -87,7 +94,7 @@ public class CategoryService {
     /**
      * Search for a category with name or description containing query.
      */
-    @Cacheable(value = "paginated", key = "'search_categories_' + #filter.toString() + '_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'categories::search_' + #filter.toString() + '_' + #limit + '_' + #offset")
     public List<CategoryResponseDto> getCategories(CategoryFilter filter, int limit, int offset) {
         Category probe = Category.builder()
                 .name(filter.getName())
@@ -99,24 +106,37 @@ public class CategoryService {
                 .withIgnoreCase()
                 .withStringMatcher(ExampleMatcher.StringMatcher.CONTAINING);
 
-        List<Category> categories = categoryRepository.findAll(
+        List<Category> categories = categoryRepository.findSlice(
                 Example.of(probe, matcher),
                 PageRequest.of(offset, limit)
         ).getContent();
         return mapper.toDTOList(categories);
     }
 
-    @Cacheable(value = "paginated", key = "'all_categories_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'categories::all_' + #limit + '_' + #offset")
     public List<CategoryResponseDto> getAllCategories(int limit, int offset) {
-        List<Category> categories = categoryRepository.findAll(PageRequest.of(offset, limit)).getContent();
+        List<Category> categories = categoryRepository.findSlice(PageRequest.of(offset, limit)).getContent();
         return mapper.toDTOList(categories);
     }
 
+    /**
+     * Retrieve the given categories in a single query, keyed by id.
+     */
+    public Map<UUID, CategoryResponseDto> getCategoriesByIds(Collection<UUID> ids) {
+        if (ids.isEmpty()) return Map.of();
+
+        return categoryRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Category::getCategoryId, mapper::toDTO));
+    }
+
     /**
      * Delete a category by ID.
      * Validates that the category exists before deletion.
      */
-    @CacheEvict(value = {"categories", "paginated"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "categories", allEntries = true),
+            @CacheEvict(value = "paginated", key = "{'categories', 'products'}")
+    })
     public void deleteCategory(UUID id) {
         categoryRepository.findById(id).orElseThrow(() -> new CategoryNotFoundException(id.toString()));
         categoryRepository.deleteById(id);
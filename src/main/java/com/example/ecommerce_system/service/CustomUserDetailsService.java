@@ -1,37 +1,29 @@
 package com.example.ecommerce_system.service;
 
-import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.model.AuthenticatedUser;
 import com.example.ecommerce_system.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
-import java.util.Collections;
-
 @RequiredArgsConstructor
 @Service
 public class CustomUserDetailsService implements UserDetailsService {
 
     private final UserRepository userRepository;
 
+    /**
+     * Load the user and role in a single query and cache the projection by email.
+     * The projection is returned as the authenticated principal, so login reuses it
+     * instead of querying again.
+     */
     @Override
-    public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findUserByEmail(email)
+    @Cacheable(value = "user_principals", key = "#email")
+    public AuthenticatedUser loadUserByUsername(String email) throws UsernameNotFoundException {
+        return userRepository.findWithRoleByEmail(email)
+                .map(AuthenticatedUser::from)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found: " + email));
-
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPasswordHash())
-                .authorities(Collections.singleton(
-                        new SimpleGrantedAuthority("ROLE_" + user.getRole().getRoleName().name())
-                ))
-                .accountLocked(false)
-                .accountExpired(false)
-                .credentialsExpired(false)
-                .disabled(false)
-                .build();
     }
 }
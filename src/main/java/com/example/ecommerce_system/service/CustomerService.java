@@ -1,20 +1,27 @@
 package com.example.ecommerce_system.service;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.customer.CustomerRequestDto;
 import com.example.ecommerce_system.dto.customer.CustomerResponseDto;
 import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
 import com.example.ecommerce_system.model.Customer;
 import com.example.ecommerce_system.repository.CustomerRepository;
+import com.example.ecommerce_system.util.KeysetCursor;
+import com.example.ecommerce_system.util.KeysetPagination;
 import com.example.ecommerce_system.util.mapper.CustomerMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -39,20 +46,50 @@ public class CustomerService {
      * Results are cached based on limit and offset parameters.
      * Uses zero-based page indexing where offset represents the page number.
      */
-    @Cacheable(value = "paginated", key = "'all_customers_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'customers::all_' + #limit + '_' + #offset")
     public List<CustomerResponseDto> getAllCustomers(int limit, int offset) {
         List<Customer> customers = customerRepository
-                .findAll(PageRequest.of(offset, limit))
+                .findSlice(PageRequest.of(offset, limit))
                 .getContent();
         return customerMapper.toDTOList(customers);
     }
 
+    /**
+     * Retrieves customers in id order, continuing after the given cursor.
+     * Customers carry no timestamp, so the primary key alone is the seek key.
+     */
+    @Cacheable(value = "paginated", key = "'customers::after_' + #cursor + '_' + #limit")
+    public CursorPageDto<CustomerResponseDto> getAllCustomersAfter(String cursor, int limit) {
+        int fetchSize = KeysetPagination.fetchSize(limit);
+        List<Customer> customers = customerRepository.findBy(
+                KeysetPagination.<Customer>after(cursor, null, "customerId"),
+                query -> query.sortBy(KeysetPagination.sort(null, "customerId")).limit(fetchSize).all()
+        );
+        return KeysetPagination.toPage(
+                customers,
+                limit,
+                customer -> new KeysetCursor(null, customer.getCustomerId()),
+                customerMapper::toDTOList
+        );
+    }
+
+    /**
+     * Retrieves the given customers in a single query, keyed by id.
+     * Used to resolve the customers of a whole page of reviews at once.
+     */
+    public Map<UUID, CustomerResponseDto> getCustomersByIds(Collection<UUID> customerIds) {
+        if (customerIds.isEmpty()) return Map.of();
+
+        return customerRepository.findAllById(customerIds).stream()
+                .collect(Collectors.toMap(Customer::getCustomerId, customerMapper::toDTO));
+    }
+
     /**
      * Searches for customers by query string matching first name, last name, or email.
      * Results are cached based on the search query and pagination parameters.
      * The search is case-insensitive and supports partial matching.
      */
-    @Cacheable(value = "paginated", key = "'search_customers_' + #query + '_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'customers::search_' + #query + '_' + #limit + '_' + #offset")
     public List<CustomerResponseDto> searchCustomers(String query, int limit, int offset) {
         List<Customer> customers = customerRepository
                 .searchCustomersByName(query, PageRequest.of(offset, limit))
@@ -63,10 +100,13 @@ public class CustomerService {
     /**
      * Updates a customer's phone number and active status.
      * Only updates fields that are provided in the request (non-null values).
-     * This operation evicts all customer-related caches to maintain data consistency.
+     * Evicts the cached customer and the cached customer pages, leaving other pages intact.
      * Changes are persisted automatically due to the transactional context.
      */
-    @CacheEvict(value = {"customers", "paginated"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "customers", key = "#customerId"),
+            @CacheEvict(value = "paginated", key = "'customers'")
+    })
     @Transactional
     public CustomerResponseDto updateCustomer(UUID customerId, CustomerRequestDto request) {
         Customer existing = customerRepository.findById(customerId)
@@ -0,0 +1,92 @@
+package com.example.ecommerce_system.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Single-node revocation store that appends to a local file. Revocations
+ * survive a restart of this node but are not seen by other nodes.
+ * Without a file configured revocations are kept in memory only.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "jwt.blacklist.store", havingValue = "file", matchIfMissing = true)
+public class FileTokenRevocationStore implements TokenRevocationStore {
+
+    private final Path file;
+    private boolean loaded;
+
+    public FileTokenRevocationStore(@Value("${jwt.blacklist.file:}") String file) {
+        this.file = file.isBlank() ? null : Path.of(file);
+    }
+
+    @Override
+    public synchronized void revoke(String jti, Instant expiresAt) {
+        if (file == null) return;
+
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) Files.createDirectories(parent);
+            Files.writeString(file, jti + "," + expiresAt.toEpochMilli() + ";\n", StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            log.warn("Unable to persist revocation of token {}, it will not survive a restart: {}",
+                    jti, e.getMessage());
+        }
+    }
+
+    /**
+     * Nothing else writes to the file, so only the first call has anything to return.
+     */
+    @Override
+    public synchronized List<Revocation> fetchNew() {
+        if (loaded) return List.of();
+        loaded = true;
+        return compact();
+    }
+
+    @Override
+    public synchronized void pruneExpired() {
+        compact();
+    }
+
+    /**
+     * Rewrites the file without expired revocations and returns the rest.
+     */
+    private List<Revocation> compact() {
+        if (file == null || !Files.exists(file)) return List.of();
+
+        Instant now = Instant.now();
+        List<Revocation> active = new ArrayList<>();
+        List<String> lines = new ArrayList<>();
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                int separator = line.lastIndexOf(',');
+                // A torn final record from a crash mid-write is ignored
+                if (separator < 0 || !line.endsWith(";")) continue;
+
+                Instant expiresAt = Instant.ofEpochMilli(
+                        Long.parseLong(line.substring(separator + 1, line.length() - 1)));
+                if (!expiresAt.isAfter(now)) continue;
+
+                active.add(new Revocation(line.substring(0, separator), expiresAt));
+                lines.add(line);
+            }
+            Files.write(file, lines, StandardCharsets.UTF_8);
+        } catch (IOException | NumberFormatException e) {
+            log.warn("Unable to read token revocations from {}: {}", file, e.getMessage());
+        }
+        return active;
+    }
+}
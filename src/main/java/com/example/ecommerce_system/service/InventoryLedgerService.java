@@ -0,0 +1,396 @@
+package com.example.ecommerce_system.service;
+
+import com.example.ecommerce_system.dto.inventory.InventoryLedgerStats;
+import com.example.ecommerce_system.exception.product.InsufficientProductStock;
+import com.example.ecommerce_system.exception.product.ProductNotFoundException;
+import com.example.ecommerce_system.util.InventoryJournal;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Optional in-memory inventory engine for hot products.
+ * Available stock is kept per product in CAS counters so reservations never
+ * wait on the product row. Every reservation is journaled to disk once its
+ * transaction commits, and the accumulated net deltas are written back to
+ * the product table in periodic batches. Enabled with inventory.ledger.enabled.
+ *
+ * <p>A reservation whose transaction never commits is never journaled, so a
+ * crash cannot replay stock taken for an order that does not exist. A crash
+ * between the commit and the journal write loses that reservation's
+ * deduction instead.
+ *
+ * <p>The counters are owned by the node that loaded them, so the ledger is
+ * only safe on a single node: with several nodes each would sell the same
+ * units, and the unguarded flush would write the oversell as negative stock.
+ */
+@Slf4j
+@Service
+public class InventoryLedgerService {
+
+    private static final String APPLY_DELTA_SQL = """
+            UPDATE product
+            SET stock_quantity = stock_quantity - ?, version = version + 1, updated_at = now()
+            WHERE product_id = ?
+            """;
+    private static final String RECORD_SEGMENT_SQL =
+            "INSERT INTO inventory_ledger_segment (segment_name, applied_at) VALUES (?, now())";
+    private static final String SEGMENT_APPLIED_SQL =
+            "SELECT COUNT(*) FROM inventory_ledger_segment WHERE segment_name = ?";
+    private static final String LOAD_STOCK_SQL =
+            "SELECT stock_quantity FROM product WHERE product_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final InventoryJournal journal;
+
+    private final Map<UUID, AtomicInteger> available = new ConcurrentHashMap<>();
+    private final Map<UUID, AtomicInteger> pendingDeltas = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> uncommittedDeltas = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+    private volatile FlushBatch inFlight;
+
+    private final LongAdder reservations = new LongAdder();
+    private final LongAdder rejectedReservations = new LongAdder();
+    private final LongAdder reservedUnits = new LongAdder();
+    private final LongAdder releasedUnits = new LongAdder();
+    private final AtomicLong flushCount = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private final AtomicLong flushedRows = new AtomicLong();
+    private final long startedAtNanos = System.nanoTime();
+    private volatile LocalDateTime lastFlushAt;
+
+    public InventoryLedgerService(
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            @Value("${inventory.ledger.enabled:false}") boolean enabled,
+            @Value("${inventory.ledger.journal-directory:data/inventory-journal}") String journalDirectory,
+            @Value("${inventory.ledger.journal-sync-on-write:true}") boolean syncOnWrite
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.journal = enabled ? new InventoryJournal(Path.of(journalDirectory), syncOnWrite) : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Replays journal segments left by a previous run that never reached the database.
+     */
+    @PostConstruct
+    public void recover() {
+        if (!enabled) return;
+
+        for (Path segment : journal.existingSegments()) {
+            String name = segment.getFileName().toString();
+            Integer applied = jdbcTemplate.queryForObject(SEGMENT_APPLIED_SQL, Integer.class, name);
+            if (applied == null || applied == 0) {
+                Map<UUID, Integer> deltas = InventoryJournal.readSegment(segment);
+                log.info("Replaying inventory journal segment {} ({} products)", name, deltas.size());
+                applyToDatabase(name, deltas);
+            }
+            journal.delete(segment);
+        }
+    }
+
+    /**
+     * Reserves stock for every product in the map, all or nothing.
+     * When called inside a transaction the reservation is only journaled once
+     * that transaction commits, and released again if it rolls back.
+     */
+    public void reserve(Map<UUID, Integer> quantities) {
+        if (!enabled) return;
+
+        Map<UUID, Integer> ordered = new TreeMap<>(quantities);
+        boolean transactional = TransactionSynchronizationManager.isSynchronizationActive();
+        List<Map.Entry<UUID, Integer>> taken = new ArrayList<>(ordered.size());
+
+        flushLock.readLock().lock();
+        try {
+            for (Map.Entry<UUID, Integer> entry : ordered.entrySet()) {
+                if (!tryTake(counterFor(entry.getKey()), entry.getValue())) {
+                    taken.forEach(done -> counterFor(done.getKey()).addAndGet(done.getValue()));
+                    rejectedReservations.increment();
+                    throw new InsufficientProductStock(entry.getKey().toString());
+                }
+                taken.add(entry);
+            }
+            if (transactional) {
+                ordered.forEach((productId, quantity) -> uncommittedDeltas.merge(productId, quantity, Integer::sum));
+            } else {
+                try {
+                    recordDeltas(ordered);
+                } catch (RuntimeException e) {
+                    taken.forEach(done -> counterFor(done.getKey()).addAndGet(done.getValue()));
+                    throw e;
+                }
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+
+        reservations.increment();
+        ordered.values().forEach(reservedUnits::add);
+        if (!transactional) return;
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    commitReservation(ordered);
+                } else {
+                    rollBackReservation(ordered);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns previously reserved stock, e.g. when an order is cancelled.
+     * Inside a transaction the release only happens once it commits.
+     */
+    public void release(Map<UUID, Integer> quantities) {
+        if (!enabled) return;
+
+        runAfterCommit(() -> {
+            returnStock(quantities);
+            quantities.values().forEach(releasedUnits::add);
+        });
+    }
+
+    /**
+     * Drops the cached counter for a product whose stock was changed outside
+     * the ledger, so the next reservation reloads it from the database.
+     */
+    public void evict(UUID productId) {
+        if (!enabled) return;
+
+        flushLock.writeLock().lock();
+        try {
+            available.remove(productId);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the net deltas accumulated since the previous flush to the
+     * product table in a single JDBC batch, together with the name of the
+     * journal segment they came from.
+     */
+    @Scheduled(fixedDelayString = "${inventory.ledger.flush-interval-ms:1000}")
+    public void flush() {
+        if (!enabled) return;
+
+        if (inFlight == null) {
+            flushLock.writeLock().lock();
+            try {
+                Path segment = journal.rotate();
+                if (segment == null) return;
+                inFlight = new FlushBatch(segment, drainPendingDeltas());
+            } finally {
+                flushLock.writeLock().unlock();
+            }
+        }
+
+        FlushBatch batch = inFlight;
+        try {
+            applyToDatabase(batch.segment().getFileName().toString(), batch.deltas());
+        } catch (RuntimeException e) {
+            failedFlushes.incrementAndGet();
+            log.warn("Inventory ledger flush failed, will retry: {}", e.getMessage());
+            return;
+        }
+
+        inFlight = null;
+        journal.delete(batch.segment());
+        flushCount.incrementAndGet();
+        flushedRows.addAndGet(batch.deltas().size());
+        lastFlushAt = LocalDateTime.now();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled) return;
+
+        flush();
+        flush();
+        journal.close();
+    }
+
+    public InventoryLedgerStats getStats() {
+        double elapsedSeconds = (System.nanoTime() - startedAtNanos) / 1_000_000_000.0;
+        long reservationCount = reservations.sum();
+
+        return InventoryLedgerStats.builder()
+                .enabled(enabled)
+                .trackedProducts(available.size())
+                .reservations(reservationCount)
+                .rejectedReservations(rejectedReservations.sum())
+                .reservedUnits(reservedUnits.sum())
+                .releasedUnits(releasedUnits.sum())
+                .reservationsPerSecond(elapsedSeconds > 0 ? reservationCount / elapsedSeconds : 0)
+                .pendingProducts(pendingDeltas.size())
+                .flushCount(flushCount.get())
+                .failedFlushes(failedFlushes.get())
+                .flushedRows(flushedRows.get())
+                .lastFlushAt(lastFlushAt)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private AtomicInteger counterFor(UUID productId) {
+        return available.computeIfAbsent(productId, id -> new AtomicInteger(loadAvailableStock(id)));
+    }
+
+    /**
+     * Database stock minus deltas that have not been written back yet,
+     * including those of reservations whose transaction is still open.
+     */
+    private int loadAvailableStock(UUID productId) {
+        Integer stock;
+        try {
+            stock = jdbcTemplate.queryForObject(LOAD_STOCK_SQL, Integer.class, productId);
+        } catch (EmptyResultDataAccessException e) {
+            throw new ProductNotFoundException(productId.toString());
+        }
+
+        int unflushed = pendingDeltas.getOrDefault(productId, new AtomicInteger()).get()
+                + uncommittedDeltas.getOrDefault(productId, 0);
+        FlushBatch batch = inFlight;
+        if (batch != null) unflushed += batch.deltas().getOrDefault(productId, 0);
+
+        return (stock != null ? stock : 0) - unflushed;
+    }
+
+    private boolean tryTake(AtomicInteger counter, int quantity) {
+        while (true) {
+            int current = counter.get();
+            if (current < quantity) return false;
+            if (counter.compareAndSet(current, current - quantity)) return true;
+        }
+    }
+
+    private void returnStock(Map<UUID, Integer> quantities) {
+        flushLock.readLock().lock();
+        try {
+            Map<UUID, Integer> deltas = new HashMap<>();
+            quantities.forEach((productId, quantity) -> deltas.put(productId, -quantity));
+            recordDeltas(deltas);
+            quantities.forEach((productId, quantity) -> counterFor(productId).addAndGet(quantity));
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    private void recordDeltas(Map<UUID, Integer> deltas) {
+        journal.append(deltas);
+        deltas.forEach((productId, delta) ->
+                pendingDeltas.computeIfAbsent(productId, id -> new AtomicInteger()).addAndGet(delta));
+    }
+
+    private Map<UUID, Integer> drainPendingDeltas() {
+        Map<UUID, Integer> drained = new HashMap<>();
+        pendingDeltas.forEach((productId, delta) -> {
+            int value = delta.get();
+            if (value != 0) drained.put(productId, value);
+        });
+        pendingDeltas.clear();
+        return drained;
+    }
+
+    private void applyToDatabase(String segmentName, Map<UUID, Integer> deltas) {
+        List<Object[]> rows = deltas.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> new Object[]{entry.getValue(), entry.getKey()})
+                .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!rows.isEmpty()) jdbcTemplate.batchUpdate(APPLY_DELTA_SQL, rows);
+            jdbcTemplate.update(RECORD_SEGMENT_SQL, segmentName);
+        });
+    }
+
+    /**
+     * Journals a reservation whose transaction committed. The order exists by
+     * now, so a failed journal write still leaves the delta to be flushed.
+     * The delta becomes pending before it stops being uncommitted, so a
+     * counter loaded in between can only undercount.
+     */
+    private void commitReservation(Map<UUID, Integer> quantities) {
+        flushLock.readLock().lock();
+        try {
+            try {
+                journal.append(quantities);
+            } catch (RuntimeException e) {
+                log.error("Could not journal committed reservation, it will not survive a crash before the next flush", e);
+            }
+            quantities.forEach((productId, quantity) ->
+                    pendingDeltas.computeIfAbsent(productId, id -> new AtomicInteger()).addAndGet(quantity));
+            forgetUncommitted(quantities);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the stock of a reservation whose transaction rolled back.
+     * Nothing was journaled for it, so only the counters change.
+     */
+    private void rollBackReservation(Map<UUID, Integer> quantities) {
+        flushLock.readLock().lock();
+        try {
+            quantities.forEach((productId, quantity) -> counterFor(productId).addAndGet(quantity));
+            forgetUncommitted(quantities);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+    }
+
+    private void forgetUncommitted(Map<UUID, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> uncommittedDeltas.merge(productId, -quantity,
+                (current, change) -> current + change == 0 ? null : current + change));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private record FlushBatch(Path segment, Map<UUID, Integer> deltas) {}
+}
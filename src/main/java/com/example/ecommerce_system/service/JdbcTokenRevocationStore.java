@@ -0,0 +1,75 @@
+package com.example.ecommerce_system.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Revocation store shared by every node through the revoked_token table.
+ * Each node polls for rows newer than the latest revoked_at it has seen.
+ * The high-water mark is moved back by a safety lag so that rows committed
+ * slightly out of timestamp order are not missed; rows read twice are
+ * harmless because revocation is idempotent.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.blacklist.store", havingValue = "jdbc")
+public class JdbcTokenRevocationStore implements TokenRevocationStore {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO revoked_token (jti, expires_at, revoked_at) VALUES (?, ?, CURRENT_TIMESTAMP)";
+    private static final String FETCH_SQL = """
+            SELECT jti, expires_at, revoked_at
+            FROM revoked_token
+            WHERE revoked_at > ? AND expires_at > CURRENT_TIMESTAMP
+            ORDER BY revoked_at
+            """;
+    private static final String PRUNE_SQL = "DELETE FROM revoked_token WHERE expires_at <= CURRENT_TIMESTAMP";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration safetyLag;
+    private volatile Instant highWaterMark = Instant.EPOCH;
+
+    public JdbcTokenRevocationStore(
+            JdbcTemplate jdbcTemplate,
+            @Value("${jwt.blacklist.jdbc.safety-lag-ms:5000}") long safetyLagMs
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.safetyLag = Duration.ofMillis(safetyLagMs);
+    }
+
+    @Override
+    public void revoke(String jti, Instant expiresAt) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, jti, Timestamp.from(expiresAt));
+        } catch (DuplicateKeyException e) {
+            // Already revoked, e.g. by a repeated logout
+        }
+    }
+
+    @Override
+    public synchronized List<Revocation> fetchNew() {
+        Instant since = highWaterMark.equals(Instant.EPOCH) ? Instant.EPOCH : highWaterMark.minus(safetyLag);
+        Instant[] latest = {highWaterMark};
+
+        List<Revocation> revocations = jdbcTemplate.query(FETCH_SQL, (rs, rowNum) -> {
+            Instant revokedAt = rs.getTimestamp("revoked_at").toInstant();
+            if (revokedAt.isAfter(latest[0])) latest[0] = revokedAt;
+            return new Revocation(rs.getString("jti"), rs.getTimestamp("expires_at").toInstant());
+        }, Timestamp.from(since));
+
+        highWaterMark = latest[0];
+        return revocations;
+    }
+
+    @Override
+    public void pruneExpired() {
+        jdbcTemplate.update(PRUNE_SQL);
+    }
+}
@@ -1,29 +1,56 @@
 package com.example.ecommerce_system.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.JWTVerificationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.example.ecommerce_system.model.User;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.UUID;
 
-@RequiredArgsConstructor
+/**
+ * Signs and verifies access tokens. The HMAC algorithm and verifier are
+ * built once from the configured secret key, which does not change while
+ * the application runs. Tokens that passed verification are remembered for a short time, keyed by
+ * their SHA-256 hash, so repeated requests with the same bearer token skip
+ * parsing and signature checks until the entry or the token expires.
+ */
 @Service
 public class JwtTokenService {
 
-    @Value("${jwt.token.secret-key}")
-    private String secretKey;
+    private final long expirationMs;
+    private final Algorithm algorithm;
+    private final JWTVerifier verifier;
+    private final Cache<String, DecodedJWT> verifiedTokens;
 
-    @Value("${jwt.token.expiration-ms:86400000}")
-    private long expirationMs;
+    public JwtTokenService(
+            @Value("${jwt.token.secret-key}") String secretKey,
+            @Value("${jwt.token.expiration-ms:86400000}") long expirationMs,
+            @Value("${jwt.token.verified-cache-ttl-ms:30000}") long verifiedCacheTtlMs,
+            @Value("${jwt.token.verified-cache-size:10000}") long verifiedCacheSize
+    ) {
+        this.expirationMs = expirationMs;
+        this.algorithm = Algorithm.HMAC256(secretKey);
+        this.verifier = JWT.require(algorithm).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(verifiedCacheTtlMs))
+                .maximumSize(verifiedCacheSize)
+                .build();
+    }
 
     public String generateToken(User user) {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
         return JWT.create()
                 .withSubject(user.getUserId().toString())
                 .withClaim("email", user.getEmail())
@@ -35,8 +62,13 @@ public class JwtTokenService {
     }
 
     public DecodedJWT validateToken(String token) throws JWTVerificationException {
-        Algorithm algorithm = Algorithm.HMAC256(secretKey);
-        return JWT.require(algorithm).build().verify(token);
+        String key = hash(token);
+        DecodedJWT cached = verifiedTokens.getIfPresent(key);
+        if (cached != null && isUnexpired(cached)) return cached;
+
+        DecodedJWT verified = verifier.verify(token);
+        verifiedTokens.put(key, verified);
+        return verified;
     }
 
     public String extractUserId(DecodedJWT decodedJWT) {
@@ -58,4 +90,18 @@ public class JwtTokenService {
     public String extractJti(DecodedJWT decodedJWT) {
         return decodedJWT.getId();
     }
+
+    private static boolean isUnexpired(DecodedJWT decodedJWT) {
+        Instant expiresAt = decodedJWT.getExpiresAtAsInstant();
+        return expiresAt == null || expiresAt.isAfter(Instant.now());
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
@@ -0,0 +1,60 @@
+package com.example.ecommerce_system.service;
+
+import com.example.ecommerce_system.dto.metrics.MethodTimingSnapshot;
+import com.example.ecommerce_system.util.aspect.MetricsAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.search.Search;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Service
+@AllArgsConstructor
+public class MethodMetricsService {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Latency percentiles of every timed method, slowest p99 first.
+     * Optionally restricted to one layer: controller, service or repository.
+     */
+    public List<MethodTimingSnapshot> getTimings(String layer) {
+        Search search = meterRegistry.find(MetricsAspect.TIMER_NAME);
+        if (layer != null && !layer.isBlank()) search = search.tag("layer", layer);
+
+        return search.timers().stream()
+                .map(this::toSnapshot)
+                .sorted(Comparator.comparingDouble(MethodTimingSnapshot::getP99Ms).reversed())
+                .toList();
+    }
+
+    private MethodTimingSnapshot toSnapshot(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+
+        return MethodTimingSnapshot.builder()
+                .layer(timer.getId().getTag("layer"))
+                .className(timer.getId().getTag("class"))
+                .method(timer.getId().getTag("method"))
+                .count(snapshot.count())
+                .meanMs(snapshot.mean(TimeUnit.MILLISECONDS))
+                .maxMs(snapshot.max(TimeUnit.MILLISECONDS))
+                .p50Ms(percentile(snapshot, 0.5))
+                .p95Ms(percentile(snapshot, 0.95))
+                .p99Ms(percentile(snapshot, 0.99))
+                .p999Ms(percentile(snapshot, 0.999))
+                .build();
+    }
+
+    private double percentile(HistogramSnapshot snapshot, double percentile) {
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == percentile) return value.value(TimeUnit.MILLISECONDS);
+        }
+        return 0;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.ecommerce_system.service;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.orders.OrderFilter;
 import com.example.ecommerce_system.dto.orders.OrderItemDto;
 import com.example.ecommerce_system.dto.orders.OrderRequestDto;
@@ -11,28 +12,31 @@ import com.example.ecommerce_system.exception.order.OrderDoesNotExist;
 import com.example.ecommerce_system.exception.order.OrderStatusNotFoundException;
 import com.example.ecommerce_system.exception.product.InsufficientProductStock;
 import com.example.ecommerce_system.exception.product.ProductNotFoundException;
-import com.example.ecommerce_system.exception.product.ProductOptimisticLockException;
 import com.example.ecommerce_system.model.*;
 import com.example.ecommerce_system.repository.*;
+import com.example.ecommerce_system.util.KeysetCursor;
+import com.example.ecommerce_system.util.KeysetPagination;
 import com.example.ecommerce_system.util.OrderSpecification;
 import com.example.ecommerce_system.util.mapper.OrderMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.retry.annotation.Backoff;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import jakarta.persistence.OptimisticLockException;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static com.example.ecommerce_system.model.OrderStatusType.CANCELLED;
 import static com.example.ecommerce_system.model.OrderStatusType.PROCESSED;
@@ -45,6 +49,7 @@ public class OrderService {
     private OrderStatusRepository orderStatusRepository;
     private CustomerRepository customerRepository;
     private ProductRepository productRepository;
+    private InventoryLedgerService inventoryLedgerService;
 
     private OrderMapper orderMapper;
 
@@ -53,7 +58,7 @@ public class OrderService {
      * Validates order items, checks product availability and stock, calculates total amount,
      * and creates the order with PENDING status.
      */
-    @CacheEvict(value = {"orders", "paginated"}, allEntries = true)
+    @CacheEvict(value = "paginated", key = "{'orders', 'customer_orders:' + #userId}")
     @Transactional
     public OrderResponseDto placeOrder(OrderRequestDto request, UUID userId) {
         var customer = checkIfCustomerExists(userId);
@@ -63,11 +68,12 @@ public class OrderService {
                 .orElseThrow(() -> new OrderStatusNotFoundException(OrderStatusType.PENDING.name()));
 
         List<OrderItem> items = validateOrderItems(request.getItems());
+        boolean stockReserved = inventoryLedgerService.isEnabled();
         double totalAmount = items.stream()
                 .mapToDouble(item -> item.getPriceAtPurchase() * item.getQuantity())
                 .sum();
 
-        Orders newOrder = createOrder(orderId, request, customer, totalAmount, status);
+        Orders newOrder = createOrder(orderId, request, customer, totalAmount, status, stockReserved);
         Orders savedOrder = orderRepository.save(newOrder);
 
         saveOrderItems(savedOrder, items);
@@ -88,16 +94,12 @@ public class OrderService {
     }
 
     private List<OrderItem> validateOrderItems(List<OrderItemDto> orderedItems) {
+        Map<UUID, Product> products = retrieveOrderedProducts(orderedItems);
+        checkAndReserveStock(products, orderedQuantities(orderedItems));
+
         return orderedItems.stream()
                 .map(itemDto -> {
-                    var productId = itemDto.getProductId();
-                    var product = productRepository.findById(productId)
-                            .orElseThrow(() -> new ProductNotFoundException(productId.toString()));
-
-                    if (product.getStockQuantity() < itemDto.getQuantity()) {
-                        throw new InsufficientProductStock(productId.toString());
-                    }
-
+                    var product = products.get(itemDto.getProductId());
                     return OrderItem.builder()
                             .orderItemId(UUID.randomUUID())
                             .product(product)
@@ -108,12 +110,65 @@ public class OrderService {
                 .toList();
     }
 
+    /**
+     * With the inventory ledger enabled, stock is reserved in memory when the
+     * order is placed. Otherwise it is only checked here and deducted once the
+     * order is processed.
+     */
+    private void checkAndReserveStock(Map<UUID, Product> products, Map<UUID, Integer> quantities) {
+        if (inventoryLedgerService.isEnabled()) {
+            inventoryLedgerService.reserve(quantities);
+            return;
+        }
+
+        quantities.forEach((productId, quantity) -> {
+            if (products.get(productId).getStockQuantity() < quantity)
+                throw new InsufficientProductStock(productId.toString());
+        });
+    }
+
+    private Map<UUID, Integer> orderedQuantities(List<OrderItemDto> orderedItems) {
+        return orderedItems.stream()
+                .collect(Collectors.groupingBy(
+                        OrderItemDto::getProductId,
+                        TreeMap::new,
+                        Collectors.summingInt(OrderItemDto::getQuantity)));
+    }
+
+    private Map<UUID, Integer> quantitiesByProduct(List<OrderItem> items) {
+        return items.stream()
+                .collect(Collectors.groupingBy(
+                        item -> item.getProduct().getProductId(),
+                        TreeMap::new,
+                        Collectors.summingInt(OrderItem::getQuantity)));
+    }
+
+    /**
+     * Resolves every product referenced by the order in a single query
+     * rather than one lookup per line item.
+     */
+    private Map<UUID, Product> retrieveOrderedProducts(List<OrderItemDto> orderedItems) {
+        Set<UUID> productIds = orderedItems.stream()
+                .map(OrderItemDto::getProductId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<UUID, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        for (UUID productId : productIds) {
+            if (!products.containsKey(productId))
+                throw new ProductNotFoundException(productId.toString());
+        }
+        return products;
+    }
+
     private Orders createOrder(
             UUID orderId,
             OrderRequestDto request,
             Customer customer,
             double totalAmount,
-            OrderStatus status
+            OrderStatus status,
+            boolean stockReserved
     ) {
         return Orders.builder()
                 .orderId(orderId)
@@ -124,6 +179,7 @@ public class OrderService {
                 .shippingPostalCode(request.getPostalCode())
                 .totalAmount(totalAmount)
                 .status(status)
+                .stockReserved(stockReserved)
                 .build();
     }
 
@@ -140,26 +196,56 @@ public class OrderService {
     /**
      * Retrieves all orders with pagination.
      */
-    @Cacheable(value = "paginated", key = "'all_orders_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'orders::all_' + #limit + '_' + #offset")
     public List<OrderResponseDto> getAllOrders(int limit, int offset) {
         PageRequest pageRequest = PageRequest.of(
                 offset,
                 limit,
                 Sort.by("orderDate").descending()
         );
-        List<Orders> orders = orderRepository.findAll(pageRequest).getContent();
+        List<Orders> orders = orderRepository.findSlice(pageRequest).getContent();
         return orderMapper.toDtoList(orders);
     }
 
     /**
      * Searches orders using filter criteria with pagination.
      */
-    @Cacheable(value = "paginated", key = "'search_orders_' + #filter.toString() + '_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'orders::search_' + #filter.toString() + '_' + #limit + '_' + #offset")
     public List<OrderResponseDto> searchOrders(OrderFilter filter, int limit, int offset) {
         var orders = queryRepositoryWithFilter(filter, limit, offset);
         return orderMapper.toDtoList(orders);
     }
 
+    /**
+     * Retrieves orders newest first, continuing after the given cursor.
+     */
+    @Cacheable(value = "paginated", key = "'orders::after_' + #cursor + '_' + #limit")
+    public CursorPageDto<OrderResponseDto> getAllOrdersAfter(String cursor, int limit) {
+        return queryOrdersAfter((root, query, cb) -> null, cursor, limit);
+    }
+
+    /**
+     * Searches orders using filter criteria, continuing after the given cursor.
+     */
+    @Cacheable(value = "paginated", key = "'orders::search_after_' + #filter.toString() + '_' + #cursor + '_' + #limit")
+    public CursorPageDto<OrderResponseDto> searchOrdersAfter(OrderFilter filter, String cursor, int limit) {
+        return queryOrdersAfter(OrderSpecification.buildSpecification(filter), cursor, limit);
+    }
+
+    private CursorPageDto<OrderResponseDto> queryOrdersAfter(Specification<Orders> spec, String cursor, int limit) {
+        int fetchSize = KeysetPagination.fetchSize(limit);
+        List<Orders> orders = orderRepository.findBy(
+                spec.and(KeysetPagination.after(cursor, "orderDate", "orderId")),
+                query -> query.sortBy(KeysetPagination.sort("orderDate", "orderId")).limit(fetchSize).all()
+        );
+        return KeysetPagination.toPage(
+                orders,
+                limit,
+                order -> new KeysetCursor(order.getOrderDate(), order.getOrderId()),
+                orderMapper::toDtoList
+        );
+    }
+
     private List<Orders> queryRepositoryWithFilter(OrderFilter filter, int limit, int offset) {
         Specification<Orders> spec = OrderSpecification.buildSpecification(filter);
         PageRequest pageRequest = PageRequest.of(
@@ -167,13 +253,13 @@ public class OrderService {
                 limit,
                 Sort.by("orderDate").descending()
         );
-        return orderRepository.findAll(spec, pageRequest).getContent();
+        return orderRepository.findSlice(spec, pageRequest).getContent();
     }
 
     /**
      * Retrieves all orders for a specific customer with pagination.
      */
-    @Cacheable(value = "paginated", key = "'customer_orders_' + #userId + '_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'customer_orders:' + #userId + '::' + #limit + '_' + #offset")
     public List<OrderResponseDto> getCustomerOrders(UUID userId, int limit, int offset) {
         var customer = checkIfCustomerExists(userId);
 
@@ -185,22 +271,22 @@ public class OrderService {
     }
 
     /**
-     * Updates order status to either PROCESSED or CANCELLED with retry mechanism.
+     * Updates order status to either PROCESSED or CANCELLED.
      * Processing deducts stock quantities, cancellation is only allowed for pending orders.
      */
-    @CacheEvict(value = {"orders", "products", "paginated"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "orders", key = "#orderId"),
+            @CacheEvict(value = "products", allEntries = true),
+            @CacheEvict(value = "paginated",
+                    key = "{'orders', 'customer_orders', 'products'}")
+    })
     @Transactional
-    @Retryable(
-        retryFor = {OptimisticLockException.class, ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 3,
-        backoff = @Backoff(delay = 100, multiplier = 2)
-    )
     public OrderResponseDto updateOrderStatus(UUID orderId, OrderRequestDto request) {
         Orders existingOrder = orderRepository.findById(orderId)
                 .orElseThrow(() -> new OrderDoesNotExist(orderId.toString()));
 
         switch (request.getStatus()) {
-            case PROCESSED -> processOrderWithRetry(existingOrder);
+            case PROCESSED -> processOrder(existingOrder);
             case CANCELLED -> cancelOrder(existingOrder);
             default -> throw new InvalidOrderStatusException("this status is not allowed");
         }
@@ -208,43 +294,26 @@ public class OrderService {
         return orderMapper.toDto(existingOrder);
     }
 
-    @Retryable(
-        retryFor = {OptimisticLockException.class, ObjectOptimisticLockingFailureException.class},
-        maxAttempts = 5,
-        backoff = @Backoff(delay = 50, multiplier = 1.5, maxDelay = 1000)
-    )
-    private void processOrderWithRetry(Orders existingOrder) {
-        var orderId = existingOrder.getOrderId();
-        try {
-            processOrder(existingOrder);
-        } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-            // Refresh the order and its items from database before retry
-            existingOrder = orderRepository.findById(existingOrder.getOrderId())
-                    .orElseThrow(() -> new OrderDoesNotExist(orderId.toString()));
-            throw e;
-        }
-    }
-
+    /**
+     * Deducts stock with one conditional UPDATE per product instead of
+     * read-modify-write, so concurrent orders on the same product never
+     * conflict optimistically. Products are updated in id order to keep
+     * row lock acquisition consistent across transactions; any shortfall
+     * rolls back the reservations already made. Orders placed through the
+     * inventory ledger already reserved their stock at placement time.
+     */
     private void processOrder(Orders existingOrder) {
         if (existingOrder.getStatus().getStatusName() == PROCESSED)
             return;
 
-        for (OrderItem item : existingOrder.getOrderItems()) {
-            // Refresh product from database to get latest version
-            var product = item.getProduct();
-
-            int newStock = product.getStockQuantity() - item.getQuantity();
-            if (newStock < 0)
-                throw new InsufficientProductStock(product.getProductId().toString());
-
-            product.setStockQuantity(newStock);
-            product.setUpdatedAt(Instant.now());
-
-            try {
-                productRepository.save(product);
-            } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-                throw new ProductOptimisticLockException(product.getProductId().toString(), e);
-            }
+        if (!existingOrder.isStockReserved()) {
+            Instant now = Instant.now();
+            quantitiesByProduct(existingOrder.getOrderItems()).forEach((productId, quantity) -> {
+                int updated = productRepository.decrementStock(productId, quantity, now);
+                if (updated == 0)
+                    throw new InsufficientProductStock(productId.toString());
+                inventoryLedgerService.evict(productId);
+            });
         }
 
         var status = retrieveOrderStatus(PROCESSED);
@@ -252,35 +321,16 @@ public class OrderService {
     }
 
     /**
-     * Recover handlers used when optimistic lock keeps
-     * occurring and proper error needs to be thrown.
-     * Not explicitly called but referenced by retry context.
+     * Only orders that reserved stock through the inventory ledger give it
+     * back; orders placed without it never took any.
      */
-    @Recover
-    public OrderResponseDto recoverFromOptimisticLock(
-            OptimisticLockException ex,
-            UUID orderId,
-            OrderRequestDto request) {
-        throw new ProductOptimisticLockException("Failed to process order after multiple retries: " + orderId);
-    }
-
-    /**
-     * Recover handlers used when optimistic lock keeps
-     * occurring and proper error needs to be thrown.
-     * Not explicitly called but referenced by retry context.
-     */
-    @Recover
-    public OrderResponseDto recoverFromOptimisticLock(
-            ObjectOptimisticLockingFailureException ex,
-            UUID orderId,
-            OrderRequestDto request) {
-        throw new ProductOptimisticLockException("Failed to process order after multiple retries: " + orderId);
-    }
-
     private void cancelOrder(Orders existingOrder) {
         if (existingOrder.getStatus().getStatusName() != OrderStatusType.PENDING)
             throw new InvalidOrderCancellationException("Only pending orders can be cancelled");
 
+        if (existingOrder.isStockReserved())
+            inventoryLedgerService.release(quantitiesByProduct(existingOrder.getOrderItems()));
+
         var status = retrieveOrderStatus(CANCELLED);
         existingOrder.setStatus(status);
     }
@@ -0,0 +1,462 @@
+package com.example.ecommerce_system.service;
+
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.util.IntPostingList;
+import com.example.ecommerce_system.util.PriceBuckets;
+import com.example.ecommerce_system.util.ProductFacetCounter;
+import com.example.ecommerce_system.util.ProductSearchQuery;
+import com.example.ecommerce_system.util.TextSearchRank;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.IntPredicate;
+import java.util.stream.IntStream;
+
+/**
+ * Optional in-memory search index over the product catalogue, so product
+ * search never reaches the database. Products get dense int document ids;
+ * name words, description words and categories map to compressed posting
+ * lists of those ids, and prices sit in a parallel primitive array for the
+ * range filters. Enabled with product.search.index.enabled.
+ *
+ * <p>The index is loaded in parallel chunks once the application is ready,
+ * and is kept current by {@link ProductService} on create, update and
+ * delete. Updated and deleted products leave a dead document behind until
+ * the periodic rebuild. Changes made while a rebuild is loading are
+ * replayed onto the new index before it is swapped in.
+ *
+ * <p>Product text is split into the lexemes PostgreSQL stores in
+ * {@code search_vector} (see {@link ProductSearchQuery#lexemes}). While any
+ * product holds text the index cannot split the same way, text searches are
+ * left to the database so both paths always return the same products.
+ *
+ * <p>Only changes made through this node reach the index. Stock changed by
+ * orders and products changed on other nodes show up at the next rebuild,
+ * so the stock of indexed results may lag, and filters on stock are left to
+ * the database. On more than one node the index is only as fresh as the
+ * rebuild interval.
+ */
+@Slf4j
+@Service
+public class ProductSearchIndex {
+
+    private final ProductRepository productRepository;
+    private final ProductMapper productMapper;
+    private final boolean enabled;
+    private final int chunkSize;
+    private final int buildThreads;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Segment segment;
+    private List<Consumer<Segment>> replay;
+    private volatile boolean ready;
+
+    public ProductSearchIndex(
+            ProductRepository productRepository,
+            ProductMapper productMapper,
+            @Value("${product.search.index.enabled:false}") boolean enabled,
+            @Value("${product.search.index.chunk-size:5000}") int chunkSize,
+            @Value("${product.search.index.build-threads:4}") int buildThreads
+    ) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.enabled = enabled;
+        this.chunkSize = chunkSize;
+        this.buildThreads = buildThreads;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether the filter can be answered from the index. Stock ranges are
+     * not, as indexed stock is only refreshed by the periodic rebuild, and
+     * neither is text while some product's text could not be split into the
+     * database's lexemes.
+     */
+    public boolean canServe(ProductFilter filter) {
+        if (!ready || filter.hasMinStock() || filter.hasMaxStock()) return false;
+        if (!ProductSearchQuery.hasText(filter)) return true;
+
+        lock.readLock().lock();
+        try {
+            return !segment.hasUnsplitText();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(
+            initialDelayString = "${product.search.index.rebuild-interval-ms:600000}",
+            fixedDelayString = "${product.search.index.rebuild-interval-ms:600000}"
+    )
+    public synchronized void rebuild() {
+        if (!enabled) return;
+
+        long start = System.nanoTime();
+        mutate(() -> replay = new ArrayList<>());
+        Segment built;
+        try {
+            built = load();
+        } catch (RuntimeException e) {
+            mutate(() -> replay = null);
+            log.warn("Unable to build product search index: {}", e.getMessage());
+            return;
+        }
+
+        mutate(() -> {
+            replay.forEach(change -> change.accept(built));
+            replay = null;
+            segment = built;
+            ready = true;
+        });
+        log.info("Indexed {} products in {} ms", built.liveCount(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    public void put(ProductResponseDto product) {
+        apply(current -> current.put(product));
+    }
+
+    public void remove(UUID productId) {
+        apply(current -> current.remove(productId));
+    }
+
+    /**
+     * Products matching every word of the name and description filters by
+     * prefix, and the category and price filters. Text matches are ordered
+     * by {@code ts_rank} like the database search (see {@link TextSearchRank})
+     * and then by product id; other searches by product id alone. Stock
+     * filters are ignored; see {@link #canServe}.
+     */
+    public List<ProductResponseDto> search(ProductFilter filter, Pageable pageable) {
+        lock.readLock().lock();
+        try {
+            return segment.search(filter, pageable.getOffset(), pageable.getPageSize());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Per-category and per-price-bucket counts of the products matching the
+     * filter, from the same single pass over the postings as a search.
+     */
+    public ProductFacetsDto countFacets(ProductFilter filter, PriceBuckets priceBuckets) {
+        lock.readLock().lock();
+        try {
+            return segment.countFacets(filter, priceBuckets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return segment == null ? 0 : segment.liveCount();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(Consumer<Segment> change) {
+        if (!enabled) return;
+
+        mutate(() -> {
+            if (segment != null) change.accept(segment);
+            if (replay != null) replay.add(change);
+        });
+    }
+
+    private void mutate(Runnable mutation) {
+        lock.writeLock().lock();
+        try {
+            mutation.run();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Segment load() {
+        long count = productRepository.count();
+        int chunks = (int) ((count + chunkSize - 1) / chunkSize);
+
+        ExecutorService executor = Executors.newFixedThreadPool(buildThreads);
+        try {
+            List<Future<List<ProductResponseDto>>> loads = IntStream.range(0, chunks)
+                    .mapToObj(chunk -> executor.submit(() -> productMapper.toDTOList(productRepository
+                            .findSlice(PageRequest.of(chunk, chunkSize, Sort.by("productId")))
+                            .getContent())))
+                    .toList();
+
+            Segment built = new Segment((int) count);
+            for (Future<List<ProductResponseDto>> load : loads) load.get().forEach(built::put);
+            built.trim();
+            return built;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading products", e);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static final class Segment {
+
+        /**
+         * Unsigned comparison, matching how PostgreSQL orders uuid values.
+         */
+        private static final Comparator<ProductResponseDto> PRODUCT_ORDER = Comparator.comparing(
+                ProductResponseDto::getProductId,
+                (a, b) -> {
+                    int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+                    return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+                });
+
+        private static final Comparator<Hit> HIT_ORDER = Comparator.comparing(Hit::rank, Comparator.reverseOrder())
+                .thenComparing(Hit::product, PRODUCT_ORDER);
+
+        private ProductResponseDto[] products;
+        private double[] prices;
+        private int docCount;
+        private final BitSet live = new BitSet();
+        private final BitSet unsplitText = new BitSet();
+        private final Map<UUID, Integer> docByProduct = new HashMap<>();
+        private final NavigableMap<String, IntPostingList> nameTerms = new TreeMap<>();
+        private final NavigableMap<String, IntPostingList> descriptionTerms = new TreeMap<>();
+        private final Map<UUID, IntPostingList> categoryDocs = new HashMap<>();
+
+        Segment(int expectedProducts) {
+            int capacity = Math.max(expectedProducts, 16);
+            products = new ProductResponseDto[capacity];
+            prices = new double[capacity];
+        }
+
+        int liveCount() {
+            return docByProduct.size();
+        }
+
+        boolean hasUnsplitText() {
+            return !unsplitText.isEmpty();
+        }
+
+        void put(ProductResponseDto product) {
+            remove(product.getProductId());
+            if (docCount == products.length) grow();
+
+            int doc = docCount++;
+            products[doc] = product;
+            prices[doc] = product.getPrice();
+            live.set(doc);
+            docByProduct.put(product.getProductId(), doc);
+
+            Optional<List<String>> nameLexemes = lexemesOf(product.getName());
+            Optional<List<String>> descriptionLexemes = lexemesOf(product.getDescription());
+            if (nameLexemes.isEmpty() || descriptionLexemes.isEmpty()) unsplitText.set(doc);
+
+            addTerms(nameTerms, nameLexemes.orElseGet(() -> ProductSearchQuery.words(product.getName())), doc);
+            addTerms(descriptionTerms, descriptionLexemes.orElseGet(() -> ProductSearchQuery.words(product.getDescription())), doc);
+            if (product.getCategoryId() != null)
+                categoryDocs.computeIfAbsent(product.getCategoryId(), id -> new IntPostingList()).add(doc);
+        }
+
+        void remove(UUID productId) {
+            Integer doc = docByProduct.remove(productId);
+            if (doc == null) return;
+
+            live.clear(doc);
+            unsplitText.clear(doc);
+            products[doc] = null;
+        }
+
+        void trim() {
+            nameTerms.values().forEach(IntPostingList::trim);
+            descriptionTerms.values().forEach(IntPostingList::trim);
+            categoryDocs.values().forEach(IntPostingList::trim);
+        }
+
+        /**
+         * Document ids follow insertion, not rank or product id, so the first
+         * offset + limit matches are kept in a bounded heap. Ranks are worked
+         * out from each match's text, as PostgreSQL does from its stored
+         * vector.
+         */
+        List<ProductResponseDto> search(ProductFilter filter, long offset, int limit) {
+            if (limit == 0) return List.of();
+
+            List<String> queryWords = queryWords(filter);
+            long wanted = offset + limit;
+            PriorityQueue<Hit> first = new PriorityQueue<>(HIT_ORDER.reversed());
+            forEachMatch(filter, doc -> {
+                Hit hit = new Hit(products[doc], queryWords.isEmpty() ? 0 : rank(products[doc], queryWords));
+                if (first.size() < wanted) {
+                    first.add(hit);
+                } else if (HIT_ORDER.compare(hit, first.peek()) < 0) {
+                    first.poll();
+                    first.add(hit);
+                }
+                return true;
+            });
+
+            List<ProductResponseDto> sorted = first.stream().sorted(HIT_ORDER).map(Hit::product).toList();
+            return offset >= sorted.size() ? List.of() : sorted.subList((int) offset, sorted.size());
+        }
+
+        ProductFacetsDto countFacets(ProductFilter filter, PriceBuckets priceBuckets) {
+            ProductFacetCounter counter = new ProductFacetCounter(priceBuckets);
+            forEachMatch(filter, doc -> {
+                counter.add(products[doc].getCategoryId(), priceBuckets.indexOf(prices[doc]), 1);
+                return true;
+            });
+            return counter.toDto();
+        }
+
+        /**
+         * Passes every live document matching the filter to the visitor, in
+         * index order, until it returns false.
+         */
+        private void forEachMatch(ProductFilter filter, IntPredicate visitor) {
+            List<Constraint> constraints = new ArrayList<>();
+            if (filter.hasName())
+                ProductSearchQuery.words(filter.getName()).forEach(word -> constraints.add(withPrefix(nameTerms, word)));
+            if (filter.hasDescription())
+                ProductSearchQuery.words(filter.getDescription()).forEach(word -> constraints.add(withPrefix(descriptionTerms, word)));
+            if (filter.hasCategoryId()) {
+                IntPostingList docs = categoryDocs.get(filter.getCategoryId());
+                constraints.add(docs == null ? Constraint.NONE : new Constraint(docs.size(), docs.cursor()));
+            }
+            if (constraints.isEmpty())
+                constraints.add(new Constraint(docCount, target -> target < docCount ? target : IntPostingList.Cursor.NO_MORE));
+
+            constraints.sort(Comparator.comparingInt(Constraint::size));
+            int doc = nextMatch(constraints, 0);
+            while (doc != IntPostingList.Cursor.NO_MORE) {
+                if (live.get(doc) && inRanges(filter, doc) && !visitor.test(doc)) return;
+                doc = nextMatch(constraints, doc + 1);
+            }
+        }
+
+        /**
+         * The first document at or after the target present in every
+         * constraint. The smallest constraint leads and the others only
+         * decode as far as it takes them.
+         */
+        private static int nextMatch(List<Constraint> constraints, int target) {
+            int doc = constraints.get(0).cursor().advance(target);
+            for (int i = 1; i < constraints.size() && doc != IntPostingList.Cursor.NO_MORE; ) {
+                int other = constraints.get(i).cursor().advance(doc);
+                if (other == doc) {
+                    i++;
+                } else if (other == IntPostingList.Cursor.NO_MORE) {
+                    return other;
+                } else {
+                    doc = constraints.get(0).cursor().advance(other);
+                    i = 1;
+                }
+            }
+            return doc;
+        }
+
+        private boolean inRanges(ProductFilter filter, int doc) {
+            return (!filter.hasMinPrice() || prices[doc] >= filter.getMinPrice())
+                    && (!filter.hasMaxPrice() || prices[doc] <= filter.getMaxPrice());
+        }
+
+        private void grow() {
+            int capacity = products.length * 2;
+            products = Arrays.copyOf(products, capacity);
+            prices = Arrays.copyOf(prices, capacity);
+        }
+
+        /**
+         * The words of the name and description filters, in the order they
+         * appear in the database query.
+         */
+        private static List<String> queryWords(ProductFilter filter) {
+            List<String> words = new ArrayList<>();
+            if (filter.hasName()) words.addAll(ProductSearchQuery.words(filter.getName()));
+            if (filter.hasDescription()) words.addAll(ProductSearchQuery.words(filter.getDescription()));
+            return words;
+        }
+
+        private static float rank(ProductResponseDto product, List<String> queryWords) {
+            return TextSearchRank.rank(
+                    lexemesOf(product.getName()).orElseGet(() -> ProductSearchQuery.words(product.getName())),
+                    lexemesOf(product.getDescription()).orElseGet(() -> ProductSearchQuery.words(product.getDescription())),
+                    queryWords);
+        }
+
+        /**
+         * The text's lexemes, or empty when they cannot be worked out; such
+         * text is indexed by its plain words instead.
+         */
+        private static Optional<List<String>> lexemesOf(String text) {
+            return text == null ? Optional.of(List.of()) : ProductSearchQuery.lexemes(text);
+        }
+
+        private static void addTerms(NavigableMap<String, IntPostingList> terms, List<String> lexemes, int doc) {
+            for (String lexeme : new LinkedHashSet<>(lexemes))
+                terms.computeIfAbsent(lexeme, w -> new IntPostingList()).add(doc);
+        }
+
+        /**
+         * Documents containing any word that starts with the prefix.
+         */
+        private static Constraint withPrefix(NavigableMap<String, IntPostingList> terms, String prefix) {
+            var matches = terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values();
+            if (matches.isEmpty()) return Constraint.NONE;
+            if (matches.size() == 1) {
+                IntPostingList docs = matches.iterator().next();
+                return new Constraint(docs.size(), docs.cursor());
+            }
+
+            int[] union = matches.stream()
+                    .flatMapToInt(docs -> Arrays.stream(docs.toArray()))
+                    .sorted()
+                    .distinct()
+                    .toArray();
+            return new Constraint(union.length, IntPostingList.Cursor.of(union));
+        }
+
+        private record Hit(ProductResponseDto product, float rank) {}
+
+        private record Constraint(int size, IntPostingList.Cursor cursor) {
+
+            static final Constraint NONE = new Constraint(0, target -> IntPostingList.Cursor.NO_MORE);
+        }
+    }
+}
@@ -1,27 +1,37 @@
 package com.example.ecommerce_system.service;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
 import com.example.ecommerce_system.dto.product.ProductFilter;
 import com.example.ecommerce_system.dto.product.ProductRequestDto;
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
-import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
 import com.example.ecommerce_system.exception.category.CategoryNotFoundException;
 import com.example.ecommerce_system.exception.product.ProductNotFoundException;
 import com.example.ecommerce_system.model.Category;
 import com.example.ecommerce_system.model.Product;
 import com.example.ecommerce_system.repository.CategoryRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.util.KeysetCursor;
+import com.example.ecommerce_system.util.KeysetPagination;
+import com.example.ecommerce_system.util.PriceBuckets;
+import com.example.ecommerce_system.util.ProductSearchQuery;
 import com.example.ecommerce_system.util.ProductSpecification;
 import com.example.ecommerce_system.util.mapper.ProductMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -30,12 +40,15 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final CategoryRepository categoryRepository;
     private final ProductMapper productMapper;
+    private final InventoryLedgerService inventoryLedgerService;
+    private final ProductSearchIndex productSearchIndex;
+    private final PriceBuckets priceBuckets;
 
     /**
      * Create a new product.
      * Validates that the category exists before creating the product.
      */
-    @CacheEvict(value = {"products", "paginated"}, allEntries = true)
+    @CacheEvict(value = "paginated", key = "'products'")
     public ProductResponseDto createProduct(ProductRequestDto request) {
         var category = getCategory(request.getCategoryId());
 
@@ -51,7 +64,9 @@ public class ProductService {
                 .updatedAt(Instant.now())
                 .build();
         var saved = productRepository.save(product);
-        return productMapper.toDTO(saved);
+        var created = productMapper.toDTO(saved);
+        productSearchIndex.put(created);
+        return created;
     }
 
     private Category getCategory(UUID categoryId) {
@@ -73,41 +88,102 @@ public class ProductService {
     /**
      * Retrieve all products with pagination.
      */
-    @Cacheable(value = "paginated", key = "'all_products_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'products::all_' + #limit + '_' + #offset")
     public List<ProductResponseDto> getAllProducts(int limit, int offset) {
-        List<Product> products = productRepository.findAll(PageRequest.of(offset, limit)).getContent();
+        List<Product> products = productRepository.findSlice(PageRequest.of(offset, limit)).getContent();
         return productMapper.toDTOList(products);
     }
 
+    /**
+     * Retrieve the given products in a single query, keyed by id.
+     */
+    public Map<UUID, ProductResponseDto> getProductsByIds(Collection<UUID> productIds) {
+        if (productIds.isEmpty()) return Map.of();
+
+        return productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getProductId, productMapper::toDTO));
+    }
+
+    /**
+     * Retrieve products newest first, continuing after the given cursor.
+     */
+    @Cacheable(value = "paginated", key = "'products::after_' + #cursor + '_' + #limit")
+    public CursorPageDto<ProductResponseDto> getAllProductsAfter(String cursor, int limit) {
+        int fetchSize = KeysetPagination.fetchSize(limit);
+        List<Product> products = productRepository.findBy(
+                KeysetPagination.<Product>after(cursor, "createdAt", "productId"),
+                query -> query.sortBy(KeysetPagination.sort("createdAt", "productId")).limit(fetchSize).all()
+        );
+        return KeysetPagination.toPage(
+                products,
+                limit,
+                product -> new KeysetCursor(product.getCreatedAt(), product.getProductId()),
+                productMapper::toDTOList
+        );
+    }
+
     /**
      * Delete a product by ID.
      * Validates that the product exists before deletion.
      */
-    @CacheEvict(value = {"products", "paginated"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "products", key = "#productId"),
+            @CacheEvict(value = "paginated", key = "'products'")
+    })
     public void deleteProduct(UUID productId) {
         var existing = retrieveProductFromRepository(productId);
         productRepository.deleteById(existing.getProductId());
+        inventoryLedgerService.evict(productId);
+        productSearchIndex.remove(productId);
     }
 
     /**
      * Search for products using a filter with pagination.
+     * Served from the in-memory search index when it is built and can answer the filter.
      */
-    @Cacheable(value = "paginated", key = "'search_products_' + #filter.toString() + '_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'products::search_' + #filter.toString() + '_' + #limit + '_' + #offset")
     public List<ProductResponseDto> searchProducts(ProductFilter filter, int limit, int offset) {
+        if (productSearchIndex.canServe(filter))
+            return productSearchIndex.search(filter, PageRequest.of(offset, limit));
+
         var products = queryRepositoryWithFilter(filter, limit, offset);
         return productMapper.toDTOList(products);
     }
 
+    /**
+     * Count the products matching a filter per category and per price bucket.
+     * Served from the in-memory search index when it is built and can answer the filter.
+     */
+    @Cacheable(value = "paginated", key = "'products::facets_' + #filter.toString()")
+    public ProductFacetsDto getProductFacets(ProductFilter filter) {
+        if (productSearchIndex.canServe(filter))
+            return productSearchIndex.countFacets(filter, priceBuckets);
+
+        return productRepository.countFacets(filter, priceBuckets);
+    }
+
+    /**
+     * Text filters go through the full-text index when the database has one.
+     * Otherwise, and for filters without text, the specification is used.
+     * Both order by product id, as the in-memory index does.
+     */
     private List<Product> queryRepositoryWithFilter(ProductFilter filter, int limit, int offset) {
+        PageRequest page = PageRequest.of(offset, limit, Sort.by("productId"));
+        if (ProductSearchQuery.hasText(filter) && productRepository.isFullTextSearchAvailable())
+            return productRepository.searchFullText(filter, page);
+
         Specification<Product> spec = ProductSpecification.buildSpecification(filter);
-        return productRepository.findAll(spec, PageRequest.of(offset, limit)).getContent();
+        return productRepository.findSlice(spec, page).getContent();
     }
 
     /**
      * Update an existing product.
      * Validates product existence and merges provided fields with existing values.
      */
-    @CacheEvict(value = {"products", "paginated"}, allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "products", key = "#productId"),
+            @CacheEvict(value = "paginated", key = "'products'")
+    })
     public ProductResponseDto updateProduct(UUID productId, ProductRequestDto request) {
         var existingProduct = retrieveProductFromRepository(productId);
 
@@ -124,29 +200,9 @@ public class ProductService {
                 .build();
 
         productRepository.save(updated);
-        return productMapper.toDTO(updated);
-    }
-
-    /**
-     * Get all products with their categories and reviews.
-     * Each product includes a limited number of reviews based on reviewLimit parameter.
-     */
-    @Cacheable(value = "paginated", key = "'products_with_reviews_' + #limit + '_' + #offset + '_' + #reviewLimit")
-    public List<ProductWithReviewsDto> getAllProductsWithReviews(int limit, int offset, int reviewLimit) {
-        var productsPage = productRepository.findAllWithLimitedReviews(
-                reviewLimit,
-                PageRequest.of(offset, limit)
-        );
-        return productMapper.toProductWithReviewsDTOList(productsPage.getContent());
-    }
-
-    /**
-     * Search for products with reviews using a filter with pagination.
-     * Each product includes a limited number of reviews based on reviewLimit parameter.
-     */
-    @Cacheable(value = "paginated", key = "'search_products_with_reviews_' + #filter.toString() + '_' + #limit + '_' + #offset")
-    public List<ProductWithReviewsDto> searchProductsWithReviews(ProductFilter filter, int limit, int offset) {
-        var products = queryRepositoryWithFilter(filter, limit, offset);
-        return productMapper.toProductWithReviewsDTOList(products);
+        inventoryLedgerService.evict(productId);
+        var result = productMapper.toDTO(updated);
+        productSearchIndex.put(result);
+        return result;
     }
 }
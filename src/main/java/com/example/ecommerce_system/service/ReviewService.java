@@ -1,5 +1,6 @@
 package com.example.ecommerce_system.service;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.review.ReviewRequestDto;
 import com.example.ecommerce_system.dto.review.ReviewResponseDto;
 import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
@@ -12,17 +13,23 @@ import com.example.ecommerce_system.repository.CustomerRepository;
 import com.example.ecommerce_system.repository.OrderRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
 import com.example.ecommerce_system.repository.ReviewRepository;
+import com.example.ecommerce_system.util.KeysetCursor;
+import com.example.ecommerce_system.util.KeysetPagination;
 import com.example.ecommerce_system.util.mapper.ReviewMapper;
 import lombok.AllArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
@@ -38,7 +45,7 @@ public class ReviewService {
      * Create a new review for a product.
      * Validates that the product exists, the customer exists, and the customer has ordered and received (PROCESSED status) the product.
      */
-    @CacheEvict(value = {"reviews", "products", "paginated"}, allEntries = true)
+    @CacheEvict(value = "paginated", key = "{'product_reviews:' + #productId, 'customer_reviews'}")
     public ReviewResponseDto createReview(UUID productId, UUID userId, ReviewRequestDto request) {
         var product = checkThatProductExists(productId);
         var customer = checkThatCustomerExists(userId);
@@ -83,7 +90,7 @@ public class ReviewService {
      * Retrieve paginated reviews for a specific product.
      * Validates product existence before fetching reviews. Each review includes customer details.
      */
-    @Cacheable(value = "paginated", key = "'product_reviews_' + #productId + '_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'product_reviews:' + #productId + '::' + #limit + '_' + #offset")
     public List<ReviewResponseDto> getReviewsByProduct(UUID productId, int limit, int offset) {
         checkThatProductExists(productId);
         PageRequest pageRequest = PageRequest.of(
@@ -95,11 +102,46 @@ public class ReviewService {
         return reviewMapper.toDTOList(reviews);
     }
 
+    /**
+     * Retrieve a product's reviews newest first, continuing after the given cursor.
+     * Validates product existence before fetching reviews.
+     */
+    @Cacheable(value = "paginated", key = "'product_reviews:' + #productId + '::after_' + #cursor + '_' + #limit")
+    public CursorPageDto<ReviewResponseDto> getReviewsByProductAfter(UUID productId, String cursor, int limit) {
+        int fetchSize = KeysetPagination.fetchSize(limit);
+        checkThatProductExists(productId);
+        Specification<Review> forProduct = (root, query, cb) ->
+                cb.equal(root.get("product").get("productId"), productId);
+
+        List<Review> reviews = reviewRepository.findBy(
+                forProduct.and(KeysetPagination.after(cursor, "createdAt", "reviewId")),
+                query -> query.sortBy(KeysetPagination.sort("createdAt", "reviewId")).limit(fetchSize).all()
+        );
+        return KeysetPagination.toPage(
+                reviews,
+                limit,
+                review -> new KeysetCursor(review.getCreatedAt(), review.getReviewId()),
+                reviewMapper::toDTOList
+        );
+    }
+
+    /**
+     * Retrieve the newest reviewLimit reviews of each given product in one query, grouped by product.
+     * Reviews carry only the customer id so the customers can be loaded separately, if at all.
+     */
+    public Map<UUID, List<ReviewResponseDto>> getTopReviewsByProducts(Collection<UUID> productIds, int reviewLimit) {
+        if (productIds.isEmpty()) return Map.of();
+
+        return reviewRepository.findTopReviewsByProductIds(productIds, reviewLimit).stream()
+                .map(reviewMapper::toSummaryDTO)
+                .collect(Collectors.groupingBy(ReviewResponseDto::getProductId));
+    }
+
     /**
      * Retrieve paginated reviews made by a specific customer.
      * Validates customer existence before fetching reviews.
      */
-    @Cacheable(value = "paginated", key = "'customer_reviews_' + #customerId + '_' + #limit + '_' + #offset")
+    @Cacheable(value = "paginated", key = "'customer_reviews:' + #customerId + '::' + #limit + '_' + #offset")
     public List<ReviewResponseDto> getReviewsByCustomer(UUID customerId, int limit, int offset) {
         var customer = customerRepository.findById(customerId)
                 .orElseThrow(() -> new CustomerNotFoundException(customerId.toString()));
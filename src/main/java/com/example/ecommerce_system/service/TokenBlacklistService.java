@@ -1,27 +1,98 @@
 package com.example.ecommerce_system.service;
 
-import lombok.RequiredArgsConstructor;
-import org.springframework.cache.CacheManager;
+import com.example.ecommerce_system.util.ExpiringBloomFilter;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-@RequiredArgsConstructor
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked token ids, held in a local in-memory set on every node and kept in
+ * step with the shared {@link TokenRevocationStore} by polling every
+ * {@code jwt.blacklist.poll-interval-ms}. An expiring Bloom filter, rotated
+ * every token lifetime, sits in front of the set so the common case of a
+ * token that was never revoked is answered with a few bit reads.
+ */
+@Slf4j
 @Service
 public class TokenBlacklistService {
 
-    private final CacheManager cacheManager;
+    private final TokenRevocationStore revocationStore;
+    private final long expirationMs;
+    private final ExpiringBloomFilter revokedFilter;
+    private final Map<String, Instant> revoked = new ConcurrentHashMap<>();
+
+    public TokenBlacklistService(
+            TokenRevocationStore revocationStore,
+            @Value("${jwt.token.expiration-ms:86400000}") long expirationMs,
+            @Value("${jwt.blacklist.expected-revocations:100000}") int expectedRevocations,
+            @Value("${jwt.blacklist.false-positive-rate:0.01}") double falsePositiveRate
+    ) {
+        this.revocationStore = revocationStore;
+        this.expirationMs = expirationMs;
+        this.revokedFilter = new ExpiringBloomFilter(expectedRevocations, falsePositiveRate, expirationMs);
+    }
 
+    /**
+     * Pulls revocations recorded by other nodes, or by this node before a restart.
+     */
+    @PostConstruct
+    @Scheduled(
+            initialDelayString = "${jwt.blacklist.poll-interval-ms:1000}",
+            fixedDelayString = "${jwt.blacklist.poll-interval-ms:1000}"
+    )
+    public void sync() {
+        List<TokenRevocationStore.Revocation> revocations;
+        try {
+            revocations = revocationStore.fetchNew();
+        } catch (RuntimeException e) {
+            log.warn("Unable to fetch token revocations, will retry: {}", e.getMessage());
+            return;
+        }
+        revocations.forEach(revocation -> remember(revocation.jti(), revocation.expiresAt()));
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.blacklist.prune-interval-ms:600000}")
+    public void pruneExpired() {
+        Instant now = Instant.now();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        try {
+            revocationStore.pruneExpired();
+        } catch (RuntimeException e) {
+            log.warn("Unable to prune expired token revocations: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Revokes the token on this node immediately and on the others once they
+     * next poll the store.
+     */
     public void blacklistToken(String jti) {
-        var cache = cacheManager.getCache("tokenBlacklist");
-        if (cache != null) {
-            cache.put(jti, true);
+        Instant expiresAt = Instant.now().plusMillis(expirationMs);
+        remember(jti, expiresAt);
+        try {
+            revocationStore.revoke(jti, expiresAt);
+        } catch (RuntimeException e) {
+            log.warn("Unable to record revocation of token {}, other nodes will not see it: {}",
+                    jti, e.getMessage());
         }
     }
 
     public boolean isBlacklisted(String jti) {
-        var cache = cacheManager.getCache("tokenBlacklist");
-        if (cache != null) {
-            return cache.get(jti, Boolean.class) != null;
-        }
-        return false;
+        if (!revokedFilter.mightContain(jti)) return false;
+
+        Instant expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt.isAfter(Instant.now());
+    }
+
+    private void remember(String jti, Instant expiresAt) {
+        revoked.merge(jti, expiresAt, (current, added) -> current.isAfter(added) ? current : added);
+        revokedFilter.add(jti);
     }
 }
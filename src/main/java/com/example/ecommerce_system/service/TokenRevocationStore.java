@@ -0,0 +1,28 @@
+package com.example.ecommerce_system.service;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Backend that records revoked token ids so that every node running
+ * {@link TokenBlacklistService} learns about them. Selected with
+ * {@code jwt.blacklist.store}.
+ */
+public interface TokenRevocationStore {
+
+    void revoke(String jti, Instant expiresAt);
+
+    /**
+     * Unexpired revocations recorded since the previous call, by any node.
+     * The first call returns every unexpired revocation. A revocation may be
+     * returned more than once.
+     */
+    List<Revocation> fetchNew();
+
+    /**
+     * Deletes revocations whose tokens have expired.
+     */
+    void pruneExpired();
+
+    record Revocation(String jti, Instant expiresAt) {}
+}
@@ -0,0 +1,104 @@
+package com.example.ecommerce_system.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free Bloom filter whose entries expire after at least one window.
+ * Keys are added to the current generation; once a window has passed the
+ * current generation becomes the previous one and the oldest is dropped, so
+ * a key stays visible for between one and two windows. A negative answer is
+ * definite, a positive one has to be confirmed elsewhere.
+ */
+public class ExpiringBloomFilter {
+
+    private final int bitCount;
+    private final int hashCount;
+    private final long windowMillis;
+    private final LongSupplier clock;
+    private volatile Generations generations;
+
+    public ExpiringBloomFilter(int expectedInsertions, double falsePositiveRate, long windowMillis) {
+        this(expectedInsertions, falsePositiveRate, windowMillis, System::currentTimeMillis);
+    }
+
+    public ExpiringBloomFilter(int expectedInsertions, double falsePositiveRate, long windowMillis, LongSupplier clock) {
+        int insertions = Math.max(1, expectedInsertions);
+        double bits = -insertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2));
+        this.bitCount = (int) Math.min(Integer.MAX_VALUE - 63, Math.max(64, Math.ceil(bits)));
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / insertions * Math.log(2)));
+        this.windowMillis = windowMillis;
+        this.clock = clock;
+        this.generations = new Generations(newBits(), newBits(), clock.getAsLong() + windowMillis);
+    }
+
+    public void add(String key) {
+        AtomicLongArray bits = current().current();
+        long hash = hash(key);
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitIndex(hash, i);
+            int word = bit >>> 6;
+            long mask = 1L << bit;
+            long value;
+            while (((value = bits.get(word)) & mask) == 0 && !bits.compareAndSet(word, value, value | mask)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    public boolean mightContain(String key) {
+        Generations snapshot = current();
+        long hash = hash(key);
+        return contains(snapshot.current(), hash) || contains(snapshot.previous(), hash);
+    }
+
+    private boolean contains(AtomicLongArray bits, long hash) {
+        for (int i = 0; i < hashCount; i++) {
+            int bit = bitIndex(hash, i);
+            if ((bits.get(bit >>> 6) & (1L << bit)) == 0) return false;
+        }
+        return true;
+    }
+
+    private Generations current() {
+        Generations snapshot = generations;
+        if (clock.getAsLong() < snapshot.rotatesAt()) return snapshot;
+
+        synchronized (this) {
+            long now = clock.getAsLong();
+            snapshot = generations;
+            if (now >= snapshot.rotatesAt()) {
+                boolean skippedWindow = now >= snapshot.rotatesAt() + windowMillis;
+                snapshot = new Generations(newBits(), skippedWindow ? newBits() : snapshot.current(), now + windowMillis);
+                generations = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    private AtomicLongArray newBits() {
+        return new AtomicLongArray((bitCount + 63) / 64);
+    }
+
+    /**
+     * Kirsch-Mitzenmacher double hashing over the two halves of a 64-bit hash.
+     */
+    private int bitIndex(long hash, int i) {
+        int combined = (int) hash + i * (int) (hash >>> 32);
+        return (combined & Integer.MAX_VALUE) % bitCount;
+    }
+
+    private static long hash(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < key.length(); i++) {
+            hash = (hash ^ key.charAt(i)) * 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+
+    private record Generations(AtomicLongArray current, AtomicLongArray previous, long rotatesAt) {}
+}
@@ -0,0 +1,133 @@
+package com.example.ecommerce_system.util;
+
+import java.util.Arrays;
+
+/**
+ * Append-only list of ascending document ids stored as variable-length
+ * encoded gaps, so ids that are close together take one byte each. Built for
+ * the in-memory product index, where new products always get a higher id
+ * than any before them.
+ *
+ * <p>Not thread-safe; callers guard mutation and iteration with their own lock.
+ */
+public final class IntPostingList {
+
+    private byte[] bytes = new byte[4];
+    private int length;
+    private int size;
+    private int last = -1;
+
+    public void add(int docId) {
+        if (docId <= last)
+            throw new IllegalArgumentException("Document ids must be added in ascending order: " + docId + " after " + last);
+
+        int gap = docId - last;
+        ensureCapacity(5);
+        while ((gap & ~0x7F) != 0) {
+            bytes[length++] = (byte) ((gap & 0x7F) | 0x80);
+            gap >>>= 7;
+        }
+        bytes[length++] = (byte) gap;
+        last = docId;
+        size++;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Bytes held by the encoded gaps, excluding unused capacity.
+     */
+    public int encodedBytes() {
+        return length;
+    }
+
+    /**
+     * Forward-only reader that decodes only as far as the callers advance,
+     * so an intersection that stops early leaves the rest of the list untouched.
+     */
+    public Cursor cursor() {
+        return new Cursor() {
+            private int position;
+            private int read;
+            private int current = -1;
+
+            @Override
+            public int advance(int target) {
+                while (current < target) {
+                    if (read == size) return current = NO_MORE;
+                    int gap = 0;
+                    int shift = 0;
+                    byte b;
+                    do {
+                        b = bytes[position++];
+                        gap |= (b & 0x7F) << shift;
+                        shift += 7;
+                    } while ((b & 0x80) != 0);
+                    current += gap;
+                    read++;
+                }
+                return current;
+            }
+        };
+    }
+
+    public int[] toArray() {
+        int[] docIds = new int[size];
+        int docId = -1;
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            int gap = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = bytes[position++];
+                gap |= (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            docId += gap;
+            docIds[i] = docId;
+        }
+        return docIds;
+    }
+
+    /**
+     * Shrinks the backing array to the encoded length, for lists that are
+     * finished growing.
+     */
+    public void trim() {
+        if (bytes.length != length) bytes = Arrays.copyOf(bytes, Math.max(length, 1));
+    }
+
+    /**
+     * Ascending document ids, read by moving forward to a target.
+     */
+    public interface Cursor {
+
+        int NO_MORE = Integer.MAX_VALUE;
+
+        /**
+         * The first id at or after the target, or {@link #NO_MORE}. Targets
+         * must not decrease between calls.
+         */
+        int advance(int target);
+
+        static Cursor of(int[] docIds) {
+            return new Cursor() {
+                private int index;
+
+                @Override
+                public int advance(int target) {
+                    while (index < docIds.length && docIds[index] < target) index++;
+                    return index < docIds.length ? docIds[index] : NO_MORE;
+                }
+            };
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > bytes.length)
+            bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + extra));
+    }
+}
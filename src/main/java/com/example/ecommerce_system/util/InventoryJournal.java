@@ -0,0 +1,150 @@
+package com.example.ecommerce_system.util;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of stock reservations kept by the inventory ledger.
+ * Records are written to segment files; a segment is rotated out on every
+ * flush and deleted once its deltas have been applied to the database.
+ * Segments left behind by a crash are replayed on startup.
+ */
+public class InventoryJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "inventory-";
+    private static final String SEGMENT_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final boolean syncOnWrite;
+    private final AtomicLong sequence = new AtomicLong();
+    private final String generation = Long.toString(System.currentTimeMillis());
+
+    private Path activeSegment;
+    private FileChannel channel;
+
+    public InventoryJournal(Path directory, boolean syncOnWrite) {
+        this.directory = directory;
+        this.syncOnWrite = syncOnWrite;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to create journal directory " + directory, e);
+        }
+    }
+
+    /**
+     * Lists segments written by a previous run, oldest first.
+     * Must be called before the first append.
+     */
+    public List<Path> existingSegments() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                    .filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+                    })
+                    .sorted()
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to list journal segments in " + directory, e);
+        }
+    }
+
+    /**
+     * Reads a segment and sums its deltas per product.
+     */
+    public static Map<UUID, Integer> readSegment(Path segment) {
+        Map<UUID, Integer> deltas = new HashMap<>();
+        try (Stream<String> lines = Files.lines(segment, StandardCharsets.UTF_8)) {
+            lines.forEach(line -> {
+                int separator = line.indexOf(',');
+                // A torn final record from a crash mid-write is ignored
+                if (separator < 0 || !line.endsWith(";")) return;
+                UUID productId = UUID.fromString(line.substring(0, separator));
+                int delta = Integer.parseInt(line.substring(separator + 1, line.length() - 1));
+                deltas.merge(productId, delta, Integer::sum);
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to read journal segment " + segment, e);
+        }
+        deltas.values().removeIf(delta -> delta == 0);
+        return deltas;
+    }
+
+    /**
+     * Appends stock deltas per product in a single write. Positive values
+     * reserve stock, negative values release it.
+     */
+    public synchronized void append(Map<UUID, Integer> deltas) {
+        StringBuilder records = new StringBuilder(deltas.size() * 48);
+        deltas.forEach((productId, delta) ->
+                records.append(productId).append(',').append(delta).append(";\n"));
+        byte[] record = records.toString().getBytes(StandardCharsets.UTF_8);
+        try {
+            FileChannel target = activeChannel();
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            if (syncOnWrite) target.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to append to journal segment " + activeSegment, e);
+        }
+    }
+
+    /**
+     * Closes the active segment and returns it, or null when nothing was
+     * written since the last rotation. The next append opens a new segment.
+     */
+    public synchronized Path rotate() {
+        if (channel == null) return null;
+        Path closed = activeSegment;
+        try {
+            channel.force(false);
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to close journal segment " + closed, e);
+        } finally {
+            channel = null;
+            activeSegment = null;
+        }
+        return closed;
+    }
+
+    public void delete(Path segment) {
+        try {
+            Files.deleteIfExists(segment);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unable to delete journal segment " + segment, e);
+        }
+    }
+
+    private FileChannel activeChannel() throws IOException {
+        if (channel == null) {
+            String name = String.format("%s%s-%08d%s",
+                    SEGMENT_PREFIX, generation, sequence.incrementAndGet(), SEGMENT_SUFFIX);
+            activeSegment = directory.resolve(name);
+            channel = FileChannel.open(activeSegment,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    @Override
+    public synchronized void close() {
+        rotate();
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.ecommerce_system.util;
+
+import com.example.ecommerce_system.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last row of a keyset page: its sort key (absent when a
+ * listing is ordered by id alone) and its id as a tiebreaker.
+ * Clients receive it as an opaque URL-safe token.
+ */
+public record KeysetCursor(Instant sortKey, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    public String encode() {
+        String raw = (sortKey != null ? sortKey.toString() : "") + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) throw new InvalidCursorException(cursor);
+
+            String sortKey = raw.substring(0, separator);
+            return new KeysetCursor(
+                    sortKey.isEmpty() ? null : Instant.parse(sortKey),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(cursor);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.ecommerce_system.util;
+
+import com.example.ecommerce_system.dto.CursorPageDto;
+import com.example.ecommerce_system.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Seek-based pagination helpers. Listings are ordered by a timestamp
+ * descending with the id as tiebreaker, and each page continues strictly
+ * after the cursor row, so the database walks the matching composite index
+ * instead of counting past an OFFSET.
+ */
+public class KeysetPagination {
+
+    /**
+     * Restricts a query to rows after the cursor. A null cursor starts at the first row.
+     * A null sort attribute orders by id alone.
+     */
+    public static <T> Specification<T> after(String cursor, String sortAttribute, String idAttribute) {
+        if (cursor == null || cursor.isBlank()) return (root, query, cb) -> null;
+
+        KeysetCursor position = KeysetCursor.decode(cursor);
+        if (sortAttribute == null)
+            return (root, query, cb) -> cb.lessThan(root.get(idAttribute), position.id());
+        if (position.sortKey() == null)
+            throw new InvalidCursorException(cursor);
+
+        return (root, query, cb) -> cb.or(
+                cb.lessThan(root.<Instant>get(sortAttribute), position.sortKey()),
+                cb.and(
+                        cb.equal(root.get(sortAttribute), position.sortKey()),
+                        cb.lessThan(root.<UUID>get(idAttribute), position.id())
+                )
+        );
+    }
+
+    public static Sort sort(String sortAttribute, String idAttribute) {
+        return sortAttribute == null
+                ? Sort.by(idAttribute).descending()
+                : Sort.by(sortAttribute, idAttribute).descending();
+    }
+
+    /**
+     * Rows to fetch for a page of the given size: one more than the page, to
+     * tell whether another follows. Sizes below one are rejected, as no page
+     * or next cursor can be built from them.
+     */
+    public static int fetchSize(int limit) {
+        if (limit < 1) throw new IllegalArgumentException("limit must be at least 1");
+        return limit + 1;
+    }
+
+    /**
+     * Builds a page from rows fetched with {@link #fetchSize}; the extra row only
+     * signals that another page exists and is not returned.
+     */
+    public static <E, D> CursorPageDto<D> toPage(
+            List<E> rows,
+            int limit,
+            Function<E, KeysetCursor> positionOf,
+            Function<List<E>, List<D>> mapper
+    ) {
+        boolean hasNext = rows.size() > limit;
+        List<E> page = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = hasNext ? positionOf.apply(page.get(page.size() - 1)).encode() : null;
+
+        return CursorPageDto.<D>builder()
+                .items(mapper.apply(page))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.ecommerce_system.util;
+
+/**
+ * Fixed-size log-linear histogram of durations in microseconds.
+ * Values below 128µs are counted exactly; above that every power of two is
+ * split into 64 buckets, so reported percentiles are within about 1.6% of the
+ * true value. Memory is constant (2048 counters) no matter how many values
+ * are recorded, and two histograms can be merged by adding their counters.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 128;
+    private static final int SUB_BUCKETS = 64;
+    private static final int BUCKET_COUNT = 2048;
+    private static final long MAX_TRACKABLE = (1L << 36) - 1;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long count;
+    private long sum;
+    private long min = Long.MAX_VALUE;
+    private long max;
+
+    public void record(long micros) {
+        long value = Math.max(0, Math.min(micros, MAX_TRACKABLE));
+        counts[indexOf(value)]++;
+        count++;
+        sum += value;
+        min = Math.min(min, value);
+        max = Math.max(max, value);
+    }
+
+    public LatencyHistogram merge(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) counts[i] += other.counts[i];
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return count > 0 ? (double) sum / count : 0;
+    }
+
+    public long getMin() {
+        return count > 0 ? min : 0;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    /**
+     * Value at the given percentile (0-100), in microseconds.
+     */
+    public long percentile(double percentile) {
+        if (count == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) return Math.min(max, Math.max(min, valueOf(i)));
+        }
+        return max;
+    }
+
+    private static int indexOf(long value) {
+        if (value < LINEAR_BUCKETS) return (int) value;
+
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        int subBucket = (int) (value >> shift) - SUB_BUCKETS;
+        return LINEAR_BUCKETS + (shift - 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Midpoint of the bucket at the given index.
+     */
+    private static long valueOf(int index) {
+        if (index < LINEAR_BUCKETS) return index;
+
+        int shift = (index - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+        long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+        long lower = subBucket << shift;
+        return lower + ((1L << shift) - 1) / 2;
+    }
+}
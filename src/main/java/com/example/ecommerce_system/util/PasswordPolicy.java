@@ -0,0 +1,84 @@
+package com.example.ecommerce_system.util;
+
+import com.example.ecommerce_system.exception.auth.WeakPasswordException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * Password strength rules, checked in a single scan over the password.
+ * Every rule that fails is reported, not only the first one.
+ * Letters and digits are matched as ASCII, like the character classes the
+ * rules replaced.
+ */
+@Component
+public class PasswordPolicy {
+
+    public static final String DEFAULT_SPECIAL_CHARACTERS = "!@#$%^&*()_+-=[]{};':\"\\|,.<>/?";
+
+    private final int minLength;
+    private final boolean requireUppercase;
+    private final boolean requireLowercase;
+    private final boolean requireDigit;
+    private final boolean requireSpecial;
+    private final BitSet specialCharacters = new BitSet(128);
+
+    public PasswordPolicy(
+            @Value("${auth.password-policy.min-length:8}") int minLength,
+            @Value("${auth.password-policy.require-uppercase:true}") boolean requireUppercase,
+            @Value("${auth.password-policy.require-lowercase:true}") boolean requireLowercase,
+            @Value("${auth.password-policy.require-digit:true}") boolean requireDigit,
+            @Value("${auth.password-policy.require-special:true}") boolean requireSpecial,
+            @Value("${auth.password-policy.special-characters:}") String specialCharacters
+    ) {
+        this.minLength = minLength;
+        this.requireUppercase = requireUppercase;
+        this.requireLowercase = requireLowercase;
+        this.requireDigit = requireDigit;
+        this.requireSpecial = requireSpecial;
+        String specials = specialCharacters.isEmpty() ? DEFAULT_SPECIAL_CHARACTERS : specialCharacters;
+        specials.chars().forEach(this.specialCharacters::set);
+    }
+
+    /**
+     * Throws with every violated rule when the password is too weak.
+     */
+    public void validate(String password) {
+        List<String> violations = violations(password);
+        if (!violations.isEmpty()) {
+            throw new WeakPasswordException(String.join(" ", violations));
+        }
+    }
+
+    public List<String> violations(String password) {
+        int length = password != null ? password.length() : 0;
+        boolean hasUppercase = false;
+        boolean hasLowercase = false;
+        boolean hasDigit = false;
+        boolean hasSpecial = false;
+
+        for (int i = 0; i < length; i++) {
+            char c = password.charAt(i);
+            if (c >= 'A' && c <= 'Z') hasUppercase = true;
+            else if (c >= 'a' && c <= 'z') hasLowercase = true;
+            else if (c >= '0' && c <= '9') hasDigit = true;
+            else if (specialCharacters.get(c)) hasSpecial = true;
+        }
+
+        List<String> violations = new ArrayList<>(0);
+        if (length < minLength)
+            violations.add("Password must be at least " + minLength + " characters long.");
+        if (requireUppercase && !hasUppercase)
+            violations.add("Password must contain at least one uppercase letter.");
+        if (requireLowercase && !hasLowercase)
+            violations.add("Password must contain at least one lowercase letter.");
+        if (requireDigit && !hasDigit)
+            violations.add("Password must contain at least one digit.");
+        if (requireSpecial && !hasSpecial)
+            violations.add("Password must contain at least one special character.");
+        return violations;
+    }
+}
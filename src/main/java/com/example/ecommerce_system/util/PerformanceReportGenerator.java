@@ -1,141 +1,466 @@
 package com.example.ecommerce_system.util;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
 import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.*;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
+/**
+ * Builds the REST vs GraphQL report from the performance lines written by
+ * {@code PerformanceMonitoringFilter}.
+ *
+ * <p>Accepts any number of log files or directories, including rotated and
+ * gzipped files. Plain files are memory-mapped and split into chunks, gzipped
+ * files are streamed whole, and all of them are scanned in parallel. Each
+ * endpoint is aggregated into a fixed-size {@link LatencyHistogram}, so memory
+ * does not grow with the number of log lines.
+ */
 public class PerformanceReportGenerator {
 
     private static final Pattern LOG_PATTERN = Pattern.compile(
-        "\\[(REST|GraphQL)]\\s+([^-]+)\\s+-\\s+Duration:\\s+(\\d+)ms,\\s+Payload Size:\\s+(\\d+)\\s+bytes"
+        "\\[(REST|GraphQL)]\\s+([^-]+)\\s+-\\s+Duration:\\s+([\\d.]+)ms,"
+            + "\\s+Request Size:\\s+(-?\\d+)\\s+bytes,\\s+Response Size:\\s+(-?\\d+)\\s+bytes"
     );
+    private static final byte[] METRIC_MARKER = "Duration:".getBytes(StandardCharsets.US_ASCII);
+    private static final long CHUNK_SIZE = 32L * 1024 * 1024;
+    private static final int MAX_LINE_OVERHANG = 64 * 1024;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final long DEFAULT_WINDOW_SECONDS = 60;
+    private static final List<String> API_TYPES = List.of("REST", "GraphQL");
 
     public static void main(String[] args) {
-        if (args.length == 0) {
+        List<Path> inputs = new ArrayList<>();
+        Path jsonOutput = null;
+        long windowSeconds = DEFAULT_WINDOW_SECONDS;
+
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--json" -> jsonOutput = Path.of(optionValue(args, ++i));
+                case "--window" -> windowSeconds = Long.parseLong(optionValue(args, ++i));
+                default -> inputs.add(Path.of(args[i]));
+            }
+        }
+        if (inputs.isEmpty() || windowSeconds <= 0) {
             printUsageAndExit();
         }
 
-        Map<String, List<MetricData>> restMetrics = new HashMap<>();
-        Map<String, List<MetricData>> graphqlMetrics = new HashMap<>();
+        try {
+            Report report = analyze(inputs, windowSeconds);
+            generateReport(report);
+            if (jsonOutput != null) {
+                writeJson(report, jsonOutput);
+                System.out.println("JSON report written to " + jsonOutput);
+            }
+        } catch (IOException | UncheckedIOException e) {
+            System.err.println("Error reading log file: " + e.getMessage());
+            System.exit(1);
+        }
+    }
 
-        parseLogFile(args[0], restMetrics, graphqlMetrics);
-        generateReport(restMetrics, graphqlMetrics);
+    private static String optionValue(String[] args, int index) {
+        if (index >= args.length) {
+            printUsageAndExit();
+        }
+        return args[index];
     }
 
     private static void printUsageAndExit() {
-        System.err.println("Usage: java PerformanceReportGenerator <log-file-path>");
-        System.err.println("Example: java PerformanceReportGenerator logs/application.log");
+        System.err.println("Usage: java PerformanceReportGenerator <log-file-or-directory>... "
+            + "[--json <output-file>] [--window <seconds>]");
+        System.err.println("Example: java PerformanceReportGenerator logs --json report.json --window 60");
         System.exit(1);
     }
 
-    private static void parseLogFile(String logFile, Map<String, List<MetricData>> restMetrics,
-                                     Map<String, List<MetricData>> graphqlMetrics) {
-        try (BufferedReader reader = new BufferedReader(new FileReader(logFile))) {
-            reader.lines()
-                .map(LOG_PATTERN::matcher)
-                .filter(Matcher::find)
-                .forEach(matcher -> {
-                    String type = matcher.group(1);
-                    String method = matcher.group(2).trim();
-                    MetricData data = new MetricData(
-                        Long.parseLong(matcher.group(3)),
-                        Long.parseLong(matcher.group(4))
-                    );
-
-                    Map<String, List<MetricData>> targetMap = "REST".equals(type) ? restMetrics : graphqlMetrics;
-                    targetMap.computeIfAbsent(method, k -> new ArrayList<>()).add(data);
+    /**
+     * Scans every input in parallel and aggregates the performance lines into
+     * per-endpoint percentiles and per-window call counts.
+     */
+    public static Report analyze(List<Path> inputs, long windowSeconds) throws IOException {
+        List<Path> files = expand(inputs);
+
+        List<Split> splits = new ArrayList<>();
+        for (Path file : files) {
+            splits.addAll(split(file));
+        }
+
+        Aggregate total = splits.parallelStream()
+            .map(split -> split.scan(windowSeconds))
+            .reduce(Aggregate::merge)
+            .orElseGet(() -> new Aggregate(windowSeconds));
+
+        return total.toReport(files.size());
+    }
+
+    private static List<Path> expand(List<Path> inputs) throws IOException {
+        List<Path> files = new ArrayList<>();
+        for (Path input : inputs) {
+            if (Files.isDirectory(input)) {
+                try (Stream<Path> children = Files.list(input)) {
+                    children.filter(Files::isRegularFile)
+                        .filter(path -> path.getFileName().toString().contains(".log"))
+                        .sorted()
+                        .forEach(files::add);
+                }
+            } else if (Files.isRegularFile(input)) {
+                files.add(input);
+            } else {
+                throw new IOException("Log file not found: " + input);
+            }
+        }
+        return files;
+    }
+
+    private static List<Split> split(Path file) throws IOException {
+        if (isGzipped(file)) {
+            return List.of(new Split(file, 0, Long.MAX_VALUE, true));
+        }
+
+        long size = Files.size(file);
+        List<Split> splits = new ArrayList<>();
+        for (long start = 0; start < size; start += CHUNK_SIZE) {
+            splits.add(new Split(file, start, Math.min(size, start + CHUNK_SIZE), false));
+        }
+        return splits;
+    }
+
+    private static boolean isGzipped(Path file) throws IOException {
+        try (InputStream in = Files.newInputStream(file)) {
+            return in.read() == 0x1f && in.read() == 0x8b;
+        }
+    }
+
+    /**
+     * A byte range of a plain log file, or a whole gzipped file. A range
+     * owns every line that starts inside it.
+     */
+    private record Split(Path file, long start, long end, boolean gzip) {
+
+        Aggregate scan(long windowSeconds) {
+            Aggregate aggregate = new Aggregate(windowSeconds);
+            try {
+                if (gzip) {
+                    scanGzip(aggregate);
+                } else {
+                    scanMapped(aggregate);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(file + ": " + e.getMessage(), e);
+            }
+            return aggregate;
+        }
+
+        private void scanGzip(Aggregate aggregate) throws IOException {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(file), READ_BUFFER_SIZE),
+                StandardCharsets.UTF_8), READ_BUFFER_SIZE)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.contains("Duration:")) aggregate.accept(line);
+                }
+            }
+        }
+
+        /**
+         * Maps the range plus the byte before it, so a line that starts exactly
+         * at {@code start} is recognised, and a little past {@code end}, so the
+         * last line of the range can be read to its end.
+         */
+        private void scanMapped(Aggregate aggregate) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                long mapStart = start > 0 ? start - 1 : 0;
+                long mapEnd = Math.min(channel.size(), end + MAX_LINE_OVERHANG);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, mapStart, mapEnd - mapStart);
+
+                int limit = buffer.limit();
+                int ownedEnd = (int) (end - mapStart);
+                int position = start > 0 ? nextLine(buffer, 0, limit) : 0;
+                byte[] lineBytes = new byte[1024];
+
+                while (position < ownedEnd && position < limit) {
+                    int lineEnd = indexOf(buffer, (byte) '\n', position, limit);
+                    int contentEnd = lineEnd > position && buffer.get(lineEnd - 1) == '\r' ? lineEnd - 1 : lineEnd;
+
+                    if (containsMarker(buffer, position, contentEnd)) {
+                        int length = contentEnd - position;
+                        if (lineBytes.length < length) lineBytes = new byte[length];
+                        buffer.get(position, lineBytes, 0, length);
+                        aggregate.accept(new String(lineBytes, 0, length, StandardCharsets.UTF_8));
+                    }
+                    position = lineEnd + 1;
+                }
+            }
+        }
+
+        private static int nextLine(MappedByteBuffer buffer, int from, int limit) {
+            return indexOf(buffer, (byte) '\n', from, limit) + 1;
+        }
+
+        private static int indexOf(MappedByteBuffer buffer, byte value, int from, int limit) {
+            for (int i = from; i < limit; i++) {
+                if (buffer.get(i) == value) return i;
+            }
+            return limit;
+        }
+
+        private static boolean containsMarker(MappedByteBuffer buffer, int from, int to) {
+            int last = to - METRIC_MARKER.length;
+            outer:
+            for (int i = from; i <= last; i++) {
+                for (int j = 0; j < METRIC_MARKER.length; j++) {
+                    if (buffer.get(i + j) != METRIC_MARKER[j]) continue outer;
+                }
+                return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Partial result of one split. Splits are aggregated independently and
+     * merged pairwise at the end, so no state is shared between threads.
+     */
+    private static final class Aggregate {
+
+        private final long windowSeconds;
+        private final Map<String, Map<String, EndpointStats>> endpointsByType = new HashMap<>();
+        private final Map<String, Map<Long, Long>> callsPerWindowByType = new HashMap<>();
+
+        Aggregate(long windowSeconds) {
+            this.windowSeconds = windowSeconds;
+        }
+
+        void accept(String line) {
+            Matcher matcher = LOG_PATTERN.matcher(line);
+            if (!matcher.find()) return;
+
+            String type = matcher.group(1);
+            endpointsByType.computeIfAbsent(type, k -> new HashMap<>())
+                .computeIfAbsent(matcher.group(2).trim(), k -> new EndpointStats())
+                .record(
+                    Math.round(Double.parseDouble(matcher.group(3)) * 1000),
+                    Long.parseLong(matcher.group(4)),
+                    Long.parseLong(matcher.group(5))
+                );
+
+            long epochSecond = timestampOf(line);
+            if (epochSecond >= 0) {
+                callsPerWindowByType.computeIfAbsent(type, k -> new HashMap<>())
+                    .merge(epochSecond - Math.floorMod(epochSecond, windowSeconds), 1L, Long::sum);
+            }
+        }
+
+        Aggregate merge(Aggregate other) {
+            other.endpointsByType.forEach((type, endpoints) -> {
+                Map<String, EndpointStats> target = endpointsByType.computeIfAbsent(type, k -> new HashMap<>());
+                endpoints.forEach((method, stats) -> target.merge(method, stats, EndpointStats::merge));
+            });
+            other.callsPerWindowByType.forEach((type, windows) -> {
+                Map<Long, Long> target = callsPerWindowByType.computeIfAbsent(type, k -> new HashMap<>());
+                windows.forEach((window, calls) -> target.merge(window, calls, Long::sum));
+            });
+            return this;
+        }
+
+        Report toReport(int fileCount) {
+            List<EndpointSummary> endpoints = new ArrayList<>();
+            List<ApiSummary> apis = new ArrayList<>();
+
+            for (String type : API_TYPES) {
+                Map<String, EndpointStats> byMethod = endpointsByType.getOrDefault(type, Map.of());
+                EndpointStats overall = new EndpointStats();
+
+                new TreeMap<>(byMethod).forEach((method, stats) -> {
+                    endpoints.add(stats.summarize(type, method));
+                    overall.merge(stats);
                 });
-        } catch (Exception e) {
-            System.err.println("Error reading log file: " + e.getMessage());
-            System.exit(1);
+
+                apis.add(summarizeApi(type, overall, callsPerWindowByType.getOrDefault(type, Map.of())));
+            }
+            return new Report(fileCount, windowSeconds, apis, endpoints);
+        }
+
+        private ApiSummary summarizeApi(String type, EndpointStats overall, Map<Long, Long> callsPerWindow) {
+            List<WindowCount> windows = new TreeMap<>(callsPerWindow).entrySet().stream()
+                .map(entry -> new WindowCount(
+                    LocalDateTime.ofEpochSecond(entry.getKey(), 0, ZoneOffset.UTC).toString(),
+                    entry.getValue(),
+                    (double) entry.getValue() / windowSeconds))
+                .toList();
+
+            double avgPerSecond = 0;
+            double peakPerSecond = 0;
+            if (!callsPerWindow.isEmpty()) {
+                long first = Collections.min(callsPerWindow.keySet());
+                long last = Collections.max(callsPerWindow.keySet());
+                long totalCalls = callsPerWindow.values().stream().mapToLong(Long::longValue).sum();
+                avgPerSecond = (double) totalCalls / (last - first + windowSeconds);
+                peakPerSecond = windows.stream().mapToDouble(WindowCount::callsPerSecond).max().orElse(0);
+            }
+
+            return new ApiSummary(type, overall.summarize(type, "*"), avgPerSecond, peakPerSecond, windows);
+        }
+
+        /**
+         * Seconds of the leading {@code yyyy-MM-dd HH:mm:ss} timestamp, treated
+         * as UTC since only the distance between windows matters, or -1.
+         */
+        private static long timestampOf(String line) {
+            if (line.length() < 19 || line.charAt(4) != '-' || line.charAt(10) != ' ' || line.charAt(13) != ':') {
+                return -1;
+            }
+            try {
+                return LocalDateTime.of(
+                    Integer.parseInt(line, 0, 4, 10),
+                    Integer.parseInt(line, 5, 7, 10),
+                    Integer.parseInt(line, 8, 10, 10),
+                    Integer.parseInt(line, 11, 13, 10),
+                    Integer.parseInt(line, 14, 16, 10),
+                    Integer.parseInt(line, 17, 19, 10)
+                ).toEpochSecond(ZoneOffset.UTC);
+            } catch (RuntimeException e) {
+                return -1;
+            }
         }
     }
 
-    private static void generateReport(Map<String, List<MetricData>> rest, Map<String, List<MetricData>> graphql) {
-        printHeader();
-        printEndpointMetrics("REST ENDPOINTS", rest);
-        printEndpointMetrics("GRAPHQL ENDPOINTS", graphql);
-        printOverallComparison(rest, graphql);
+    private static final class EndpointStats {
+
+        private final LatencyHistogram durations = new LatencyHistogram();
+        private long requestBytes;
+        private long requestCount;
+        private long responseBytes;
+        private long responseCount;
+
+        void record(long durationMicros, long requestSize, long responseSize) {
+            durations.record(durationMicros);
+            if (requestSize >= 0) {
+                requestBytes += requestSize;
+                requestCount++;
+            }
+            if (responseSize >= 0) {
+                responseBytes += responseSize;
+                responseCount++;
+            }
+        }
+
+        EndpointStats merge(EndpointStats other) {
+            durations.merge(other.durations);
+            requestBytes += other.requestBytes;
+            requestCount += other.requestCount;
+            responseBytes += other.responseBytes;
+            responseCount += other.responseCount;
+            return this;
+        }
+
+        EndpointSummary summarize(String type, String method) {
+            return new EndpointSummary(
+                type,
+                method,
+                durations.getCount(),
+                durations.getMean() / 1000,
+                durations.getMin() / 1000.0,
+                durations.getMax() / 1000.0,
+                durations.percentile(50) / 1000.0,
+                durations.percentile(95) / 1000.0,
+                durations.percentile(99) / 1000.0,
+                requestCount > 0 ? (double) requestBytes / requestCount : 0,
+                responseCount > 0 ? (double) responseBytes / responseCount : 0
+            );
+        }
     }
 
-    private static void printHeader() {
+    private static void writeJson(Report report, Path output) throws IOException {
+        new ObjectMapper()
+            .enable(SerializationFeature.INDENT_OUTPUT)
+            .writeValue(output.toFile(), report);
+    }
+
+    private static void generateReport(Report report) {
+        printHeader(report);
+        printEndpointMetrics("REST ENDPOINTS", report.endpointsOf("REST"));
+        printEndpointMetrics("GRAPHQL ENDPOINTS", report.endpointsOf("GraphQL"));
+        printOverallComparison(report.api("REST"), report.api("GraphQL"));
+    }
+
+    private static void printHeader(Report report) {
         System.out.println("==========================================================");
         System.out.println("           PERFORMANCE COMPARISON REPORT");
-        System.out.println("==========================================================\n");
+        System.out.println("==========================================================");
+        System.out.printf("  Files: %d, throughput window: %ds\n\n", report.files(), report.windowSeconds());
     }
 
-    private static void printEndpointMetrics(String title, Map<String, List<MetricData>> metrics) {
+    private static void printEndpointMetrics(String title, List<EndpointSummary> endpoints) {
         System.out.println(title);
         System.out.println("----------------------------------------------------------");
 
-        if (metrics.isEmpty()) {
+        if (endpoints.isEmpty()) {
             System.out.println("  No data found\n");
             return;
         }
 
-        metrics.forEach(PerformanceReportGenerator::printMethodMetrics);
+        endpoints.forEach(PerformanceReportGenerator::printMethodMetrics);
     }
 
-    private static void printMethodMetrics(String method, List<MetricData> dataList) {
-        DoubleSummaryStatistics durationStats = dataList.stream()
-            .mapToDouble(MetricData::getDuration)
-            .summaryStatistics();
-        DoubleSummaryStatistics payloadStats = dataList.stream()
-            .mapToDouble(MetricData::getPayloadSize)
-            .summaryStatistics();
-
-        System.out.printf("  %s\n", method);
-        System.out.printf("    Calls:           %d\n", durationStats.getCount());
-        System.out.printf("    Avg Duration:    %.2fms\n", durationStats.getAverage());
-        System.out.printf("    Min Duration:    %.0fms\n", durationStats.getMin());
-        System.out.printf("    Max Duration:    %.0fms\n", durationStats.getMax());
-        System.out.printf("    Avg Payload:     %.2f bytes\n\n", payloadStats.getAverage());
+    private static void printMethodMetrics(EndpointSummary endpoint) {
+        System.out.printf("  %s\n", endpoint.method());
+        System.out.printf("    Calls:           %d\n", endpoint.calls());
+        System.out.printf("    Avg Duration:    %.2fms\n", endpoint.avgMs());
+        System.out.printf("    Min Duration:    %.3fms\n", endpoint.minMs());
+        System.out.printf("    Max Duration:    %.3fms\n", endpoint.maxMs());
+        System.out.printf("    P50/P95/P99:     %.3f / %.3f / %.3fms\n", endpoint.p50Ms(), endpoint.p95Ms(), endpoint.p99Ms());
+        System.out.printf("    Avg Request:     %.2f bytes\n", endpoint.avgRequestBytes());
+        System.out.printf("    Avg Response:    %.2f bytes\n\n", endpoint.avgResponseBytes());
     }
 
-    private static void printOverallComparison(Map<String, List<MetricData>> rest, Map<String, List<MetricData>> graphql) {
+    private static void printOverallComparison(ApiSummary rest, ApiSummary graphql) {
         System.out.println("OVERALL COMPARISON");
         System.out.println("----------------------------------------------------------");
 
-        ApiStats restStats = calculateStats(rest);
-        ApiStats graphqlStats = calculateStats(graphql);
+        printApiSummary("REST API", rest);
+        printApiSummary("GraphQL API", graphql);
 
-        printApiSummary("REST API", restStats);
-        printApiSummary("GraphQL API", graphqlStats);
-
-        if (restStats.avgDuration > 0 && graphqlStats.avgDuration > 0) {
-            printComparisonAnalysis(restStats, graphqlStats);
+        if (rest.latency().avgMs() > 0 && graphql.latency().avgMs() > 0) {
+            printComparisonAnalysis(rest.latency(), graphql.latency());
         }
 
         System.out.println("==========================================================");
     }
 
-    private static ApiStats calculateStats(Map<String, List<MetricData>> metrics) {
-        List<MetricData> allData = metrics.values().stream()
-            .flatMap(Collection::stream)
-            .toList();
-
-        return new ApiStats(
-            allData.size(),
-            allData.stream().mapToDouble(MetricData::getDuration).average().orElse(0),
-            allData.stream().mapToDouble(MetricData::getPayloadSize).average().orElse(0)
-        );
-    }
-
-    private static void printApiSummary(String name, ApiStats stats) {
+    private static void printApiSummary(String name, ApiSummary api) {
+        EndpointSummary latency = api.latency();
         System.out.printf("  %s\n", name);
-        System.out.printf("    Total Calls:       %d\n", stats.callCount);
-        System.out.printf("    Avg Duration:      %.2fms\n", stats.avgDuration);
-        System.out.printf("    Avg Payload Size:  %.2f bytes\n\n", stats.avgPayload);
+        System.out.printf("    Total Calls:       %d\n", latency.calls());
+        System.out.printf("    Avg Duration:      %.2fms\n", latency.avgMs());
+        System.out.printf("    P50/P95/P99:       %.3f / %.3f / %.3fms\n", latency.p50Ms(), latency.p95Ms(), latency.p99Ms());
+        System.out.printf("    Throughput:        %.2f/s avg, %.2f/s peak\n", api.avgCallsPerSecond(), api.peakCallsPerSecond());
+        System.out.printf("    Avg Response Size: %.2f bytes\n\n", latency.avgResponseBytes());
     }
 
-    private static void printComparisonAnalysis(ApiStats rest, ApiStats graphql) {
+    private static void printComparisonAnalysis(EndpointSummary rest, EndpointSummary graphql) {
         System.out.println("  COMPARISON ANALYSIS");
         System.out.println("  --------------------------------------------------");
 
-        printComparison("Speed", rest.avgDuration, graphql.avgDuration, "ms", "faster");
-        printComparison("Payload", rest.avgPayload, graphql.avgPayload, "bytes", "smaller payload");
+        printComparison("Speed", rest.avgMs(), graphql.avgMs(), "ms", "faster");
+        printComparison("P99", rest.p99Ms(), graphql.p99Ms(), "ms", "faster at the tail");
+        printComparison("Payload", rest.avgResponseBytes(), graphql.avgResponseBytes(), "bytes", "smaller payload");
     }
 
     private static void printComparison(String metric, double restValue, double graphqlValue,
@@ -148,15 +473,23 @@ public class PerformanceReportGenerator {
             metric, winner, diff, unit, percentage, qualifier);
     }
 
-    private record MetricData(long duration, long payloadSize) {
-        public long getDuration() {
-            return duration;
+    public record Report(int files, long windowSeconds, List<ApiSummary> apis, List<EndpointSummary> endpoints) {
+
+        public ApiSummary api(String type) {
+            return apis.stream().filter(api -> api.type().equals(type)).findFirst().orElseThrow();
         }
 
-        public long getPayloadSize() {
-            return payloadSize;
+        public List<EndpointSummary> endpointsOf(String type) {
+            return endpoints.stream().filter(endpoint -> endpoint.type().equals(type)).toList();
         }
     }
 
-    private record ApiStats(long callCount, double avgDuration, double avgPayload) {}
+    public record ApiSummary(String type, EndpointSummary latency, double avgCallsPerSecond,
+                             double peakCallsPerSecond, List<WindowCount> windows) {}
+
+    public record EndpointSummary(String type, String method, long calls, double avgMs, double minMs, double maxMs,
+                                  double p50Ms, double p95Ms, double p99Ms,
+                                  double avgRequestBytes, double avgResponseBytes) {}
+
+    public record WindowCount(String start, long calls, double callsPerSecond) {}
 }
@@ -0,0 +1,72 @@
+package com.example.ecommerce_system.util;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+/**
+ * Price bands used by the product facets. The configured bounds split prices
+ * into consecutive buckets: below the first bound, between each pair of
+ * bounds, and at or above the last one.
+ */
+@Component
+public class PriceBuckets {
+
+    private final double[] bounds;
+
+    @Autowired
+    public PriceBuckets(@Value("${product.facets.price-bucket-bounds:25,50,100,250,500}") String bounds) {
+        this(Arrays.stream(bounds.split(","))
+                .map(String::trim)
+                .filter(bound -> !bound.isEmpty())
+                .mapToDouble(Double::parseDouble)
+                .toArray());
+    }
+
+    public PriceBuckets(double... bounds) {
+        for (int i = 1; i < bounds.length; i++) {
+            if (bounds[i] <= bounds[i - 1])
+                throw new IllegalArgumentException("Price bucket bounds must be ascending: " + Arrays.toString(bounds));
+        }
+        this.bounds = bounds.clone();
+    }
+
+    public int size() {
+        return bounds.length + 1;
+    }
+
+    public int indexOf(double price) {
+        int index = Arrays.binarySearch(bounds, price);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+
+    /**
+     * Inclusive lower price of the bucket, or null for the first one.
+     */
+    public Double lowerBound(int bucket) {
+        return bucket == 0 ? null : bounds[bucket - 1];
+    }
+
+    /**
+     * Exclusive upper price of the bucket, or null for the last one.
+     */
+    public Double upperBound(int bucket) {
+        return bucket == bounds.length ? null : bounds[bucket];
+    }
+
+    /**
+     * SQL expression giving the bucket of the column, matching {@link #indexOf}.
+     * The bounds are parsed numbers, so they are safe to inline.
+     */
+    public String toSqlCase(String column) {
+        if (bounds.length == 0) return "0";
+
+        StringBuilder sql = new StringBuilder("CASE");
+        for (int i = 0; i < bounds.length; i++)
+            sql.append(" WHEN ").append(column).append(" < ").append(BigDecimal.valueOf(bounds[i]).toPlainString()).append(" THEN ").append(i);
+        return sql.append(" ELSE ").append(bounds.length).append(" END").toString();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.ecommerce_system.util;
+
+import com.example.ecommerce_system.dto.product.CategoryFacetDto;
+import com.example.ecommerce_system.dto.product.PriceBucketFacetDto;
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Rolls counts of products grouped by category and price bucket up into the
+ * per-category and per-bucket facets, so both come out of a single pass.
+ */
+public final class ProductFacetCounter {
+
+    private final PriceBuckets priceBuckets;
+    private final Map<UUID, Long> categoryCounts = new HashMap<>();
+    private final long[] bucketCounts;
+    private long total;
+
+    public ProductFacetCounter(PriceBuckets priceBuckets) {
+        this.priceBuckets = priceBuckets;
+        this.bucketCounts = new long[priceBuckets.size()];
+    }
+
+    public void add(UUID categoryId, int bucket, long count) {
+        categoryCounts.merge(categoryId, count, Long::sum);
+        bucketCounts[bucket] += count;
+        total += count;
+    }
+
+    /**
+     * Categories with the most products first. Every price bucket is listed,
+     * in price order, including empty ones.
+     */
+    public ProductFacetsDto toDto() {
+        List<CategoryFacetDto> categories = categoryCounts.entrySet().stream()
+                .sorted(Map.Entry.<UUID, Long>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())))
+                .map(entry -> new CategoryFacetDto(entry.getKey(), entry.getValue()))
+                .toList();
+        List<PriceBucketFacetDto> buckets = IntStream.range(0, bucketCounts.length)
+                .mapToObj(bucket -> new PriceBucketFacetDto(
+                        priceBuckets.lowerBound(bucket), priceBuckets.upperBound(bucket), bucketCounts[bucket]))
+                .toList();
+        return new ProductFacetsDto(total, categories, buckets);
+    }
+}
@@ -0,0 +1,143 @@
+package com.example.ecommerce_system.util;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Turns the free-text parts of a {@link ProductFilter} into a PostgreSQL
+ * {@code tsquery} over the weighted {@code product.search_vector} column.
+ * Every word becomes a prefix match and all of them must match; name words
+ * are restricted to weight A (the name) and description words to weight B.
+ * Only letters and digits are kept, so user input can never inject tsquery
+ * operators. The query is parsed with the 'simple' configuration, which
+ * neither stems nor drops stop words.
+ *
+ * <p>{@link #lexemes} reproduces what PostgreSQL's default parser and the
+ * 'simple' configuration store in {@code search_vector} for a product's
+ * text, so the in-memory index matches the same products as the database.
+ */
+public final class ProductSearchQuery {
+
+    private static final Pattern WORD = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final String SEPARATORS = ",;!?()[]{}\"'";
+    private static final int MAX_LEXEME_BYTES = 2047;
+
+    private ProductSearchQuery() {
+    }
+
+    public static boolean hasText(ProductFilter filter) {
+        return toTsQuery(filter).isPresent();
+    }
+
+    public static Optional<String> toTsQuery(ProductFilter filter) {
+        StringJoiner terms = new StringJoiner(" & ");
+        if (filter.hasName()) addTerms(terms, filter.getName(), 'A');
+        if (filter.hasDescription()) addTerms(terms, filter.getDescription(), 'B');
+        return terms.length() == 0 ? Optional.empty() : Optional.of(terms.toString());
+    }
+
+    /**
+     * The lower-cased words of the text, split on anything that is not a
+     * letter or digit. These are the query terms of both the database and
+     * the in-memory index.
+     */
+    public static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        Matcher word = WORD.matcher(text.toLowerCase(Locale.ROOT));
+        while (word.find()) words.add(word.group());
+        return words;
+    }
+
+    /**
+     * The lexemes {@code to_tsvector('simple', text)} stores, in position
+     * order: plain words and numbers, decimal numbers and versions such as
+     * {@code 1.5} as one lexeme, and hyphenated words such as {@code e-mail}
+     * as the whole word followed by each part. Empty when the text holds a
+     * token the parser reads differently, such as an e-mail address, URL,
+     * host name, path or signed number, so the caller can leave it to the
+     * database.
+     */
+    public static Optional<List<String>> lexemes(String text) {
+        List<String> lexemes = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            int c = text.codePointAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                int end = tokenEnd(text, i);
+                if (!addToken(lexemes, text.substring(i, end))) return Optional.empty();
+                i = end;
+            } else if (isSeparator(text, i, c)) {
+                i += Character.charCount(c);
+            } else {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(lexemes);
+    }
+
+    /**
+     * The end of the letters and digits starting at {@code start}, including
+     * any further runs joined to them by a single '-' or '.'.
+     */
+    private static int tokenEnd(String text, int start) {
+        int end = alphanumericEnd(text, start);
+        while (end + 1 < text.length()
+                && (text.charAt(end) == '-' || text.charAt(end) == '.')
+                && Character.isLetterOrDigit(text.codePointAt(end + 1)))
+            end = alphanumericEnd(text, end + 1);
+        return end;
+    }
+
+    private static int alphanumericEnd(String text, int start) {
+        int end = start;
+        while (end < text.length() && Character.isLetterOrDigit(text.codePointAt(end)))
+            end += Character.charCount(text.codePointAt(end));
+        return end;
+    }
+
+    private static boolean addToken(List<String> lexemes, String token) {
+        String lexeme = token.toLowerCase(Locale.ROOT);
+        if (lexeme.getBytes(StandardCharsets.UTF_8).length >= MAX_LEXEME_BYTES) return false;
+
+        boolean hyphenated = token.indexOf('-') >= 0;
+        boolean dotted = token.indexOf('.') >= 0;
+        if (hyphenated && dotted) return false;
+        if (dotted) {
+            if (!token.chars().allMatch(c -> c == '.' || (c >= '0' && c <= '9'))) return false;
+            lexemes.add(lexeme);
+            return true;
+        }
+        if (hyphenated && !Character.isLetter(token.codePointAt(0))) return false;
+
+        lexemes.add(lexeme);
+        if (hyphenated) lexemes.addAll(List.of(lexeme.split("-")));
+        return true;
+    }
+
+    /**
+     * Whether the character only separates words. A '-' before a digit
+     * starts a signed number, and a '.' or ':' that runs into more text
+     * belongs to a host name, URL or path.
+     */
+    private static boolean isSeparator(String text, int i, int c) {
+        if (Character.isWhitespace(c) || SEPARATORS.indexOf(c) >= 0) return true;
+
+        int next = i + 1 < text.length() ? text.codePointAt(i + 1) : -1;
+        if (c == '-') return next != '.' && (next == -1 || !Character.isDigit(next));
+        if (c == '.' || c == ':')
+            return next == -1 || next == '.' || Character.isWhitespace(next) || SEPARATORS.indexOf(next) >= 0;
+        return false;
+    }
+
+    private static void addTerms(StringJoiner terms, String text, char weight) {
+        for (String word : words(text)) terms.add(word + ":*" + weight);
+    }
+}
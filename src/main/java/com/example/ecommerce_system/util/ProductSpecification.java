@@ -8,6 +8,11 @@ import java.util.UUID;
 import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
+/**
+ * Criteria for {@link ProductFilter}. The name and description predicates are
+ * substring scans and only serve databases without the full-text index,
+ * see {@code ProductSearchRepository}.
+ */
 public class ProductSpecification {
 
     public static Specification<Product> nameContains(String name) {
@@ -0,0 +1,146 @@
+package com.example.ecommerce_system.util;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caffeine cache whose entries are grouped by tag so writes can invalidate
+ * only the pages they affect instead of clearing the whole cache.
+ *
+ * <p>Entry keys take the form {@code <scope>::<rest>}, e.g.
+ * {@code products::all_10_0} or {@code customer_orders:<userId>::10_0}.
+ * An entry is tagged with its scope and, for scoped keys like the second,
+ * with the part before the colon as well ({@code customer_orders}).
+ *
+ * <p>Evicting a key without the {@code ::} separator, or a collection of such
+ * keys, evicts every entry carrying those tags:
+ * {@code @CacheEvict(value = "paginated", key = "{'orders', 'customer_orders:' + #userId}")}.
+ */
+public class TaggedCaffeineCache extends CaffeineCache {
+
+    public static final String SCOPE_SEPARATOR = "::";
+    private static final String ID_SEPARATOR = ":";
+
+    private final Map<String, Set<Object>> keysByTag;
+
+    private TaggedCaffeineCache(String name, Caffeine<Object, Object> builder, Map<String, Set<Object>> keysByTag) {
+        super(name, builder
+                .evictionListener((key, value, cause) -> untrack(keysByTag, key))
+                .build());
+        this.keysByTag = keysByTag;
+    }
+
+    public static TaggedCaffeineCache of(String name, Caffeine<Object, Object> builder) {
+        return new TaggedCaffeineCache(name, builder, new ConcurrentHashMap<>());
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        track(key);
+        super.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        track(key);
+        return super.putIfAbsent(key, value);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        track(key);
+        return super.get(key, valueLoader);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (isTag(key)) {
+            evictTags(key);
+            return;
+        }
+        untrack(keysByTag, key);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        if (isTag(key)) return evictTags(key) > 0;
+
+        untrack(keysByTag, key);
+        return super.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        keysByTag.clear();
+        super.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        keysByTag.clear();
+        return super.invalidate();
+    }
+
+    /**
+     * Number of entries currently indexed under the given tag.
+     */
+    public int taggedEntries(String tag) {
+        Set<Object> keys = keysByTag.get(tag);
+        return keys != null ? keys.size() : 0;
+    }
+
+    private int evictTags(Object tags) {
+        Collection<?> toEvict = tags instanceof Collection<?> collection ? collection : List.of(tags);
+
+        int evicted = 0;
+        for (Object tag : toEvict) {
+            Set<Object> keys = keysByTag.remove(tag.toString());
+            if (keys == null) continue;
+
+            for (Object key : keys) {
+                untrack(keysByTag, key);
+                getNativeCache().invalidate(key);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    private void track(Object key) {
+        for (String tag : tagsOf(key))
+            keysByTag.computeIfAbsent(tag, t -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    private static void untrack(Map<String, Set<Object>> keysByTag, Object key) {
+        for (String tag : tagsOf(key)) {
+            keysByTag.computeIfPresent(tag, (t, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+    }
+
+    private static boolean isTag(Object key) {
+        return key instanceof Collection<?>
+                || (key instanceof String value && !value.contains(SCOPE_SEPARATOR));
+    }
+
+    private static List<String> tagsOf(Object key) {
+        if (!(key instanceof String value)) return List.of();
+
+        int scopeEnd = value.indexOf(SCOPE_SEPARATOR);
+        if (scopeEnd < 0) return List.of();
+
+        String scope = value.substring(0, scopeEnd);
+        int idStart = scope.indexOf(ID_SEPARATOR);
+        return idStart < 0 ? List.of(scope) : List.of(scope, scope.substring(0, idStart));
+    }
+}
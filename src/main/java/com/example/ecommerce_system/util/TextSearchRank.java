@@ -0,0 +1,184 @@
+package com.example.ecommerce_system.util;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * PostgreSQL's {@code ts_rank(search_vector, query)} with the default weights
+ * and no length normalization, for the vector {@code search_vector} holds
+ * for a product and the query {@link ProductSearchQuery} builds. The in-memory
+ * index uses it to order matches the way the database does.
+ *
+ * <p>Follows {@code tsrank.c}: a single query word is ranked by how often and
+ * with what weight its lexemes occur, several words by how close together
+ * their lexemes are. The arithmetic is done in {@code float} where PostgreSQL
+ * does, so equal ranks tie the same way and fall back to product id order.
+ */
+public final class TextSearchRank {
+
+    private static final float[] WEIGHTS = {0.1f, 0.2f, 0.4f, 1.0f};
+    private static final int WEIGHT_A = 3;
+    private static final int WEIGHT_B = 2;
+    private static final int MAX_POSITION = (1 << 14) - 1;
+    private static final int MAX_POSITIONS_PER_FIELD = 255;
+    private static final int MAX_POSITIONS = 256;
+
+    /**
+     * Byte order of the UTF-8 encoding, in which PostgreSQL sorts lexemes
+     * and query words.
+     */
+    private static final Comparator<String> LEXEME_ORDER = (a, b) -> {
+        int i = 0;
+        int j = 0;
+        while (i < a.length() && j < b.length()) {
+            int ca = a.codePointAt(i);
+            int cb = b.codePointAt(j);
+            if (ca != cb) return Integer.compare(ca, cb);
+            i += Character.charCount(ca);
+            j += Character.charCount(cb);
+        }
+        return Integer.compare(a.length() - i, b.length() - j);
+    };
+
+    private TextSearchRank() {
+    }
+
+    /**
+     * The rank of a product whose name and description split into the given
+     * lexemes, for a query of the given words, all of which must match by
+     * prefix.
+     */
+    public static float rank(List<String> nameLexemes, List<String> descriptionLexemes, List<String> queryWords) {
+        TreeMap<String, List<Integer>> name = field(nameLexemes, WEIGHT_A);
+        TreeMap<String, List<Integer>> description = field(descriptionLexemes, WEIGHT_B);
+        int shift = name.values().stream()
+                .mapToInt(positions -> position(positions.get(positions.size() - 1)))
+                .max()
+                .orElse(0);
+
+        TreeMap<String, List<Integer>> vector = new TreeMap<>(LEXEME_ORDER);
+        name.forEach((lexeme, positions) -> append(vector, lexeme, positions, 0));
+        description.forEach((lexeme, positions) -> append(vector, lexeme, positions, shift));
+        if (vector.isEmpty() || queryWords.isEmpty()) return 0;
+
+        List<String> items = queryWords.stream().sorted(LEXEME_ORDER).distinct().toList();
+        float rank = queryWords.size() > 1 && items.size() > 1 ? rankAnd(vector, items) : rankOr(vector, items);
+        return rank < 0 ? 1e-20f : rank;
+    }
+
+    /**
+     * Ranks a query of one word by the weighted occurrences of each lexeme
+     * it matches.
+     */
+    private static float rankOr(TreeMap<String, List<Integer>> vector, List<String> items) {
+        float rank = 0.0f;
+        for (String item : items) {
+            for (List<Integer> positions : matching(vector, item)) {
+                float sum = 0.0f;
+                float maxWeight = -1.0f;
+                int maxAt = 0;
+                for (int j = 0; j < positions.size(); j++) {
+                    float weight = weight(positions.get(j));
+                    sum = sum + weight / ((j + 1) * (j + 1));
+                    if (weight > maxWeight) {
+                        maxWeight = weight;
+                        maxAt = j;
+                    }
+                }
+                rank = (float) (rank + (maxWeight + sum - maxWeight / ((maxAt + 1) * (maxAt + 1))) / 1.64493406685);
+            }
+        }
+        return items.isEmpty() ? rank : rank / items.size();
+    }
+
+    /**
+     * Ranks a query of several words by the distance between the lexemes of
+     * each word and those of the words before it. As in PostgreSQL, an
+     * earlier word is represented by the last lexeme it matched.
+     */
+    private static float rankAnd(TreeMap<String, List<Integer>> vector, List<String> items) {
+        List<List<Integer>> last = new ArrayList<>();
+        float rank = -1.0f;
+        for (String item : items) {
+            List<Integer> current = null;
+            for (List<Integer> positions : matching(vector, item)) {
+                current = positions;
+                for (List<Integer> earlier : last) {
+                    if (earlier == null) continue;
+                    for (int position : positions) {
+                        for (int other : earlier) {
+                            int distance = Math.abs(position(position) - position(other));
+                            if (distance == 0) continue;
+
+                            float closeness = (float) Math.sqrt(weight(position) * weight(other) * wordDistance(distance));
+                            rank = rank < 0 ? closeness : (float) (1.0 - (1.0 - rank) * (1.0 - closeness));
+                        }
+                    }
+                }
+            }
+            last.add(current);
+        }
+        return rank;
+    }
+
+    private static float wordDistance(int distance) {
+        if (distance > 100) return 1e-30f;
+        return (float) (1.0 / (1.005 + 0.05 * StrictMath.exp(((float) distance) / 1.5 - 2)));
+    }
+
+    /**
+     * The positions of every lexeme starting with the word, in lexeme order.
+     */
+    private static List<List<Integer>> matching(TreeMap<String, List<Integer>> vector, String word) {
+        List<List<Integer>> matches = new ArrayList<>();
+        for (Map.Entry<String, List<Integer>> entry : vector.tailMap(word, true).entrySet()) {
+            if (!entry.getKey().startsWith(word)) break;
+            matches.add(entry.getValue());
+        }
+        return matches;
+    }
+
+    /**
+     * One field's {@code setweight(to_tsvector(...))}: ascending, distinct
+     * positions per lexeme, capped in number and value as PostgreSQL does.
+     */
+    private static TreeMap<String, List<Integer>> field(List<String> lexemes, int weight) {
+        TreeMap<String, List<Integer>> field = new TreeMap<>(LEXEME_ORDER);
+        for (int i = 0; i < lexemes.size(); i++) {
+            List<Integer> positions = field.computeIfAbsent(lexemes.get(i), lexeme -> new ArrayList<>());
+            int position = Math.min(i + 1, MAX_POSITION);
+            int previous = positions.isEmpty() ? -1 : position(positions.get(positions.size() - 1));
+            if (positions.size() < MAX_POSITIONS_PER_FIELD && previous != MAX_POSITION && previous != position)
+                positions.add(encode(position, weight));
+        }
+        return field;
+    }
+
+    /**
+     * Appends a field's positions shifted past the previous field, like
+     * concatenating two tsvectors.
+     */
+    private static void append(TreeMap<String, List<Integer>> vector, String lexeme, List<Integer> positions, int shift) {
+        List<Integer> merged = vector.computeIfAbsent(lexeme, l -> new ArrayList<>());
+        for (int encoded : positions) {
+            if (merged.size() >= MAX_POSITIONS) break;
+            if (!merged.isEmpty() && position(merged.get(merged.size() - 1)) == MAX_POSITION) break;
+            merged.add(encode(Math.min(position(encoded) + shift, MAX_POSITION), encoded & 3));
+        }
+    }
+
+    private static int encode(int position, int weight) {
+        return position << 2 | weight;
+    }
+
+    private static int position(int encoded) {
+        return encoded >>> 2;
+    }
+
+    private static float weight(int encoded) {
+        return WEIGHTS[encoded & 3];
+    }
+}
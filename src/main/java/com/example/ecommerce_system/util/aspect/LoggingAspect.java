@@ -6,14 +6,64 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
-
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Writes one structured trace line per sampled controller, service and
+ * repository call to the {@value #TRACE_LOGGER} logger, which
+ * {@code TraceLogConfig} routes through a non-blocking async appender.
+ * Arguments are only rendered when DEBUG is enabled, and failures are
+ * always logged regardless of sampling, once, at the innermost traced call
+ * they pass through rather than again at every layer above it.
+ *
+ * <p>Sampling is per package, e.g.
+ * {@code logging.aspect.sample-rates=com.example.ecommerce_system.repository=0.01};
+ * the longest matching package wins and everything else uses
+ * {@code logging.aspect.sample-rate}. Packages are matched against the bean's
+ * own class and, for repository proxies, the repository interfaces it
+ * implements, so inherited Spring Data methods such as {@code findById} are
+ * sampled at their repository's rate.
+ */
 @Aspect
 @Component
 public class LoggingAspect {
 
+    public static final String TRACE_LOGGER = "com.example.ecommerce_system.trace";
+
+    private static final Logger trace = LoggerFactory.getLogger(TRACE_LOGGER);
+
+    private final boolean enabled;
+    private final double defaultSampleRate;
+    private final Map<String, Double> packageSampleRates;
+    private final Map<Class<?>, Double> sampleRateByType = new ConcurrentHashMap<>();
+    private final Set<Throwable> loggedFailures = Collections.synchronizedSet(
+            Collections.newSetFromMap(new WeakHashMap<>()));
+
+    public LoggingAspect(
+            @Value("${logging.aspect.enabled:true}") boolean enabled,
+            @Value("${logging.aspect.sample-rate:1.0}") double defaultSampleRate,
+            @Value("${logging.aspect.sample-rates:}") String packageSampleRates
+    ) {
+        this.enabled = enabled;
+        this.defaultSampleRate = defaultSampleRate;
+        this.packageSampleRates = parseSampleRates(packageSampleRates);
+    }
+
     @Pointcut("within(@org.springframework.stereotype.Service *)")
     public void serviceLayer() {}
 
@@ -29,54 +79,99 @@ public class LoggingAspect {
 
     @Around("restControllerLayer() || graphqlControllerLayer()")
     public Object logControllerCall(ProceedingJoinPoint joinPoint) throws Throwable {
-        return logMethodExecution(joinPoint, "API Request", "API Response", "API Error");
+        return logMethodExecution(joinPoint, "api", false);
     }
 
-    private Object logMethodExecution(ProceedingJoinPoint joinPoint,
-                                      String entryPrefix,
-                                      String successPrefix,
-                                      String errorPrefix) throws Throwable {
-        Logger logger = getLogger(joinPoint);
-        String className = joinPoint.getSignature().getDeclaringTypeName();
-        String methodName = joinPoint.getSignature().getName();
+    @Around("serviceLayer()")
+    public Object logServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return logMethodExecution(joinPoint, "service", true);
+    }
+
+    @Around("repositoryLayer()")
+    public Object logRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        return logMethodExecution(joinPoint, "db", false);
+    }
 
-        logger.info("{}: {}.{}()", entryPrefix, className, methodName);
+    private Object logMethodExecution(ProceedingJoinPoint joinPoint, String layer, boolean debugOnly) throws Throwable {
+        if (!enabled) return joinPoint.proceed();
+
+        boolean traced = (debugOnly ? trace.isDebugEnabled() : trace.isInfoEnabled())
+                && isSampled(joinPoint);
+        long start = traced ? System.nanoTime() : 0;
 
         try {
             Object result = joinPoint.proceed();
-            logger.info("{}: {}.{}() - Success", successPrefix, className, methodName);
+            if (traced) logSuccess(joinPoint, layer, debugOnly, System.nanoTime() - start);
             return result;
         } catch (Exception e) {
-            logger.error("{}: {}.{}() - {}", errorPrefix, className, methodName, e.getMessage());
+            if (!markLogged(e)) throw e;
+            trace.error("layer={} method={}.{} outcome=error error=\"{}\"",
+                    layer, joinPoint.getSignature().getDeclaringTypeName(),
+                    joinPoint.getSignature().getName(), e.getMessage());
             throw e;
         }
     }
 
-    private Logger getLogger(ProceedingJoinPoint joinPoint) {
-        return LoggerFactory.getLogger(joinPoint.getSignature().getDeclaringType());
-    }
-
-    @Around("serviceLayer()")
-    public Object logServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
-        Logger logger = getLogger(joinPoint);
+    private void logSuccess(ProceedingJoinPoint joinPoint, String layer, boolean debugOnly, long durationNanos) {
         String className = joinPoint.getSignature().getDeclaringTypeName();
         String methodName = joinPoint.getSignature().getName();
+        String duration = PerformanceAspect.formatMillis(durationNanos);
+
+        if (trace.isDebugEnabled()) {
+            trace.debug("layer={} method={}.{} outcome=ok durationMs={} args={}",
+                    layer, className, methodName, duration, Arrays.toString(joinPoint.getArgs()));
+        } else if (!debugOnly) {
+            trace.info("layer={} method={}.{} outcome=ok durationMs={}",
+                    layer, className, methodName, duration);
+        }
+    }
 
-        logger.debug("Entering: {}.{}() with arguments: {}",
-                className, methodName, Arrays.toString(joinPoint.getArgs()));
-
-        try {
-            Object result = joinPoint.proceed();
-            logger.debug("Exiting: {}.{}()", className, methodName);
-            return result;
-        } catch (Exception e) {
-            logger.error("Exception in {}.{}(): {}", className, methodName, e.getMessage());
-            throw e;
+    /**
+     * Records a failure as logged, returning {@code false} if it, or an
+     * exception it wraps, was already logged further down the call.
+     */
+    private boolean markLogged(Throwable failure) {
+        for (Throwable cause = failure.getCause(); cause != null && cause != failure; cause = cause.getCause()) {
+            if (loggedFailures.contains(cause)) return false;
         }
+        return loggedFailures.add(failure);
     }
 
-    @Around("repositoryLayer()")
-    public Object logRepositoryCall(ProceedingJoinPoint joinPoint) throws Throwable {
-        return logMethodExecution(joinPoint, "DB Call", "DB Result", "DB Error");
+    private boolean isSampled(ProceedingJoinPoint joinPoint) {
+        Object bean = joinPoint.getThis();
+        double rate = bean != null
+                ? sampleRateByType.computeIfAbsent(bean.getClass(), type -> resolveSampleRate(typesOf(bean)))
+                : sampleRateByType.computeIfAbsent(joinPoint.getSignature().getDeclaringType(),
+                        type -> resolveSampleRate(List.of(type)));
+        return rate >= 1.0 || (rate > 0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    private static List<Class<?>> typesOf(Object bean) {
+        List<Class<?>> types = new ArrayList<>();
+        types.add(AopProxyUtils.ultimateTargetClass(bean));
+        if (Proxy.isProxyClass(bean.getClass()))
+            types.addAll(Arrays.asList(AopProxyUtils.proxiedUserInterfaces(bean)));
+        return types;
+    }
+
+    private double resolveSampleRate(List<Class<?>> types) {
+        return packageSampleRates.entrySet().stream()
+                .filter(entry -> types.stream().anyMatch(type -> type.getName().startsWith(entry.getKey() + ".")))
+                .max(Comparator.comparingInt(entry -> entry.getKey().length()))
+                .map(Map.Entry::getValue)
+                .orElse(defaultSampleRate);
+    }
+
+    private static Map<String, Double> parseSampleRates(String value) {
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) continue;
+
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0)
+                throw new IllegalArgumentException("Invalid logging.aspect.sample-rates entry: " + entry);
+            rates.put(entry.substring(0, separator).trim(), Double.parseDouble(entry.substring(separator + 1).trim()));
+        }
+        return rates;
     }
 }
@@ -0,0 +1,128 @@
+package com.example.ecommerce_system.util.aspect;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records every application controller, service and repository call in a
+ * Micrometer timer tagged with its layer, class and method. Timers keep
+ * client-side p50/p95/p99/p999 over a sliding window, which
+ * {@code MethodMetricsService} reads in-process without post-processing log
+ * lines. No percentile histogram is published, so each timer carries one
+ * set of percentile buffers rather than dozens of buckets as well. Timers are resolved once per method and cached,
+ * leaving a clock read and a percentile update on the hot path.
+ *
+ * <p>Only types under {@code com.example.ecommerce_system} are timed, and
+ * {@code MethodMetricsService} is left out so reading the timers is not
+ * itself timed.
+ */
+@Aspect
+@Component
+public class MetricsAspect {
+
+    public static final String TIMER_NAME = "ecommerce.method.calls";
+    public static final double[] PERCENTILES = {0.5, 0.95, 0.99, 0.999};
+
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    public MetricsAspect(
+            MeterRegistry meterRegistry,
+            @Value("${performance.metrics.enabled:true}") boolean enabled
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+    }
+
+    @Around("within(com.example.ecommerce_system..*)"
+            + " && (within(@org.springframework.web.bind.annotation.RestController *)"
+            + " || within(com.example.ecommerce_system.controller.graphql..*))")
+    public Object timeController(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "controller");
+    }
+
+    @Around("within(com.example.ecommerce_system..*)"
+            + " && within(@org.springframework.stereotype.Service *)"
+            + " && !within(com.example.ecommerce_system.service.MethodMetricsService)")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "service");
+    }
+
+    /**
+     * Every application repository is a Spring Data proxy backed by
+     * {@link com.example.ecommerce_system.repository.SliceJpaRepositoryImpl},
+     * which keeps repositories from libraries out.
+     */
+    @Around("this(org.springframework.data.repository.Repository)"
+            + " && target(com.example.ecommerce_system.repository.SliceJpaRepositoryImpl)")
+    public Object timeRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(joinPoint, "repository");
+    }
+
+    private Object time(ProceedingJoinPoint joinPoint, String layer) throws Throwable {
+        if (!enabled) return joinPoint.proceed();
+
+        Timer timer = timerFor(joinPoint, layer);
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timerFor(ProceedingJoinPoint joinPoint, String layer) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Object target = joinPoint.getThis();
+        TimerKey key = new TimerKey(layer, target != null ? target.getClass() : method.getDeclaringClass(), method);
+
+        return timers.computeIfAbsent(key, k -> timerBuilder(layer, classNameOf(target, method), method.getName())
+                .register(meterRegistry));
+    }
+
+    /**
+     * A method timer publishing {@link #PERCENTILES} for values between 10
+     * microseconds and 30 seconds.
+     */
+    public static Timer.Builder timerBuilder(String layer, String className, String method) {
+        return Timer.builder(TIMER_NAME)
+                .tag("layer", layer)
+                .tag("class", className)
+                .tag("method", method)
+                .publishPercentiles(PERCENTILES)
+                .minimumExpectedValue(Duration.ofNanos(10_000))
+                .maximumExpectedValue(Duration.ofSeconds(30));
+    }
+
+    /**
+     * Repositories are JDK proxies, so they are named after the repository
+     * interface rather than the proxy class or the Spring Data base interface.
+     */
+    private static String classNameOf(Object target, Method method) {
+        if (target instanceof Advised) {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(target);
+            if (interfaces.length > 0 && target.getClass().getName().contains("$Proxy"))
+                return interfaces[0].getSimpleName();
+        }
+        if (target != null) return ClassUtils.getUserClass(target).getSimpleName();
+        return method.getDeclaringClass().getSimpleName();
+    }
+
+    private record TimerKey(String layer, Class<?> type, Method method) {}
+}
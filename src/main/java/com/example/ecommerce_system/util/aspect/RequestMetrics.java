@@ -0,0 +1,47 @@
+package com.example.ecommerce_system.util.aspect;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Timings recorded by {@link PerformanceAspect} for a single sampled HTTP
+ * request. Stored as a request attribute by the performance filter, which
+ * logs them together with the request and response byte counts once the
+ * response has been written.
+ */
+public class RequestMetrics {
+
+    public static final String ATTRIBUTE = RequestMetrics.class.getName();
+
+    private final List<Invocation> invocations = new CopyOnWriteArrayList<>();
+
+    public record Invocation(String type, String signature, long durationNanos) {}
+
+    public void record(String type, String signature, long durationNanos) {
+        invocations.add(new Invocation(type, signature, durationNanos));
+    }
+
+    public List<Invocation> getInvocations() {
+        return invocations;
+    }
+
+    /**
+     * Metrics of the request being handled on this thread, or null when
+     * there is no request or it was not sampled.
+     */
+    static RequestMetrics current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) return null;
+        return (RequestMetrics) attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+    }
+
+    /**
+     * Whether the current thread is handling an HTTP request at all.
+     */
+    static boolean inRequest() {
+        return RequestContextHolder.getRequestAttributes() != null;
+    }
+}
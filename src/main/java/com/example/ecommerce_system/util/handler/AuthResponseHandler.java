@@ -1,6 +1,7 @@
 package com.example.ecommerce_system.util.handler;
 
 import com.example.ecommerce_system.dto.ErrorResponseDto;
+import com.example.ecommerce_system.exception.auth.AuthenticationOverloadedException;
 import com.example.ecommerce_system.exception.auth.DuplicateEmailException;
 import com.example.ecommerce_system.exception.auth.InvalidCredentialsException;
 import com.example.ecommerce_system.exception.auth.UserNotFoundException;
@@ -44,4 +45,12 @@ public class AuthResponseHandler {
                 exception.getMessage(),
                 exception.getClass().getSimpleName());
     }
+
+    @ExceptionHandler(AuthenticationOverloadedException.class)
+    public ResponseEntity<ErrorResponseDto<String>> handleAuthenticationOverloaded(AuthenticationOverloadedException exception) {
+        return ErrorResponseHandler.generateErrorMessage(
+                HttpStatus.TOO_MANY_REQUESTS,
+                exception.getMessage(),
+                exception.getClass().getSimpleName());
+    }
 }
@@ -1,5 +1,6 @@
 package com.example.ecommerce_system.util.handler;
 
+import com.example.ecommerce_system.exception.InvalidCursorException;
 import com.example.ecommerce_system.exception.cart.*;
 import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
 import com.example.ecommerce_system.exception.order.InvalidOrderStatusException;
@@ -12,6 +13,7 @@ import com.example.ecommerce_system.exception.product.ProductNotFoundException;
 import graphql.GraphQLError;
 import graphql.GraphqlErrorBuilder;
 import graphql.schema.DataFetchingEnvironment;
+import jakarta.validation.ConstraintViolationException;
 import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
 import org.springframework.graphql.execution.ErrorType;
 import org.springframework.stereotype.Component;
@@ -28,6 +30,8 @@ public class GraphQLExceptionHandler extends DataFetcherExceptionResolverAdapter
             Map.entry(InsufficientProductStock.class, ErrorType.BAD_REQUEST),
             Map.entry(InvalidOrderStatusException.class, ErrorType.BAD_REQUEST),
             Map.entry(IllegalArgumentException.class, ErrorType.BAD_REQUEST),
+            Map.entry(InvalidCursorException.class, ErrorType.BAD_REQUEST),
+            Map.entry(ConstraintViolationException.class, ErrorType.BAD_REQUEST),
             Map.entry(OrderCreationException.class, ErrorType.INTERNAL_ERROR),
             Map.entry(OrderUpdateException.class, ErrorType.INTERNAL_ERROR),
             Map.entry(OrderRetrievalException.class, ErrorType.INTERNAL_ERROR),
@@ -4,6 +4,7 @@ import com.example.ecommerce_system.dto.cart.CartItemResponseDto;
 import com.example.ecommerce_system.model.CartItem;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -11,7 +12,18 @@ import java.util.List;
 public interface CartItemMapper {
 
     @Mapping(target = "cartId", source = "cart.cartId")
+    @Mapping(target = "productId", source = "product.productId")
     CartItemResponseDto toDTO(CartItem cartItem);
 
     List<CartItemResponseDto> toDTOList(List<CartItem> cartItems);
+
+    /**
+     * Maps a cart item with only the product id, leaving the lazy product
+     * unloaded so it can be resolved in a batch later.
+     */
+    @Named("summary")
+    @Mapping(target = "cartId", source = "cart.cartId")
+    @Mapping(target = "productId", source = "product.productId")
+    @Mapping(target = "product", ignore = true)
+    CartItemResponseDto toSummaryDTO(CartItem cartItem);
 }
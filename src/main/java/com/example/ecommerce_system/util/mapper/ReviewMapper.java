@@ -4,6 +4,7 @@ import com.example.ecommerce_system.dto.review.ReviewResponseDto;
 import com.example.ecommerce_system.model.Review;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -11,8 +12,19 @@ import java.util.List;
 public interface ReviewMapper {
 
     @Mapping(source = "product.productId", target = "productId")
+    @Mapping(source = "customer.customerId", target = "customerId")
     @Mapping(source = "customer", target = "customer")
     ReviewResponseDto toDTO(Review review);
 
     List<ReviewResponseDto> toDTOList(List<Review> reviews);
+
+    /**
+     * Maps a review with only the customer id, leaving the lazy customer
+     * unloaded so it can be resolved in a batch later.
+     */
+    @Named("summary")
+    @Mapping(source = "product.productId", target = "productId")
+    @Mapping(source = "customer.customerId", target = "customerId")
+    @Mapping(target = "customer", ignore = true)
+    ReviewResponseDto toSummaryDTO(Review review);
 }
@@ -50,9 +50,14 @@ create table product
 	description text not null,
 	price numeric(10,2) not null,
 	stock_quantity integer not null,
+	version bigint default 0 not null,
 	category_id uuid not null,
 	created_at timestamp with time zone default CURRENT_TIMESTAMP not null,
 	updated_at timestamp with time zone default CURRENT_TIMESTAMP not null,
+	search_vector tsvector generated always as (
+		setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+		setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+	) stored,
 	primary key (product_id),
 	constraint fk_category_in_product
 		foreign key (category_id) references category
@@ -65,12 +70,18 @@ create table product
 
 alter table product owner to postgres;
 
-create index index_product_category_id
-	on product (category_id);
+create index index_product_category_id_price
+	on product (category_id, price);
 
 create index index_product_name
 	on product (name);
 
+create index index_product_created_at_product_id
+	on product (created_at desc, product_id desc);
+
+create index index_product_search_vector
+	on product using gin (search_vector);
+
 create table customer
 (
 	customer_id uuid default gen_random_uuid() not null,
@@ -117,6 +128,9 @@ create index index_review_product_id
 create index index_review_customer_id
 	on review (customer_id);
 
+create index index_review_product_id_created_at
+	on review (product_id, created_at desc, review_id desc);
+
 create table order_statuses
 (
 	status_id uuid default gen_random_uuid() not null,
@@ -138,6 +152,7 @@ create table orders
 	shipping_city varchar(100),
 	shipping_postal_code varchar(100) not null,
 	status_id uuid,
+	stock_reserved boolean default false not null,
 	primary key (order_id),
 	constraint fk_customer_in_orders
 		foreign key (customer_id) references customer
@@ -150,11 +165,22 @@ create table orders
 
 alter table orders owner to postgres;
 
-create index index_orders_customer_id
-	on orders (customer_id);
+create index index_orders_order_date_order_id
+	on orders (order_date desc, order_id desc);
+
+create index index_orders_customer_id_order_date
+	on orders (customer_id, order_date desc, order_id desc);
+
+create index index_orders_status_id_order_date
+	on orders (status_id, order_date desc, order_id desc);
 
-create index index_orders_order_date
-	on orders (order_date);
+create index index_orders_lower_shipping_country
+	on orders (lower(shipping_country));
+
+create extension if not exists pg_trgm;
+
+create index index_orders_lower_shipping_city_trgm
+	on orders using gin (lower(shipping_city) gin_trgm_ops);
 
 create table order_item
 (
@@ -214,3 +240,27 @@ create table cart_item
 alter table cart_item owner to postgres;
 
 
+create table inventory_ledger_segment
+(
+	segment_name varchar(255) not null,
+	applied_at timestamp with time zone default CURRENT_TIMESTAMP not null,
+	primary key (segment_name)
+);
+
+alter table inventory_ledger_segment owner to postgres;
+
+
+
+create table revoked_token
+(
+	jti varchar(255) not null,
+	expires_at timestamp with time zone not null,
+	revoked_at timestamp with time zone default CURRENT_TIMESTAMP not null,
+	primary key (jti)
+);
+
+alter table revoked_token owner to postgres;
+
+create index index_revoked_token_revoked_at on revoked_token (revoked_at);
+
+create index index_revoked_token_expires_at on revoked_token (expires_at);
@@ -6,6 +6,7 @@ import com.example.ecommerce_system.dto.auth.SignupRequestDto;
 import com.example.ecommerce_system.exception.auth.DuplicateEmailException;
 import com.example.ecommerce_system.exception.auth.InvalidCredentialsException;
 import com.example.ecommerce_system.exception.auth.WeakPasswordException;
+import com.example.ecommerce_system.model.AuthenticatedUser;
 import com.example.ecommerce_system.model.Customer;
 import com.example.ecommerce_system.model.Role;
 import com.example.ecommerce_system.model.RoleType;
@@ -16,6 +17,7 @@ import com.example.ecommerce_system.repository.UserRepository;
 import com.example.ecommerce_system.service.AuthService;
 import com.example.ecommerce_system.service.JwtTokenService;
 import com.example.ecommerce_system.service.TokenBlacklistService;
+import com.example.ecommerce_system.util.PasswordPolicy;
 import com.example.ecommerce_system.util.mapper.AuthMapper;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import org.junit.jupiter.api.Assertions;
@@ -24,6 +26,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -62,6 +65,9 @@ class AuthServiceTest {
     @Mock
     private TokenBlacklistService tokenBlacklistService;
 
+    @Spy
+    private PasswordPolicy passwordPolicy = new PasswordPolicy(8, true, true, true, true, "");
+
     @InjectMocks
     private AuthService authService;
 
@@ -315,6 +321,37 @@ class AuthServiceTest {
         verify(authMapper).toDTO(eq(user), eq("jwt-token-string"));
     }
 
+    @Test
+    @DisplayName("Should reuse authenticated principal on login without querying user again")
+    void shouldReuseAuthenticatedPrincipalOnLogin() {
+        LoginRequestDto request = new LoginRequestDto(
+                "user@example.com",
+                "Password123!"
+        );
+
+        AuthenticatedUser principal = new AuthenticatedUser(
+                UUID.randomUUID(),
+                "user@example.com",
+                "hashedPassword",
+                UUID.randomUUID(),
+                RoleType.CUSTOMER,
+                Instant.now()
+        );
+
+        when(authenticationManager.authenticate(any(UsernamePasswordAuthenticationToken.class)))
+                .thenReturn(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        when(jwtTokenService.generateToken(any(User.class))).thenReturn("jwt-token-string");
+
+        authService.login(request);
+
+        verify(userRepository, never()).findUserByEmail(anyString());
+        verify(jwtTokenService).generateToken(argThat(user ->
+                user.getUserId().equals(principal.getUserId())
+                        && user.getEmail().equals("user@example.com")
+                        && user.getRole().getRoleName() == RoleType.CUSTOMER));
+        verify(authMapper).toDTO(any(User.class), eq("jwt-token-string"));
+    }
+
     @Test
     @DisplayName("Should throw error when login with non-existing email")
     void shouldThrowWhenLoginWithNonExistingEmail() {
@@ -0,0 +1,121 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.exception.auth.AuthenticationOverloadedException;
+import com.example.ecommerce_system.util.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch started = new CountDownLatch(1);
+    private BoundedPasswordEncoder encoder;
+
+    private final PasswordEncoder blockingDelegate = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hashed:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hashed:" + rawPassword);
+        }
+    };
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) encoder.destroy();
+    }
+
+    @Test
+    @DisplayName("Should hash on the pool and record hash latency")
+    void shouldHashOnPool() {
+        encoder = new BoundedPasswordEncoder(blockingDelegate, 1, 1, 1_000, registry);
+        release.countDown();
+
+        Assertions.assertEquals("hashed:secret", encoder.encode("secret"));
+        Assertions.assertTrue(encoder.matches("secret", "hashed:secret"));
+        Assertions.assertEquals(1, registry.get("auth.password.hash").tag("operation", "encode").timer().count());
+        Assertions.assertEquals(2, registry.get("auth.password.queue.wait").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reject immediately when the pool and queue are full")
+    void shouldRejectWhenQueueIsFull() throws InterruptedException {
+        encoder = new BoundedPasswordEncoder(blockingDelegate, 1, 1, 5_000, registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+        waitForQueueDepth(1);
+
+        long start = System.nanoTime();
+        Assertions.assertThrows(AuthenticationOverloadedException.class, () -> encoder.encode("third"));
+        Assertions.assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        Assertions.assertEquals(1, registry.get("auth.password.rejected").counter().count());
+
+        release.countDown();
+        Assertions.assertEquals("hashed:first", running.join());
+        Assertions.assertEquals("hashed:second", queued.join());
+    }
+
+    @Test
+    @DisplayName("Should give up when the caller has waited longer than allowed")
+    void shouldRejectAfterMaxWait() throws InterruptedException {
+        encoder = new BoundedPasswordEncoder(blockingDelegate, 1, 1, 100, registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Assertions.assertThrows(AuthenticationOverloadedException.class, () -> encoder.encode("second"));
+
+        // The abandoned slot is free again, so the next caller is queued and waits instead of being turned away
+        long start = System.nanoTime();
+        Assertions.assertThrows(AuthenticationOverloadedException.class, () -> encoder.encode("third"));
+        Assertions.assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(100));
+
+        release.countDown();
+        Assertions.assertEquals("hashed:first", running.join());
+        Assertions.assertEquals("hashed:fourth", encoder.encode("fourth"));
+        Assertions.assertEquals(2, registry.get("auth.password.hash").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should wait for a hash that has already started instead of timing out")
+    void shouldWaitForStartedHash() throws InterruptedException {
+        encoder = new BoundedPasswordEncoder(blockingDelegate, 1, 1, 100, registry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+        Assertions.assertTrue(started.await(5, TimeUnit.SECONDS));
+        Thread.sleep(300);
+        release.countDown();
+
+        Assertions.assertEquals("hashed:first", running.join());
+        Assertions.assertEquals(0, registry.get("auth.password.rejected").counter().count());
+    }
+
+    private void waitForQueueDepth(int depth) throws InterruptedException {
+        for (int i = 0; i < 500; i++) {
+            if (registry.get("auth.password.queue.depth").gauge().value() >= depth) return;
+            Thread.sleep(10);
+        }
+        Assertions.fail("queue never reached depth " + depth);
+    }
+}
@@ -18,9 +18,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Example;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
 import java.util.List;
@@ -248,7 +248,7 @@ class CategoryServiceTest {
                         .build()
         );
 
-        when(categoryRepository.findAll(PageRequest.of(0, 10))).thenReturn(new PageImpl<>(categories));
+        when(categoryRepository.findSlice(PageRequest.of(0, 10))).thenReturn(new SliceImpl<>(categories));
         when(mapper.toDTOList(categories)).thenReturn(responseDtos);
 
         List<CategoryResponseDto> responses = categoryService.getAllCategories(10, 0);
@@ -256,19 +256,19 @@ class CategoryServiceTest {
         Assertions.assertEquals(2, responses.size());
         Assertions.assertEquals("Electronics", responses.get(0).getName());
         Assertions.assertEquals("Books", responses.get(1).getName());
-        verify(categoryRepository).findAll(PageRequest.of(0, 10));
+        verify(categoryRepository).findSlice(PageRequest.of(0, 10));
     }
 
     @Test
     @DisplayName("Should return empty list when no categories found")
     void shouldReturnEmptyListWhenNoCategoriesFound() {
-        when(categoryRepository.findAll(PageRequest.of(0, 10))).thenReturn(Page.empty());
+        when(categoryRepository.findSlice(PageRequest.of(0, 10))).thenReturn(new SliceImpl<>(List.of()));
         when(mapper.toDTOList(List.of())).thenReturn(List.of());
 
         List<CategoryResponseDto> responses = categoryService.getAllCategories(10, 0);
 
         Assertions.assertEquals(0, responses.size());
-        verify(categoryRepository).findAll(PageRequest.of(0, 10));
+        verify(categoryRepository).findSlice(PageRequest.of(0, 10));
     }
 
     @SuppressWarnings("unchecked")
@@ -283,7 +283,7 @@ class CategoryServiceTest {
                 new Category(UUID.randomUUID(), "Electronics", "Electronic items", Instant.now(), Instant.now())
         );
 
-        Page<Category> categoryPage = new PageImpl<>(categories, PageRequest.of(0, 10), 1);
+        Slice<Category> categoryPage = new SliceImpl<>(categories, PageRequest.of(0, 10), false);
 
         CategoryResponseDto responseDto = CategoryResponseDto.builder()
                 .categoryId(categories.get(0).getCategoryId())
@@ -291,14 +291,14 @@ class CategoryServiceTest {
                 .description("Electronic items")
                 .build();
 
-        when(categoryRepository.findAll(any(Example.class), eq(PageRequest.of(0, 10)))).thenReturn(categoryPage);
+        when(categoryRepository.findSlice(any(Example.class), eq(PageRequest.of(0, 10)))).thenReturn(categoryPage);
         when(mapper.toDTOList(categories)).thenReturn(List.of(responseDto));
 
         List<CategoryResponseDto> responses = categoryService.getCategories(filter, 10, 0);
 
         Assertions.assertEquals(1, responses.size());
         Assertions.assertEquals("Electronics", responses.get(0).getName());
-        verify(categoryRepository).findAll(any(Example.class), eq(PageRequest.of(0, 10)));
+        verify(categoryRepository).findSlice(any(Example.class), eq(PageRequest.of(0, 10)));
         verify(mapper).toDTOList(categories);
     }
 
@@ -322,13 +322,13 @@ class CategoryServiceTest {
                         .build()
         );
 
-        when(categoryRepository.findAll(PageRequest.of(10, 5))).thenReturn(new PageImpl<>(categories));
+        when(categoryRepository.findSlice(PageRequest.of(10, 5))).thenReturn(new SliceImpl<>(categories));
         when(mapper.toDTOList(categories)).thenReturn(responseDtos);
 
         List<CategoryResponseDto> responses = categoryService.getAllCategories(5, 10);
 
         Assertions.assertEquals(2, responses.size());
-        verify(categoryRepository).findAll(PageRequest.of(10, 5));
+        verify(categoryRepository).findSlice(PageRequest.of(10, 5));
     }
 
     @Test
@@ -0,0 +1,69 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.util.ConcurrencyLimitedDataSource;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitedDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+
+    @Test
+    @DisplayName("Should time out when every permit is held")
+    void shouldTimeOutWhenEveryPermitIsHeld() throws SQLException {
+        when(target.getConnection()).thenReturn(mock(Connection.class));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+
+        dataSource.getConnection();
+
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        verify(target, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should release the permit once when the connection is closed")
+    void shouldReleasePermitOnceWhenConnectionClosed() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 2, 50);
+
+        Connection limited = dataSource.getConnection();
+        Assertions.assertEquals(1, dataSource.availablePermits());
+
+        limited.close();
+        limited.close();
+
+        Assertions.assertEquals(2, dataSource.availablePermits());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    @DisplayName("Should release the permit when the pool fails to hand out a connection")
+    void shouldReleasePermitWhenPoolFails() throws SQLException {
+        when(target.getConnection()).thenThrow(new SQLException("pool exhausted"));
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+
+        Assertions.assertThrows(SQLException.class, dataSource::getConnection);
+
+        Assertions.assertEquals(1, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Should pass other calls through to the pooled connection")
+    void shouldPassCallsThroughToPooledConnection() throws SQLException {
+        Connection connection = mock(Connection.class);
+        when(connection.getAutoCommit()).thenReturn(false);
+        when(target.getConnection()).thenReturn(connection);
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, 50);
+
+        Assertions.assertFalse(dataSource.getConnection().getAutoCommit());
+    }
+}
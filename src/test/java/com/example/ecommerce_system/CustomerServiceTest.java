@@ -15,9 +15,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
 import java.util.List;
@@ -128,8 +128,8 @@ class CustomerServiceTest {
                         .build()
         );
 
-        Page<Customer> page = new PageImpl<>(customers);
-        when(customerRepository.findAll(PageRequest.of(0, 10))).thenReturn(page);
+        Slice<Customer> page = new SliceImpl<>(customers);
+        when(customerRepository.findSlice(PageRequest.of(0, 10))).thenReturn(page);
         when(customerMapper.toDTOList(customers)).thenReturn(responseDtos);
 
         List<CustomerResponseDto> result = customerService.getAllCustomers(10, 0);
@@ -137,7 +137,7 @@ class CustomerServiceTest {
         Assertions.assertEquals(2, result.size());
         Assertions.assertEquals("John", result.get(0).getFirstName());
         Assertions.assertEquals("Jane", result.get(1).getFirstName());
-        verify(customerRepository).findAll(PageRequest.of(0, 10));
+        verify(customerRepository).findSlice(PageRequest.of(0, 10));
         verify(customerMapper).toDTOList(customers);
     }
 
@@ -165,7 +165,7 @@ class CustomerServiceTest {
                         .build()
         );
 
-        Page<Customer> page = new PageImpl<>(customers);
+        Slice<Customer> page = new SliceImpl<>(customers);
         when(customerRepository.searchCustomersByName(query, PageRequest.of(0, 10))).thenReturn(page);
         when(customerMapper.toDTOList(customers)).thenReturn(responseDtos);
 
@@ -182,7 +182,7 @@ class CustomerServiceTest {
     void shouldReturnEmptyListWhenNoCustomersMatchSearch() {
         String query = "nonexistent";
 
-        Page<Customer> page = new PageImpl<>(List.of());
+        Slice<Customer> page = new SliceImpl<>(List.of());
         when(customerRepository.searchCustomersByName(query, PageRequest.of(0, 10))).thenReturn(page);
         when(customerMapper.toDTOList(List.of())).thenReturn(List.of());
 
@@ -416,14 +416,14 @@ class CustomerServiceTest {
                         .build()
         );
 
-        Page<Customer> page = new PageImpl<>(customers);
-        when(customerRepository.findAll(PageRequest.of(10, 5))).thenReturn(page);
+        Slice<Customer> page = new SliceImpl<>(customers);
+        when(customerRepository.findSlice(PageRequest.of(10, 5))).thenReturn(page);
         when(customerMapper.toDTOList(customers)).thenReturn(responseDtos);
 
         List<CustomerResponseDto> result = customerService.getAllCustomers(5, 10);
 
         Assertions.assertEquals(2, result.size());
-        verify(customerRepository).findAll(PageRequest.of(10, 5));
+        verify(customerRepository).findSlice(PageRequest.of(10, 5));
     }
 
     @Test
@@ -448,7 +448,7 @@ class CustomerServiceTest {
                         .build()
         );
 
-        Page<Customer> page = new PageImpl<>(customers);
+        Slice<Customer> page = new SliceImpl<>(customers);
         when(customerRepository.searchCustomersByName(query, PageRequest.of(10, 5))).thenReturn(page);
         when(customerMapper.toDTOList(customers)).thenReturn(responseDtos);
 
@@ -0,0 +1,54 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.util.IntPostingList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IntPostingListTest {
+
+    @Test
+    @DisplayName("Should round-trip ids with small and large gaps")
+    void shouldRoundTripIdsWithSmallAndLargeGaps() {
+        IntPostingList postings = new IntPostingList();
+        int[] docIds = {0, 1, 2, 130, 20_000, 3_000_000, Integer.MAX_VALUE - 1};
+        for (int docId : docIds) postings.add(docId);
+        postings.trim();
+
+        Assertions.assertArrayEquals(docIds, postings.toArray());
+        Assertions.assertEquals(docIds.length, postings.size());
+    }
+
+    @Test
+    @DisplayName("Should store dense ids in one byte each")
+    void shouldStoreDenseIdsInOneByteEach() {
+        IntPostingList postings = new IntPostingList();
+        for (int docId = 0; docId < 1000; docId += 3) postings.add(docId);
+
+        Assertions.assertEquals(postings.size(), postings.encodedBytes());
+    }
+
+    @Test
+    @DisplayName("Should advance cursor to the first id at or after the target")
+    void shouldAdvanceCursorToFirstIdAtOrAfterTarget() {
+        IntPostingList postings = new IntPostingList();
+        for (int docId : new int[]{3, 8, 200, 201}) postings.add(docId);
+        IntPostingList.Cursor cursor = postings.cursor();
+
+        Assertions.assertEquals(3, cursor.advance(0));
+        Assertions.assertEquals(3, cursor.advance(3));
+        Assertions.assertEquals(200, cursor.advance(9));
+        Assertions.assertEquals(201, cursor.advance(201));
+        Assertions.assertEquals(IntPostingList.Cursor.NO_MORE, cursor.advance(202));
+        Assertions.assertEquals(8, IntPostingList.Cursor.of(new int[]{3, 8}).advance(4));
+    }
+
+    @Test
+    @DisplayName("Should reject ids out of order")
+    void shouldRejectIdsOutOfOrder() {
+        IntPostingList postings = new IntPostingList();
+        postings.add(5);
+
+        Assertions.assertThrows(IllegalArgumentException.class, () -> postings.add(5));
+    }
+}
@@ -0,0 +1,262 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.inventory.InventoryLedgerStats;
+import com.example.ecommerce_system.exception.product.InsufficientProductStock;
+import com.example.ecommerce_system.service.InventoryLedgerService;
+import com.example.ecommerce_system.util.InventoryJournal;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryLedgerServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @TempDir
+    Path journalDirectory;
+
+    private InventoryLedgerService ledger;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        lenient().doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        ledger = new InventoryLedgerService(
+                jdbcTemplate, transactionTemplate, true, journalDirectory.toString(), false);
+    }
+
+    private void givenStock(UUID productId, int stock) {
+        when(jdbcTemplate.queryForObject(contains("FROM product"), eq(Integer.class), eq(productId)))
+                .thenReturn(stock);
+    }
+
+    @Test
+    @DisplayName("Should reserve stock from memory and load each product only once")
+    void shouldReserveStockFromMemory() {
+        UUID productId = UUID.randomUUID();
+        givenStock(productId, 10);
+
+        ledger.reserve(Map.of(productId, 4));
+        ledger.reserve(Map.of(productId, 6));
+
+        Assertions.assertThrows(InsufficientProductStock.class, () -> ledger.reserve(Map.of(productId, 1)));
+
+        InventoryLedgerStats stats = ledger.getStats();
+        Assertions.assertEquals(2, stats.getReservations());
+        Assertions.assertEquals(1, stats.getRejectedReservations());
+        Assertions.assertEquals(10, stats.getReservedUnits());
+        verify(jdbcTemplate, times(1)).queryForObject(contains("FROM product"), eq(Integer.class), eq(productId));
+    }
+
+    @Test
+    @DisplayName("Should reserve all products or none")
+    void shouldReserveAllOrNothing() {
+        UUID plentiful = UUID.randomUUID();
+        UUID scarce = UUID.randomUUID();
+        givenStock(plentiful, 10);
+        givenStock(scarce, 1);
+
+        Assertions.assertThrows(
+                InsufficientProductStock.class,
+                () -> ledger.reserve(Map.of(plentiful, 5, scarce, 2))
+        );
+
+        Assertions.assertEquals(0, ledger.getStats().getPendingProducts());
+
+        ledger.reserve(Map.of(plentiful, 10));
+        Assertions.assertEquals(10, ledger.getStats().getReservedUnits());
+    }
+
+    @Test
+    @DisplayName("Should journal a transactional reservation only once its transaction commits")
+    void shouldJournalReservationAfterCommit() throws IOException {
+        UUID productId = UUID.randomUUID();
+        givenStock(productId, 10);
+
+        List<TransactionSynchronization> synchronizations = reserveInTransaction(Map.of(productId, 4));
+
+        Assertions.assertEquals(0, ledger.getStats().getPendingProducts());
+        try (var files = Files.list(journalDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        Assertions.assertEquals(1, ledger.getStats().getPendingProducts());
+        try (var files = Files.list(journalDirectory)) {
+            Path segment = files.findFirst().orElseThrow();
+            Assertions.assertEquals(Map.of(productId, 4), InventoryJournal.readSegment(segment));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return stock without journaling when the transaction rolls back")
+    void shouldNotJournalRolledBackReservation() throws IOException {
+        UUID productId = UUID.randomUUID();
+        givenStock(productId, 10);
+
+        reserveInTransaction(Map.of(productId, 10))
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        Assertions.assertEquals(0, ledger.getStats().getPendingProducts());
+        try (var files = Files.list(journalDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+        ledger.reserve(Map.of(productId, 10));
+    }
+
+    @Test
+    @DisplayName("Should count open reservations when a counter is reloaded")
+    void shouldCountUncommittedReservationsOnReload() {
+        UUID productId = UUID.randomUUID();
+        givenStock(productId, 10);
+
+        reserveInTransaction(Map.of(productId, 6));
+        ledger.evict(productId);
+
+        Assertions.assertThrows(InsufficientProductStock.class, () -> ledger.reserve(Map.of(productId, 5)));
+        ledger.reserve(Map.of(productId, 4));
+    }
+
+    private List<TransactionSynchronization> reserveInTransaction(Map<UUID, Integer> quantities) {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            ledger.reserve(quantities);
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Should flush net deltas in one batch and remove the journal segment")
+    @SuppressWarnings("unchecked")
+    void shouldFlushNetDeltasInOneBatch() throws IOException {
+        UUID productId = UUID.randomUUID();
+        givenStock(productId, 10);
+
+        ledger.reserve(Map.of(productId, 5));
+        ledger.release(Map.of(productId, 2));
+        ledger.flush();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE product"), rows.capture());
+        Assertions.assertEquals(1, rows.getValue().size());
+        Assertions.assertEquals(3, rows.getValue().get(0)[0]);
+        Assertions.assertEquals(productId, rows.getValue().get(0)[1]);
+        verify(jdbcTemplate).update(contains("inventory_ledger_segment"), anyString());
+
+        try (var files = Files.list(journalDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+        Assertions.assertEquals(1, ledger.getStats().getFlushCount());
+    }
+
+    @Test
+    @DisplayName("Should keep the segment and retry when the flush fails")
+    void shouldRetryFailedFlush() throws IOException {
+        UUID productId = UUID.randomUUID();
+        givenStock(productId, 10);
+        ledger.reserve(Map.of(productId, 5));
+
+        doThrow(new RuntimeException("connection lost"))
+                .doReturn(new int[]{1})
+                .when(jdbcTemplate).batchUpdate(anyString(), anyList());
+
+        ledger.flush();
+        try (var files = Files.list(journalDirectory)) {
+            Assertions.assertEquals(1, files.count());
+        }
+        Assertions.assertEquals(1, ledger.getStats().getFailedFlushes());
+
+        ledger.flush();
+        try (var files = Files.list(journalDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    @DisplayName("Should replay journal segments left behind by a crash")
+    @SuppressWarnings("unchecked")
+    void shouldReplayUnappliedSegmentsOnRecovery() throws IOException {
+        UUID productId = UUID.randomUUID();
+        Files.writeString(
+                journalDirectory.resolve("inventory-1700000000000-00000001.journal"),
+                productId + ",4;\n" + productId + ",3;\n" + productId + ",-1;\n" + productId + ",9");
+
+        when(jdbcTemplate.queryForObject(contains("inventory_ledger_segment"), eq(Integer.class), anyString()))
+                .thenReturn(0);
+
+        ledger.recover();
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE product"), rows.capture());
+        Assertions.assertEquals(6, rows.getValue().get(0)[0]);
+        try (var files = Files.list(journalDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should not replay a segment that was already applied")
+    void shouldSkipAppliedSegmentsOnRecovery() throws IOException {
+        UUID productId = UUID.randomUUID();
+        Files.writeString(
+                journalDirectory.resolve("inventory-1700000000000-00000001.journal"),
+                productId + ",4;\n");
+
+        when(jdbcTemplate.queryForObject(contains("inventory_ledger_segment"), eq(Integer.class), anyString()))
+                .thenReturn(1);
+
+        ledger.recover();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+        try (var files = Files.list(journalDirectory)) {
+            Assertions.assertEquals(0, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should do nothing when the ledger is disabled")
+    void shouldDoNothingWhenDisabled() {
+        InventoryLedgerService disabled = new InventoryLedgerService(
+                jdbcTemplate, transactionTemplate, false, journalDirectory.toString(), false);
+
+        disabled.reserve(Map.of(UUID.randomUUID(), 1));
+        disabled.flush();
+
+        Assertions.assertFalse(disabled.isEnabled());
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.ecommerce_system;
+
+import com.auth0.jwt.exceptions.JWTVerificationException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.example.ecommerce_system.model.Role;
+import com.example.ecommerce_system.model.RoleType;
+import com.example.ecommerce_system.model.User;
+import com.example.ecommerce_system.service.JwtTokenService;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.UUID;
+
+class JwtTokenServiceTest {
+
+    private JwtTokenService jwtTokenService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenService = new JwtTokenService("test-secret", 60_000, 30_000, 100);
+        user = User.builder()
+                .userId(UUID.randomUUID())
+                .email("user@example.com")
+                .role(Role.builder().roleName(RoleType.CUSTOMER).build())
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should return the cached decoded token for a repeated bearer token")
+    void shouldReuseVerifiedToken() {
+        String token = jwtTokenService.generateToken(user);
+
+        DecodedJWT first = jwtTokenService.validateToken(token);
+        DecodedJWT second = jwtTokenService.validateToken(token);
+
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(user.getUserId().toString(), jwtTokenService.extractUserId(second));
+        Assertions.assertEquals("ROLE_CUSTOMER", jwtTokenService.extractRoleWithPrefix(second));
+    }
+
+    @Test
+    @DisplayName("Should reject tokens signed with another key")
+    void shouldRejectForeignTokens() {
+        String foreign = new JwtTokenService("other-secret", 60_000, 30_000, 100).generateToken(user);
+
+        Assertions.assertThrows(JWTVerificationException.class, () -> jwtTokenService.validateToken(foreign));
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.service.ProductService;
+import com.example.ecommerce_system.util.aspect.LoggingAspect;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoggingAspectTest {
+
+    @Mock
+    private ProceedingJoinPoint joinPoint;
+
+    @Mock
+    private Signature signature;
+
+    @Test
+    @DisplayName("Should proceed without touching the join point when disabled")
+    void shouldProceedWithoutTracingWhenDisabled() throws Throwable {
+        LoggingAspect aspect = new LoggingAspect(false, 1.0, "");
+        when(joinPoint.proceed()).thenReturn("result");
+
+        Assertions.assertEquals("result", aspect.logServiceCall(joinPoint));
+        verify(joinPoint, never()).getArgs();
+        verify(joinPoint, never()).getSignature();
+    }
+
+    @Test
+    @DisplayName("Should not render arguments for unsampled packages")
+    void shouldNotRenderArgumentsForUnsampledPackages() throws Throwable {
+        LoggingAspect aspect = new LoggingAspect(true, 1.0, "com.example.ecommerce_system.service=0");
+        when(joinPoint.getThis()).thenReturn(mock(ProductService.class));
+        when(joinPoint.proceed()).thenReturn("result");
+
+        Assertions.assertEquals("result", aspect.logRepositoryCall(joinPoint));
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    @DisplayName("Should sample repository proxies at the rate of their repository interface")
+    void shouldSampleRepositoryProxiesByInterface() throws Throwable {
+        LoggingAspect aspect = new LoggingAspect(true, 1.0, "com.example.ecommerce_system.repository=0");
+        ProxyFactory proxyFactory = new ProxyFactory(new Object());
+        proxyFactory.addInterface(ProductRepository.class);
+        when(joinPoint.getThis()).thenReturn(proxyFactory.getProxy());
+        when(joinPoint.proceed()).thenReturn("result");
+
+        Assertions.assertEquals("result", aspect.logRepositoryCall(joinPoint));
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the declaring type when there is no target")
+    void shouldSampleByDeclaringTypeWithoutTarget() throws Throwable {
+        LoggingAspect aspect = new LoggingAspect(true, 1.0, "com.example.ecommerce_system.service=0");
+        when(joinPoint.getSignature()).thenReturn(signature);
+        doReturn(ProductService.class).when(signature).getDeclaringType();
+        when(joinPoint.proceed()).thenReturn("result");
+
+        Assertions.assertEquals("result", aspect.logRepositoryCall(joinPoint));
+        verify(joinPoint, never()).getArgs();
+    }
+
+    @Test
+    @DisplayName("Should rethrow failures after logging them")
+    void shouldRethrowFailures() throws Throwable {
+        LoggingAspect aspect = new LoggingAspect(true, 0, "");
+        when(joinPoint.getThis()).thenReturn(mock(ProductService.class));
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(signature.getDeclaringTypeName()).thenReturn(ProductService.class.getName());
+        when(signature.getName()).thenReturn("getProduct");
+        when(joinPoint.proceed()).thenThrow(new IllegalStateException("boom"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> aspect.logControllerCall(joinPoint));
+    }
+
+    @Test
+    @DisplayName("Should reject malformed per-package sample rates")
+    void shouldRejectMalformedSampleRates() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new LoggingAspect(true, 1.0, "com.example.ecommerce_system.service"));
+    }
+}
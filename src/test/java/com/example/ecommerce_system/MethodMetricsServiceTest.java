@@ -0,0 +1,61 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.metrics.MethodTimingSnapshot;
+import com.example.ecommerce_system.service.MethodMetricsService;
+import com.example.ecommerce_system.util.aspect.MetricsAspect;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+class MethodMetricsServiceTest {
+
+    private SimpleMeterRegistry registry;
+    private MethodMetricsService methodMetricsService;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        methodMetricsService = new MethodMetricsService(registry);
+    }
+
+    private Timer timer(String layer, String className, String method) {
+        return MetricsAspect.timerBuilder(layer, className, method).register(registry);
+    }
+
+    @Test
+    @DisplayName("Should report percentiles per method sorted by slowest p99")
+    void shouldReportPercentilesSortedByP99() {
+        Timer fast = timer("service", "ProductService", "getProduct");
+        Timer slow = timer("repository", "OrderRepository", "findAll");
+        for (int i = 1; i <= 100; i++) {
+            fast.record(i, TimeUnit.MILLISECONDS);
+            slow.record(i * 10L, TimeUnit.MILLISECONDS);
+        }
+
+        List<MethodTimingSnapshot> timings = methodMetricsService.getTimings(null);
+
+        Assertions.assertEquals(2, timings.size());
+        Assertions.assertEquals("OrderRepository", timings.get(0).getClassName());
+        Assertions.assertEquals(100, timings.get(0).getCount());
+        Assertions.assertTrue(timings.get(0).getP50Ms() < timings.get(0).getP99Ms());
+        Assertions.assertTrue(timings.get(1).getP99Ms() > 90 && timings.get(1).getP99Ms() < 110);
+    }
+
+    @Test
+    @DisplayName("Should filter timings by layer")
+    void shouldFilterTimingsByLayer() {
+        timer("service", "ProductService", "getProduct").record(5, TimeUnit.MILLISECONDS);
+        timer("controller", "ProductController", "getProduct").record(6, TimeUnit.MILLISECONDS);
+
+        List<MethodTimingSnapshot> timings = methodMetricsService.getTimings("controller");
+
+        Assertions.assertEquals(1, timings.size());
+        Assertions.assertEquals("ProductController", timings.get(0).getClassName());
+    }
+}
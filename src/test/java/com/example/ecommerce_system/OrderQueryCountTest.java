@@ -0,0 +1,156 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.orders.OrderResponseDto;
+import com.example.ecommerce_system.model.*;
+import com.example.ecommerce_system.repository.OrderRepository;
+import com.example.ecommerce_system.util.mapper.OrderItemMapperImpl;
+import com.example.ecommerce_system.util.mapper.OrderMapper;
+import com.example.ecommerce_system.util.mapper.OrderMapperImpl;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.file.name="
+})
+@Import({OrderMapperImpl.class, OrderItemMapperImpl.class})
+class OrderQueryCountTest {
+
+    private static final int ORDER_COUNT = 40;
+    private static final int ITEMS_PER_ORDER = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderMapper orderMapper;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Role role = Role.builder().roleName(RoleType.CUSTOMER).description("Customer").build();
+        entityManager.persist(role);
+
+        User user = User.builder()
+                .userId(UUID.randomUUID())
+                .email("customer@example.com")
+                .passwordHash("hash")
+                .role(role)
+                .createdAt(Instant.now())
+                .build();
+        entityManager.persist(user);
+
+        Customer customer = Customer.builder()
+                .customerId(UUID.randomUUID())
+                .user(user)
+                .firstName("Ama")
+                .phone("0200000000")
+                .active(true)
+                .build();
+        entityManager.persist(customer);
+
+        Category category = Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Electronics")
+                .createdAt(Instant.now())
+                .updatedAt(Instant.now())
+                .build();
+        entityManager.persist(category);
+
+        List<Product> products = new ArrayList<>();
+        for (int i = 0; i < ITEMS_PER_ORDER; i++) {
+            Product product = Product.builder()
+                    .productId(UUID.randomUUID())
+                    .name("Product " + i)
+                    .description("Description")
+                    .price(10.0)
+                    .stockQuantity(100)
+                    .category(category)
+                    .createdAt(Instant.now())
+                    .updatedAt(Instant.now())
+                    .build();
+            entityManager.persist(product);
+            products.add(product);
+        }
+
+        List<OrderStatus> statuses = new ArrayList<>();
+        for (OrderStatusType type : OrderStatusType.values()) {
+            OrderStatus status = OrderStatus.builder().statusId(UUID.randomUUID()).statusName(type).build();
+            entityManager.persist(status);
+            statuses.add(status);
+        }
+
+        Instant now = Instant.now();
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Orders order = Orders.builder()
+                    .orderId(UUID.randomUUID())
+                    .customer(customer)
+                    .status(statuses.get(i % statuses.size()))
+                    .orderDate(now.minusSeconds(i))
+                    .totalAmount(30.0)
+                    .shippingCountry("Ghana")
+                    .shippingCity("Accra")
+                    .shippingPostalCode("00233")
+                    .build();
+            entityManager.persist(order);
+
+            for (Product product : products) {
+                entityManager.persist(OrderItem.builder()
+                        .orderItemId(UUID.randomUUID())
+                        .order(order)
+                        .product(product)
+                        .quantity(1)
+                        .priceAtPurchase(10.0)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private long statementsForPage(int pageSize) {
+        entityManager.clear();
+        statistics.clear();
+
+        var orders = orderRepository.findSlice(PageRequest.of(0, pageSize, Sort.by("orderDate").descending()));
+        List<OrderResponseDto> dtos = orderMapper.toDtoList(orders.getContent());
+
+        Assertions.assertEquals(pageSize, dtos.size());
+        dtos.forEach(dto -> Assertions.assertEquals(ITEMS_PER_ORDER, dto.getItems().size()));
+        return statistics.getPrepareStatementCount();
+    }
+
+    @Test
+    @DisplayName("Should load an order page in the same number of statements regardless of page size, without a count")
+    void shouldLoadOrderPageInConstantStatements() {
+        long smallPage = statementsForPage(5);
+        long largePage = statementsForPage(ORDER_COUNT - 5);
+
+        Assertions.assertEquals(smallPage, largePage);
+        Assertions.assertTrue(largePage <= 2, "expected at most 2 statements but was " + largePage);
+    }
+}
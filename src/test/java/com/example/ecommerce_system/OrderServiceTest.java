@@ -1,9 +1,11 @@
 package com.example.ecommerce_system;
 
+import com.example.ecommerce_system.dto.CursorPageDto;
 import com.example.ecommerce_system.dto.orders.OrderFilter;
 import com.example.ecommerce_system.dto.orders.OrderItemDto;
 import com.example.ecommerce_system.dto.orders.OrderRequestDto;
 import com.example.ecommerce_system.dto.orders.OrderResponseDto;
+import com.example.ecommerce_system.exception.InvalidCursorException;
 import com.example.ecommerce_system.exception.customer.CustomerNotFoundException;
 import com.example.ecommerce_system.exception.order.InvalidOrderCancellationException;
 import com.example.ecommerce_system.exception.order.InvalidOrderStatusException;
@@ -12,25 +14,31 @@ import com.example.ecommerce_system.exception.product.InsufficientProductStock;
 import com.example.ecommerce_system.exception.product.ProductNotFoundException;
 import com.example.ecommerce_system.model.*;
 import com.example.ecommerce_system.repository.*;
+import com.example.ecommerce_system.service.InventoryLedgerService;
 import com.example.ecommerce_system.service.OrderService;
+import com.example.ecommerce_system.util.KeysetCursor;
 import com.example.ecommerce_system.util.mapper.OrderMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.Mockito.*;
@@ -50,6 +58,9 @@ class OrderServiceTest {
     @Mock
     private ProductRepository productRepository;
 
+    @Mock
+    private InventoryLedgerService inventoryLedgerService;
+
     @Mock
     private OrderMapper orderMapper;
 
@@ -140,7 +151,7 @@ class OrderServiceTest {
         when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
         when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
                 .thenReturn(Optional.of(pendingStatus));
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of(product));
         when(orderRepository.save(any(Orders.class))).thenReturn(savedOrder);
         when(orderMapper.toDto(any(Orders.class))).thenReturn(responseDto);
 
@@ -149,7 +160,8 @@ class OrderServiceTest {
         Assertions.assertNotNull(response.getOrderId());
         Assertions.assertEquals(OrderStatusType.PENDING.name(), response.getStatus());
         verify(customerRepository).findCustomerByUser_UserId(userId);
-        verify(productRepository).findById(productId);
+        verify(productRepository).findAllById(Set.of(productId));
+        verify(productRepository, never()).findById(any());
         verify(orderRepository).save(any(Orders.class));
     }
 
@@ -203,14 +215,14 @@ class OrderServiceTest {
         when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
         when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
                 .thenReturn(Optional.of(pendingStatus));
-        when(productRepository.findById(productId)).thenReturn(Optional.empty());
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of());
 
         Assertions.assertThrows(
                 ProductNotFoundException.class,
                 () -> orderService.placeOrder(request, userId)
         );
 
-        verify(productRepository).findById(productId);
+        verify(productRepository).findAllById(Set.of(productId));
         verify(orderRepository, never()).save(any());
     }
 
@@ -250,16 +262,107 @@ class OrderServiceTest {
         when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
         when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
                 .thenReturn(Optional.of(pendingStatus));
-        when(productRepository.findById(productId)).thenReturn(Optional.of(product));
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of(product));
+
+        Assertions.assertThrows(
+                InsufficientProductStock.class,
+                () -> orderService.placeOrder(request, userId)
+        );
+
+        verify(orderRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("Should throw error when repeated lines for a product exceed its stock")
+    void shouldThrowWhenRepeatedLinesExceedStock() {
+        UUID userId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+
+        Customer customer = Customer.builder()
+                .customerId(UUID.randomUUID())
+                .user(User.builder().userId(userId).build())
+                .build();
+
+        Product product = Product.builder()
+                .productId(productId)
+                .price(100.0)
+                .stockQuantity(5)
+                .build();
+
+        OrderItemDto firstLine = OrderItemDto.builder()
+                .productId(productId)
+                .quantity(3)
+                .build();
+
+        OrderItemDto secondLine = OrderItemDto.builder()
+                .productId(productId)
+                .quantity(3)
+                .build();
+
+        OrderRequestDto request = OrderRequestDto.builder()
+                .items(List.of(firstLine, secondLine))
+                .city("Accra")
+                .country("Ghana")
+                .postalCode("00233")
+                .build();
+
+        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
+        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
+                .thenReturn(Optional.of(pendingStatus));
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of(product));
 
         Assertions.assertThrows(
                 InsufficientProductStock.class,
                 () -> orderService.placeOrder(request, userId)
         );
 
+        verify(productRepository, times(1)).findAllById(Set.of(productId));
         verify(orderRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("Should reserve stock through the inventory ledger when it is enabled")
+    void shouldReserveStockThroughLedgerWhenEnabled() {
+        UUID userId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+
+        Customer customer = Customer.builder()
+                .customerId(UUID.randomUUID())
+                .user(User.builder().userId(userId).build())
+                .build();
+
+        Product product = Product.builder()
+                .productId(productId)
+                .price(100.0)
+                .stockQuantity(0)
+                .build();
+
+        OrderRequestDto request = OrderRequestDto.builder()
+                .items(List.of(OrderItemDto.builder().productId(productId).quantity(3).build()))
+                .city("Accra")
+                .country("Ghana")
+                .postalCode("00233")
+                .build();
+
+        Orders savedOrder = Orders.builder()
+                .orderId(UUID.randomUUID())
+                .status(pendingStatus)
+                .orderItems(new ArrayList<>())
+                .build();
+
+        when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
+        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
+                .thenReturn(Optional.of(pendingStatus));
+        when(productRepository.findAllById(Set.of(productId))).thenReturn(List.of(product));
+        when(inventoryLedgerService.isEnabled()).thenReturn(true);
+        when(orderRepository.save(any(Orders.class))).thenReturn(savedOrder);
+
+        orderService.placeOrder(request, userId);
+
+        verify(inventoryLedgerService).reserve(Map.of(productId, 3));
+        verify(orderRepository).save(argThat(Orders::isStockReserved));
+    }
+
     @Test
     @DisplayName("Should get order by id successfully")
     void shouldGetOrderByIdSuccessfully() {
@@ -325,19 +428,19 @@ class OrderServiceTest {
                 .orderItems(new ArrayList<>())
                 .build();
 
-        Page<Orders> ordersPage = new PageImpl<>(List.of(order1, order2));
+        Slice<Orders> ordersPage = new SliceImpl<>(List.of(order1, order2));
         List<OrderResponseDto> responseDtos = List.of(
                 OrderResponseDto.builder().orderId(order1.getOrderId()).build(),
                 OrderResponseDto.builder().orderId(order2.getOrderId()).build()
         );
 
-        when(orderRepository.findAll(any(PageRequest.class))).thenReturn(ordersPage);
+        when(orderRepository.findSlice(any(PageRequest.class))).thenReturn(ordersPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(responseDtos);
 
         List<OrderResponseDto> response = orderService.getAllOrders(10, 0);
 
         Assertions.assertEquals(2, response.size());
-        verify(orderRepository).findAll(any(PageRequest.class));
+        verify(orderRepository).findSlice(any(PageRequest.class));
     }
 
     @Test
@@ -369,10 +472,10 @@ class OrderServiceTest {
                 OrderResponseDto.builder().orderId(order.getOrderId()).build()
         );
 
-        Page<Orders> ordersPage = new PageImpl<>(List.of(order), PageRequest.of(10, 5), 0);
+        Slice<Orders> ordersPage = new SliceImpl<>(List.of(order), PageRequest.of(10, 5), false);
 
         when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
-        when(orderRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(orderRepository.findSlice(any(Specification.class), any(PageRequest.class)))
                 .thenReturn(ordersPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(responseDtos);
 
@@ -380,7 +483,7 @@ class OrderServiceTest {
 
         Assertions.assertEquals(1, response.size());
         verify(customerRepository).findCustomerByUser_UserId(userId);
-        verify(orderRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(orderRepository).findSlice(any(Specification.class), any(PageRequest.class));
     }
 
     @Test
@@ -402,15 +505,79 @@ class OrderServiceTest {
     @Test
     @DisplayName("Should handle pagination in get all orders")
     void shouldHandlePaginationInGetAllOrders() {
-        Page<Orders> emptyPage = new PageImpl<>(List.of());
+        Slice<Orders> emptyPage = new SliceImpl<>(List.of());
 
-        when(orderRepository.findAll(any(PageRequest.class))).thenReturn(emptyPage);
+        when(orderRepository.findSlice(any(PageRequest.class))).thenReturn(emptyPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(List.of());
 
         List<OrderResponseDto> response = orderService.getAllOrders(5, 10);
 
         Assertions.assertEquals(0, response.size());
-        verify(orderRepository).findAll(any(PageRequest.class));
+        verify(orderRepository).findSlice(any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should return a cursor page of orders with the cursor of the last row")
+    @SuppressWarnings("unchecked")
+    void shouldGetOrdersAfterCursor() {
+        Instant now = Instant.now();
+        List<Orders> rows = List.of(
+                Orders.builder().orderId(UUID.randomUUID()).orderDate(now).build(),
+                Orders.builder().orderId(UUID.randomUUID()).orderDate(now.minusSeconds(60)).build(),
+                Orders.builder().orderId(UUID.randomUUID()).orderDate(now.minusSeconds(120)).build()
+        );
+        List<OrderResponseDto> mapped = List.of(new OrderResponseDto(), new OrderResponseDto());
+
+        when(orderRepository.findBy(any(Specification.class), any())).thenReturn(rows);
+        when(orderMapper.toDtoList(rows.subList(0, 2))).thenReturn(mapped);
+
+        CursorPageDto<OrderResponseDto> page = orderService.getAllOrdersAfter(null, 2);
+
+        Assertions.assertEquals(2, page.getItems().size());
+        Assertions.assertTrue(page.isHasNext());
+        KeysetCursor next = KeysetCursor.decode(page.getNextCursor());
+        Assertions.assertEquals(rows.get(1).getOrderId(), next.id());
+        Assertions.assertEquals(rows.get(1).getOrderDate(), next.sortKey());
+    }
+
+    @Test
+    @DisplayName("Should report the last cursor page")
+    @SuppressWarnings("unchecked")
+    void shouldReportLastCursorPage() {
+        Orders order = Orders.builder().orderId(UUID.randomUUID()).orderDate(Instant.now()).build();
+        String cursor = new KeysetCursor(Instant.now(), UUID.randomUUID()).encode();
+
+        when(orderRepository.findBy(any(Specification.class), any())).thenReturn(List.of(order));
+        when(orderMapper.toDtoList(List.of(order))).thenReturn(List.of(new OrderResponseDto()));
+
+        CursorPageDto<OrderResponseDto> page = orderService.getAllOrdersAfter(cursor, 10);
+
+        Assertions.assertEquals(1, page.getItems().size());
+        Assertions.assertFalse(page.isHasNext());
+        Assertions.assertNull(page.getNextCursor());
+    }
+
+    @Test
+    @DisplayName("Should throw error when cursor is malformed")
+    void shouldThrowWhenCursorIsMalformed() {
+        Assertions.assertThrows(
+                InvalidCursorException.class,
+                () -> orderService.getAllOrdersAfter("not-a-cursor", 10)
+        );
+
+        verify(orderRepository, never()).findBy(any(Specification.class), any());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, -10})
+    @DisplayName("Should reject cursor page limits below one before querying")
+    void shouldRejectCursorPageLimitsBelowOne(int limit) {
+        Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> orderService.getAllOrdersAfter(null, limit)
+        );
+
+        verify(orderRepository, never()).findBy(any(Specification.class), any());
     }
 
     @Test
@@ -429,17 +596,17 @@ class OrderServiceTest {
                 .user(user)
                 .build();
 
-        Page<Orders> emptyPage = new PageImpl<>(List.of());
+        Slice<Orders> emptyPage = new SliceImpl<>(List.of());
 
         when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
-        when(orderRepository.findAll(any(Specification.class), any(PageRequest.class)))
+        when(orderRepository.findSlice(any(Specification.class), any(PageRequest.class)))
                 .thenReturn(emptyPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(List.of());
 
         List<OrderResponseDto> response = orderService.getCustomerOrders(userId, 5, 10);
 
         Assertions.assertEquals(0, response.size());
-        verify(orderRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(orderRepository).findSlice(any(Specification.class), any(PageRequest.class));
     }
 
     @Test
@@ -509,8 +676,7 @@ class OrderServiceTest {
         when(customerRepository.findCustomerByUser_UserId(userId)).thenReturn(Optional.of(customer));
         when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PENDING))
                 .thenReturn(Optional.of(pendingStatus));
-        when(productRepository.findById(productId1)).thenReturn(Optional.of(product1));
-        when(productRepository.findById(productId2)).thenReturn(Optional.of(product2));
+        when(productRepository.findAllById(Set.of(productId1, productId2))).thenReturn(List.of(product1, product2));
         when(orderRepository.save(any(Orders.class))).thenReturn(savedOrder);
         when(orderMapper.toDto(any(Orders.class))).thenReturn(responseDto);
 
@@ -559,6 +725,100 @@ class OrderServiceTest {
         verify(orderMapper).toDto(existingOrder);
     }
 
+    @Test
+    @DisplayName("Should release ledger stock when cancelling an order that reserved it")
+    void shouldReleaseLedgerStockWhenCancellingReservedOrder() {
+        UUID orderId = UUID.randomUUID();
+        UUID productId = UUID.randomUUID();
+
+        OrderItem item = OrderItem.builder()
+                .orderItemId(UUID.randomUUID())
+                .product(Product.builder().productId(productId).build())
+                .quantity(2)
+                .build();
+
+        Orders existingOrder = Orders.builder()
+                .orderId(orderId)
+                .status(pendingStatus)
+                .stockReserved(true)
+                .orderItems(List.of(item))
+                .build();
+
+        OrderRequestDto request = OrderRequestDto.builder()
+                .status(OrderStatusType.CANCELLED)
+                .build();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.CANCELLED))
+                .thenReturn(Optional.of(cancelledStatus));
+
+        orderService.updateOrderStatus(orderId, request);
+
+        verify(inventoryLedgerService).release(Map.of(productId, 2));
+    }
+
+    @Test
+    @DisplayName("Should not release ledger stock when cancelling an order placed without it")
+    void shouldNotReleaseLedgerStockWhenCancellingUnreservedOrder() {
+        UUID orderId = UUID.randomUUID();
+
+        OrderItem item = OrderItem.builder()
+                .orderItemId(UUID.randomUUID())
+                .product(Product.builder().productId(UUID.randomUUID()).build())
+                .quantity(2)
+                .build();
+
+        Orders existingOrder = Orders.builder()
+                .orderId(orderId)
+                .status(pendingStatus)
+                .orderItems(List.of(item))
+                .build();
+
+        OrderRequestDto request = OrderRequestDto.builder()
+                .status(OrderStatusType.CANCELLED)
+                .build();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.CANCELLED))
+                .thenReturn(Optional.of(cancelledStatus));
+
+        orderService.updateOrderStatus(orderId, request);
+
+        verify(inventoryLedgerService, never()).release(any());
+    }
+
+    @Test
+    @DisplayName("Should not deduct stock again when processing an order that reserved it through the ledger")
+    void shouldNotDeductStockWhenProcessingReservedOrder() {
+        UUID orderId = UUID.randomUUID();
+
+        OrderItem item = OrderItem.builder()
+                .orderItemId(UUID.randomUUID())
+                .product(Product.builder().productId(UUID.randomUUID()).build())
+                .quantity(2)
+                .build();
+
+        Orders existingOrder = Orders.builder()
+                .orderId(orderId)
+                .status(pendingStatus)
+                .stockReserved(true)
+                .orderItems(List.of(item))
+                .build();
+
+        OrderRequestDto request = OrderRequestDto.builder()
+                .status(OrderStatusType.PROCESSED)
+                .build();
+
+        when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PROCESSED))
+                .thenReturn(Optional.of(processedStatus));
+
+        orderService.updateOrderStatus(orderId, request);
+
+        Assertions.assertEquals(processedStatus, existingOrder.getStatus());
+        verify(productRepository, never()).decrementStock(any(), anyInt(), any());
+    }
+
     @Test
     @DisplayName("Should update order status to PROCESSED successfully")
     void shouldUpdateOrderStatusToProcessed() {
@@ -599,17 +859,17 @@ class OrderServiceTest {
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
         when(orderStatusRepository.findOrderStatusByStatusName(OrderStatusType.PROCESSED))
                 .thenReturn(Optional.of(processedStatus));
-        when(productRepository.save(any(Product.class))).thenReturn(product);
+        when(productRepository.decrementStock(eq(productId), eq(2), any(Instant.class))).thenReturn(1);
         when(orderMapper.toDto(any(Orders.class))).thenReturn(responseDto);
 
         OrderResponseDto response = orderService.updateOrderStatus(orderId, request);
 
         Assertions.assertEquals(OrderStatusType.PROCESSED.name(), response.getStatus());
         Assertions.assertEquals(processedStatus, existingOrder.getStatus());
-        Assertions.assertEquals(8, product.getStockQuantity());
         verify(orderRepository).findById(orderId);
         verify(orderStatusRepository).findOrderStatusByStatusName(OrderStatusType.PROCESSED);
-        verify(productRepository).save(product);
+        verify(productRepository).decrementStock(eq(productId), eq(2), any(Instant.class));
+        verify(productRepository, never()).save(any());
         verify(orderMapper).toDto(existingOrder);
     }
 
@@ -692,6 +952,7 @@ class OrderServiceTest {
                 .build();
 
         when(orderRepository.findById(orderId)).thenReturn(Optional.of(existingOrder));
+        when(productRepository.decrementStock(eq(productId), eq(10), any(Instant.class))).thenReturn(0);
 
         Assertions.assertThrows(
                 InsufficientProductStock.class,
@@ -699,6 +960,8 @@ class OrderServiceTest {
         );
 
         verify(orderRepository).findById(orderId);
+        verify(orderStatusRepository, never()).findOrderStatusByStatusName(any());
+        Assertions.assertEquals(pendingStatus, existingOrder.getStatus());
     }
 
     @Test
@@ -726,7 +989,7 @@ class OrderServiceTest {
                 .orderItems(new ArrayList<>())
                 .build();
 
-        Page<Orders> ordersPage = new PageImpl<>(List.of(order), PageRequest.of(0, 10), 1);
+        Slice<Orders> ordersPage = new SliceImpl<>(List.of(order), PageRequest.of(0, 10), false);
         List<OrderResponseDto> responseDtos = List.of(
                 OrderResponseDto.builder()
                         .orderId(order.getOrderId())
@@ -735,14 +998,14 @@ class OrderServiceTest {
                         .build()
         );
 
-        when(orderRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(ordersPage);
+        when(orderRepository.findSlice(any(Specification.class), any(PageRequest.class))).thenReturn(ordersPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(responseDtos);
 
         List<OrderResponseDto> response = orderService.searchOrders(filter, 10, 0);
 
         Assertions.assertEquals(1, response.size());
         Assertions.assertEquals(OrderStatusType.PENDING.name(), response.get(0).getStatus());
-        verify(orderRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(orderRepository).findSlice(any(Specification.class), any(PageRequest.class));
         verify(orderMapper).toDtoList(anyList());
     }
 
@@ -754,15 +1017,15 @@ class OrderServiceTest {
                 .status(OrderStatusType.CANCELLED)
                 .build();
 
-        Page<Orders> emptyPage = new PageImpl<>(List.of(), PageRequest.of(0, 10), 0);
+        Slice<Orders> emptyPage = new SliceImpl<>(List.of(), PageRequest.of(0, 10), false);
 
-        when(orderRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(emptyPage);
+        when(orderRepository.findSlice(any(Specification.class), any(PageRequest.class))).thenReturn(emptyPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(List.of());
 
         List<OrderResponseDto> response = orderService.searchOrders(filter, 10, 0);
 
         Assertions.assertEquals(0, response.size());
-        verify(orderRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(orderRepository).findSlice(any(Specification.class), any(PageRequest.class));
     }
 
     @Test
@@ -782,7 +1045,7 @@ class OrderServiceTest {
                 .orderItems(new ArrayList<>())
                 .build();
 
-        Page<Orders> ordersPage = new PageImpl<>(List.of(order), PageRequest.of(5, 5), 1);
+        Slice<Orders> ordersPage = new SliceImpl<>(List.of(order), PageRequest.of(5, 5), false);
         List<OrderResponseDto> responseDtos = List.of(
                 OrderResponseDto.builder()
                         .orderId(order.getOrderId())
@@ -790,12 +1053,12 @@ class OrderServiceTest {
                         .build()
         );
 
-        when(orderRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(ordersPage);
+        when(orderRepository.findSlice(any(Specification.class), any(PageRequest.class))).thenReturn(ordersPage);
         when(orderMapper.toDtoList(anyList())).thenReturn(responseDtos);
 
         List<OrderResponseDto> response = orderService.searchOrders(filter, 5, 5);
 
         Assertions.assertEquals(1, response.size());
-        verify(orderRepository).findAll(any(Specification.class), eq(PageRequest.of(5, 5, org.springframework.data.domain.Sort.by("orderDate").descending())));
+        verify(orderRepository).findSlice(any(Specification.class), eq(PageRequest.of(5, 5, org.springframework.data.domain.Sort.by("orderDate").descending())));
     }
 }
@@ -0,0 +1,56 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.exception.auth.WeakPasswordException;
+import com.example.ecommerce_system.util.PasswordPolicy;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class PasswordPolicyTest {
+
+    private final PasswordPolicy passwordPolicy = new PasswordPolicy(8, true, true, true, true, "");
+
+    @Test
+    @DisplayName("Should accept a password that satisfies every rule")
+    void shouldAcceptStrongPassword() {
+        Assertions.assertTrue(passwordPolicy.violations("Password123!").isEmpty());
+        Assertions.assertDoesNotThrow(() -> passwordPolicy.validate("Str0ng\\Pass"));
+    }
+
+    @Test
+    @DisplayName("Should report every violated rule at once")
+    void shouldReportAllViolations() {
+        List<String> violations = passwordPolicy.violations("abc");
+
+        Assertions.assertEquals(List.of(
+                "Password must be at least 8 characters long.",
+                "Password must contain at least one uppercase letter.",
+                "Password must contain at least one digit.",
+                "Password must contain at least one special character."
+        ), violations);
+
+        WeakPasswordException exception =
+                Assertions.assertThrows(WeakPasswordException.class, () -> passwordPolicy.validate("abc"));
+        Assertions.assertTrue(exception.getMessage().contains("uppercase letter"));
+        Assertions.assertTrue(exception.getMessage().contains("special character"));
+    }
+
+    @Test
+    @DisplayName("Should treat a null password as violating every rule")
+    void shouldRejectNullPassword() {
+        Assertions.assertEquals(5, passwordPolicy.violations(null).size());
+    }
+
+    @Test
+    @DisplayName("Should apply configured rules and special characters")
+    void shouldApplyConfiguredRules() {
+        PasswordPolicy relaxed = new PasswordPolicy(12, false, true, true, true, "~");
+
+        Assertions.assertEquals(
+                List.of("Password must contain at least one special character."),
+                relaxed.violations("lowercase123!"));
+        Assertions.assertTrue(relaxed.violations("lowercase123~").isEmpty());
+    }
+}
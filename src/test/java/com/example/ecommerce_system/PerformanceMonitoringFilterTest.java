@@ -0,0 +1,58 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.config.PerformanceMonitoringFilter;
+import com.example.ecommerce_system.util.aspect.RequestMetrics;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicReference;
+
+class PerformanceMonitoringFilterTest {
+
+    @Test
+    @DisplayName("Should attach request metrics and pass bodies through unchanged when sampled")
+    void shouldWrapSampledRequests() throws Exception {
+        PerformanceMonitoringFilter filter = new PerformanceMonitoringFilter(true, 1.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/orders");
+        request.setContent("{\"city\":\"Accra\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        AtomicReference<String> bodySeen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) throws IOException {
+                bodySeen.set(new String(req.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                res.getWriter().write("{\"ok\":true}");
+            }
+        };
+
+        filter.doFilter(request, response, chain);
+
+        Assertions.assertEquals("{\"city\":\"Accra\"}", bodySeen.get());
+        Assertions.assertEquals("{\"ok\":true}", response.getContentAsString());
+        Assertions.assertInstanceOf(RequestMetrics.class, request.getAttribute(RequestMetrics.ATTRIBUTE));
+    }
+
+    @Test
+    @DisplayName("Should leave unsampled requests untouched")
+    void shouldSkipUnsampledRequests() throws Exception {
+        PerformanceMonitoringFilter filter = new PerformanceMonitoringFilter(true, 0.0);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        Assertions.assertSame(request, chain.getRequest());
+        Assertions.assertSame(response, chain.getResponse());
+        Assertions.assertNull(request.getAttribute(RequestMetrics.ATTRIBUTE));
+    }
+}
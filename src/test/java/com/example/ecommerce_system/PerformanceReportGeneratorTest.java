@@ -0,0 +1,93 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.util.LatencyHistogram;
+import com.example.ecommerce_system.util.PerformanceReportGenerator;
+import com.example.ecommerce_system.util.PerformanceReportGenerator.ApiSummary;
+import com.example.ecommerce_system.util.PerformanceReportGenerator.EndpointSummary;
+import com.example.ecommerce_system.util.PerformanceReportGenerator.Report;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+class PerformanceReportGeneratorTest {
+
+    @TempDir
+    Path logDirectory;
+
+    private static String metricLine(String time, String type, String method, double millis) {
+        return String.format("2024-05-01 %s.123 [http-nio-8080-exec-1] INFO  c.e.e.c.PerformanceMonitoringFilter - "
+                + "[%s] %s - Duration: %.3fms, Request Size: 10 bytes, Response Size: 200 bytes%n",
+                time, type, method, millis);
+    }
+
+    @Test
+    @DisplayName("Should aggregate plain and gzipped rotated logs into percentiles and windows")
+    void shouldAggregatePlainAndGzippedLogs() throws IOException {
+        StringBuilder current = new StringBuilder("2024-05-01 10:00:00.000 [main] INFO  Started\n");
+        for (int i = 1; i <= 100; i++) {
+            current.append(metricLine("10:00:" + String.format("%02d", i % 60), "REST", "GET /products", i));
+        }
+        Files.writeString(logDirectory.resolve("application.log"), current);
+
+        try (OutputStream out = new GZIPOutputStream(
+                Files.newOutputStream(logDirectory.resolve("application.log.2024-05-01.0.gz")))) {
+            for (int i = 0; i < 30; i++) {
+                out.write(metricLine("09:59:30", "GraphQL", "products", 5).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        Report report = PerformanceReportGenerator.analyze(List.of(logDirectory), 60);
+
+        Assertions.assertEquals(2, report.files());
+
+        EndpointSummary products = report.endpointsOf("REST").get(0);
+        Assertions.assertEquals("GET /products", products.method());
+        Assertions.assertEquals(100, products.calls());
+        Assertions.assertEquals(50.5, products.avgMs(), 0.01);
+        Assertions.assertEquals(50, products.p50Ms(), 1);
+        Assertions.assertEquals(99, products.p99Ms(), 2);
+        Assertions.assertEquals(200, products.avgResponseBytes());
+
+        ApiSummary graphql = report.api("GraphQL");
+        Assertions.assertEquals(30, graphql.latency().calls());
+        Assertions.assertEquals(1, graphql.windows().size());
+        Assertions.assertEquals(0.5, graphql.peakCallsPerSecond(), 0.001);
+    }
+
+    @Test
+    @DisplayName("Should count every line exactly once across chunk boundaries")
+    void shouldCountLinesOnceAcrossChunks() throws IOException {
+        Path log = logDirectory.resolve("large.log");
+        String line = metricLine("10:00:00", "REST", "GET /orders", 1.5);
+        long lines = (40L * 1024 * 1024) / line.length() + 1;
+        try (OutputStream out = Files.newOutputStream(log)) {
+            byte[] bytes = line.getBytes(StandardCharsets.UTF_8);
+            for (long i = 0; i < lines; i++) out.write(bytes);
+        }
+
+        Report report = PerformanceReportGenerator.analyze(List.of(log), 60);
+
+        Assertions.assertEquals(lines, report.api("REST").latency().calls());
+    }
+
+    @Test
+    @DisplayName("Should keep histogram percentiles within bucket precision")
+    void shouldKeepHistogramPercentilesAccurate() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1_000_000; micros++) histogram.record(micros);
+
+        Assertions.assertEquals(500_000, histogram.percentile(50), 500_000 * 0.02);
+        Assertions.assertEquals(990_000, histogram.percentile(99), 990_000 * 0.02);
+        Assertions.assertEquals(1, histogram.getMin());
+        Assertions.assertEquals(1_000_000, histogram.getMax());
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.util.PriceBuckets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PriceBucketsTest {
+
+    private final PriceBuckets priceBuckets = new PriceBuckets("25, 50,100");
+
+    @Test
+    @DisplayName("Should put bounds in the bucket they open")
+    void shouldPutBoundsInTheBucketTheyOpen() {
+        Assertions.assertEquals(4, priceBuckets.size());
+        Assertions.assertEquals(0, priceBuckets.indexOf(9.99));
+        Assertions.assertEquals(1, priceBuckets.indexOf(25.0));
+        Assertions.assertEquals(2, priceBuckets.indexOf(99.99));
+        Assertions.assertEquals(3, priceBuckets.indexOf(100.0));
+        Assertions.assertNull(priceBuckets.lowerBound(0));
+        Assertions.assertEquals(50.0, priceBuckets.upperBound(1));
+        Assertions.assertNull(priceBuckets.upperBound(3));
+    }
+
+    @Test
+    @DisplayName("Should render the same buckets as a SQL CASE expression")
+    void shouldRenderBucketsAsSqlCase() {
+        Assertions.assertEquals(
+                "CASE WHEN p.price < 25.0 THEN 0 WHEN p.price < 50.0 THEN 1 WHEN p.price < 100.0 THEN 2 ELSE 3 END",
+                priceBuckets.toSqlCase("p.price"));
+        Assertions.assertEquals("0", new PriceBuckets("").toSqlCase("p.price"));
+    }
+
+    @Test
+    @DisplayName("Should reject bounds out of order")
+    void shouldRejectBoundsOutOfOrder() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new PriceBuckets(50, 25));
+    }
+}
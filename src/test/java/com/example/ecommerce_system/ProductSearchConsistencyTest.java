@@ -0,0 +1,155 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.service.ProductSearchIndex;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mapstruct.factory.Mappers;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Runs the same product searches through the PostgreSQL full-text query and
+ * the in-memory index, which must return the same products in the same
+ * order. The schema is created from db.sql in a throwaway schema.
+ *
+ * <p>Runs only when {@code QUERY_PLAN_DB_URL} (with {@code QUERY_PLAN_DB_USER}
+ * and {@code QUERY_PLAN_DB_PASSWORD}) points at a PostgreSQL database.
+ */
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=none",
+        "logging.file.name="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class ProductSearchConsistencyTest {
+
+    private static final String SCHEMA = "search_consistency_" + UUID.randomUUID().toString().replace("-", "");
+    private static final String[][] PRODUCTS = {
+            {"AA Batteries", "Pack of rechargeable batteries"},
+            {"Battery Charger", "Charges AA and AAA batteries overnight"},
+            {"Home Theater Speaker", "The speaker for films and music"},
+            {"The Art of Coffee", "A book about brewing"},
+            {"Wireless Mouse", "Ergonomic mouse with USB-C charging"},
+            {"Wireless Keyboard", "Compact keyboard, runs on batteries"},
+            {"Running Shoes", "Light shoes for runners"},
+            {"E-mail Planner", "Paper planner for your inbox"},
+            {"Smart Kettle", "Holds 1.5 litres"},
+    };
+
+    private static JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private final ProductMapper productMapper = Mappers.getMapper(ProductMapper.class);
+    private ProductSearchIndex index;
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        String url = System.getenv("QUERY_PLAN_DB_URL");
+        registry.add("spring.datasource.url", () -> url + (url.contains("?") ? "&" : "?") + "currentSchema=" + SCHEMA);
+        registry.add("spring.datasource.username", () -> System.getenv().getOrDefault("QUERY_PLAN_DB_USER", "postgres"));
+        registry.add("spring.datasource.password", () -> System.getenv().getOrDefault("QUERY_PLAN_DB_PASSWORD", ""));
+    }
+
+    @BeforeAll
+    static void createSchema() throws IOException {
+        jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(
+                System.getenv("QUERY_PLAN_DB_URL"),
+                System.getenv().getOrDefault("QUERY_PLAN_DB_USER", "postgres"),
+                System.getenv().getOrDefault("QUERY_PLAN_DB_PASSWORD", ""),
+                true
+        ));
+        jdbcTemplate.execute("CREATE SCHEMA " + SCHEMA);
+        jdbcTemplate.execute("SET search_path TO " + SCHEMA + ", public");
+
+        String script = new ClassPathResource("db/db.sql").getContentAsString(StandardCharsets.UTF_8);
+        for (String statement : script.split(";")) {
+            if (statement.isBlank() || statement.strip().startsWith("alter table")) continue;
+            jdbcTemplate.execute(statement);
+        }
+
+        UUID categoryId = UUID.randomUUID();
+        jdbcTemplate.update("INSERT INTO category (category_id, name, description) VALUES (?, 'General', 'General')", categoryId);
+        for (String[] product : PRODUCTS) {
+            jdbcTemplate.update("""
+                    INSERT INTO product (name, description, price, stock_quantity, category_id)
+                    VALUES (?, ?, 10, 10, ?)
+                    """, product[0], product[1], categoryId);
+        }
+    }
+
+    @AfterAll
+    static void dropSchema() {
+        if (jdbcTemplate == null) return;
+        jdbcTemplate.execute("DROP SCHEMA " + SCHEMA + " CASCADE");
+        ((SingleConnectionDataSource) jdbcTemplate.getDataSource()).destroy();
+    }
+
+    @BeforeEach
+    void buildIndex() {
+        index = new ProductSearchIndex(productRepository, productMapper, true, 3, 2);
+        index.rebuild();
+    }
+
+    static Stream<Arguments> filters() {
+        return Stream.of(
+                Arguments.of("unstemmed word", ProductFilter.builder().name("battery").build(), 1),
+                Arguments.of("plural word", ProductFilter.builder().description("batteries").build(), 3),
+                Arguments.of("prefix", ProductFilter.builder().name("batter").build(), 2),
+                Arguments.of("stop word", ProductFilter.builder().name("the").build(), 2),
+                Arguments.of("several words", ProductFilter.builder().name("wireless mo").build(), 1),
+                Arguments.of("name and description", ProductFilter.builder().name("run").description("light").build(), 1),
+                Arguments.of("hyphenated word", ProductFilter.builder().description("usb c").build(), 1),
+                Arguments.of("hyphenated name", ProductFilter.builder().name("e-mail").build(), 1),
+                Arguments.of("hyphen part", ProductFilter.builder().name("mail").build(), 1),
+                Arguments.of("decimal number", ProductFilter.builder().description("1").build(), 1),
+                Arguments.of("decimal fraction", ProductFilter.builder().description("5").build(), 0),
+                Arguments.of("no match", ProductFilter.builder().name("laptop").build(), 0)
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filters")
+    @DisplayName("Should return the same products in the same order from the database and the index")
+    void shouldMatchDatabaseAndIndex(String name, ProductFilter filter, int expected) {
+        for (int page = 0; page < 3; page++) {
+            PageRequest pageRequest = PageRequest.of(page, 2);
+            List<UUID> database = productRepository.searchFullText(filter, pageRequest).stream()
+                    .map(Product::getProductId)
+                    .toList();
+            List<UUID> indexed = index.search(filter, pageRequest).stream()
+                    .map(ProductResponseDto::getProductId)
+                    .toList();
+            Assertions.assertEquals(database, indexed, name + ", page " + page);
+        }
+
+        Assertions.assertEquals(expected,
+                productRepository.searchFullText(filter, PageRequest.of(0, PRODUCTS.length)).size());
+    }
+}
@@ -0,0 +1,227 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.product.CategoryFacetDto;
+import com.example.ecommerce_system.dto.product.PriceBucketFacetDto;
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.dto.product.ProductResponseDto;
+import com.example.ecommerce_system.model.Product;
+import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.service.ProductSearchIndex;
+import com.example.ecommerce_system.util.PriceBuckets;
+import com.example.ecommerce_system.util.mapper.ProductMapper;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+class ProductSearchIndexTest {
+
+    private final ProductRepository productRepository = mock(ProductRepository.class);
+    private final ProductMapper productMapper = mock(ProductMapper.class);
+    private long nextProductId;
+    private final UUID electronics = UUID.randomUUID();
+    private final UUID office = UUID.randomUUID();
+
+    private final ProductResponseDto keyboard = product("Wireless Keyboard", "Compact bluetooth keyboard", electronics, 45.0, 30);
+    private final ProductResponseDto mouse = product("Wireless Mouse", "Ergonomic mouse", electronics, 25.0, 5);
+    private final ProductResponseDto chair = product("Office Chair", "Ergonomic mesh chair", office, 180.0, 12);
+    private final ProductResponseDto cable = product("USB-C Cable", "Braided charging cable", electronics, 9.0, 200);
+
+    private ProductSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        List<ProductResponseDto> catalogue = List.of(keyboard, mouse, chair, cable);
+        when(productRepository.count()).thenReturn((long) catalogue.size());
+        when(productRepository.findSlice(any(Pageable.class))).thenAnswer(invocation -> {
+            Pageable page = invocation.getArgument(0);
+            int from = (int) Math.min(page.getOffset(), catalogue.size());
+            int to = Math.min(from + page.getPageSize(), catalogue.size());
+            List<Product> products = catalogue.subList(from, to).stream()
+                    .<Product>map(dto -> Product.builder().productId(dto.getProductId()).build())
+                    .toList();
+            return new SliceImpl<>(products);
+        });
+        when(productMapper.toDTOList(anyList())).thenAnswer(invocation -> {
+            List<Product> products = invocation.getArgument(0);
+            return products.stream()
+                    .map(product -> catalogue.stream()
+                            .filter(dto -> dto.getProductId().equals(product.getProductId()))
+                            .findFirst().orElseThrow())
+                    .toList();
+        });
+
+        index = new ProductSearchIndex(productRepository, productMapper, true, 3, 2);
+        index.rebuild();
+    }
+
+    @Test
+    @DisplayName("Should load every product in parallel chunks")
+    void shouldLoadEveryProductInChunks() {
+        Assertions.assertTrue(index.isReady());
+        Assertions.assertEquals(4, index.size());
+        verify(productRepository, times(2)).findSlice(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should match every name word by prefix")
+    void shouldMatchEveryNameWordByPrefix() {
+        Assertions.assertEquals(List.of(keyboard, mouse), search(ProductFilter.builder().name("wire").build()));
+        Assertions.assertEquals(List.of(mouse), search(ProductFilter.builder().name("wireless mo").build()));
+        Assertions.assertEquals(List.of(), search(ProductFilter.builder().name("chair").description("bluetooth").build()));
+    }
+
+    @Test
+    @DisplayName("Should combine text, category and price filters")
+    void shouldCombineTextCategoryAndPriceFilters() {
+        ProductFilter filter = ProductFilter.builder()
+                .description("ergonomic")
+                .categoryId(electronics)
+                .maxPrice(50.0)
+                .build();
+
+        Assertions.assertEquals(List.of(mouse), search(filter));
+        Assertions.assertEquals(List.of(keyboard, mouse),
+                search(ProductFilter.builder().categoryId(electronics).minPrice(20.0).build()));
+        Assertions.assertEquals(List.of(chair), search(ProductFilter.builder().minPrice(100.0).build()));
+    }
+
+    @Test
+    @DisplayName("Should leave stock filters to the database")
+    void shouldLeaveStockFiltersToDatabase() {
+        Assertions.assertTrue(index.canServe(ProductFilter.builder().name("wireless").minPrice(10.0).build()));
+        Assertions.assertFalse(index.canServe(ProductFilter.builder().name("wireless").minStock(1).build()));
+        Assertions.assertFalse(index.canServe(ProductFilter.builder().maxStock(100).build()));
+    }
+
+    @Test
+    @DisplayName("Should match hyphenated words and decimal numbers the way PostgreSQL splits them")
+    void shouldMatchLexemesLikePostgres() {
+        ProductResponseDto kettle = product("Smart Kettle", "Holds 1.5 litres, sends e-mail alerts", office, 60.0, 3);
+        index.put(kettle);
+
+        Assertions.assertEquals(List.of(kettle), search(ProductFilter.builder().description("e-mail").build()));
+        Assertions.assertEquals(List.of(kettle), search(ProductFilter.builder().description("mail").build()));
+        Assertions.assertEquals(List.of(kettle), search(ProductFilter.builder().description("1.").build()));
+        Assertions.assertEquals(List.of(), search(ProductFilter.builder().description("5").build()));
+        Assertions.assertEquals(List.of(), search(ProductFilter.builder().description("1.5").build()));
+        Assertions.assertEquals(List.of(cable), search(ProductFilter.builder().name("usb-c").build()));
+    }
+
+    @Test
+    @DisplayName("Should leave text searches to the database while a product's text cannot be split")
+    void shouldLeaveTextSearchesToDatabaseForUnsplitText() {
+        ProductResponseDto router = product("Router", "Setup at http://192.168.0.1", electronics, 80.0, 2);
+        index.put(router);
+
+        Assertions.assertFalse(index.canServe(ProductFilter.builder().name("router").build()));
+        Assertions.assertTrue(index.canServe(ProductFilter.builder().categoryId(electronics).build()));
+
+        index.remove(router.getProductId());
+        Assertions.assertTrue(index.canServe(ProductFilter.builder().name("router").build()));
+    }
+
+    @Test
+    @DisplayName("Should page through matches the way page requests do")
+    void shouldPageThroughMatches() {
+        ProductFilter filter = ProductFilter.builder().categoryId(electronics).build();
+
+        Assertions.assertEquals(List.of(keyboard, mouse), index.search(filter, PageRequest.of(0, 2)));
+        Assertions.assertEquals(List.of(cable), index.search(filter, PageRequest.of(1, 2)));
+    }
+
+    @Test
+    @DisplayName("Should count matching products per category and price bucket")
+    void shouldCountFacetsPerCategoryAndPriceBucket() {
+        ProductFacetsDto facets = index.countFacets(ProductFilter.builder().minPrice(20.0).build(), new PriceBuckets(20, 100));
+
+        Assertions.assertEquals(3, facets.getTotal());
+        Assertions.assertEquals(List.of(new CategoryFacetDto(electronics, 2), new CategoryFacetDto(office, 1)),
+                facets.getCategories());
+        Assertions.assertEquals(List.of(
+                new PriceBucketFacetDto(null, 20.0, 0),
+                new PriceBucketFacetDto(20.0, 100.0, 2),
+                new PriceBucketFacetDto(100.0, null, 1)
+        ), facets.getPriceBuckets());
+    }
+
+    @Test
+    @DisplayName("Should reflect created, updated and deleted products")
+    void shouldReflectCreatedUpdatedAndDeletedProducts() {
+        ProductResponseDto lamp = product("Desk Lamp", "LED lamp", office, 35.0, 8);
+        index.put(lamp);
+        ProductResponseDto renamed = product("Gaming Mouse", "Ergonomic mouse", electronics, 25.0, 5);
+        renamed.setProductId(mouse.getProductId());
+        index.put(renamed);
+        index.remove(cable.getProductId());
+
+        Assertions.assertEquals(List.of(lamp), search(ProductFilter.builder().name("lamp").build()));
+        Assertions.assertEquals(List.of(), search(ProductFilter.builder().name("wireless mouse").build()));
+        Assertions.assertEquals(List.of(renamed), search(ProductFilter.builder().name("gaming").build()));
+        Assertions.assertEquals(List.of(), search(ProductFilter.builder().name("cable").build()));
+        Assertions.assertEquals(4, index.size());
+    }
+
+    @Test
+    @DisplayName("Should order matches by product id, unsigned like PostgreSQL, whatever the insertion order")
+    void shouldOrderMatchesByProductId() {
+        ProductResponseDto last = product("Wireless Charger", "Charging pad", electronics, 30.0, 4);
+        last.setProductId(new UUID(-1L, 0));
+        ProductResponseDto first = product("Wireless Headset", "Noise cancelling", electronics, 90.0, 6);
+        first.setProductId(new UUID(0, 0));
+        index.put(last);
+        index.put(first);
+
+        ProductFilter filter = ProductFilter.builder().name("wireless").build();
+        Assertions.assertEquals(List.of(first, keyboard, mouse, last), search(filter));
+        Assertions.assertEquals(List.of(mouse, last), index.search(filter, PageRequest.of(1, 2)));
+        Assertions.assertEquals(List.of(), index.search(filter, PageRequest.of(2, 2)));
+    }
+
+    @Test
+    @DisplayName("Should order text matches by rank before product id")
+    void shouldOrderTextMatchesByRank() {
+        ProductResponseDto tidy = product("Cable Tidy", "Desk organiser", office, 8.0, 40);
+        tidy.setProductId(new UUID(0, 0));
+        index.put(tidy);
+
+        Assertions.assertEquals(List.of(cable, tidy), search(ProductFilter.builder().name("cable").build()));
+        Assertions.assertEquals(List.of(tidy), index.search(ProductFilter.builder().name("cable").build(), PageRequest.of(1, 1)));
+    }
+
+    @Test
+    @DisplayName("Should stay empty and not ready when disabled")
+    void shouldStayEmptyWhenDisabled() {
+        ProductSearchIndex disabled = new ProductSearchIndex(productRepository, productMapper, false, 3, 2);
+
+        disabled.rebuild();
+        disabled.put(keyboard);
+
+        Assertions.assertFalse(disabled.isReady());
+        Assertions.assertEquals(0, disabled.size());
+    }
+
+    private List<ProductResponseDto> search(ProductFilter filter) {
+        return index.search(filter, PageRequest.of(0, 20));
+    }
+
+    private ProductResponseDto product(String name, String description, UUID categoryId, double price, int stock) {
+        return ProductResponseDto.builder()
+                .productId(new UUID(0, ++nextProductId))
+                .categoryId(categoryId)
+                .name(name)
+                .description(description)
+                .price(price)
+                .stock(stock)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.dto.product.ProductFilter;
+import com.example.ecommerce_system.util.ProductSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.List;
+import java.util.Optional;
+
+class ProductSearchQueryTest {
+
+    @Test
+    @DisplayName("Should turn every word into a weighted prefix match")
+    void shouldTurnEveryWordIntoWeightedPrefixMatch() {
+        ProductFilter filter = ProductFilter.builder().name("Gaming Laptop").description("wireless").build();
+
+        Assertions.assertEquals(
+                Optional.of("gaming:*A & laptop:*A & wireless:*B"),
+                ProductSearchQuery.toTsQuery(filter));
+    }
+
+    @Test
+    @DisplayName("Should drop tsquery operators from user input")
+    void shouldDropTsQueryOperatorsFromUserInput() {
+        ProductFilter filter = ProductFilter.builder().name("usb-c & !(cable):*").build();
+
+        Assertions.assertEquals(Optional.of("usb:*A & c:*A & cable:*A"), ProductSearchQuery.toTsQuery(filter));
+    }
+
+    @Test
+    @DisplayName("Should have no query when filter has no words")
+    void shouldHaveNoQueryWhenFilterHasNoWords() {
+        Assertions.assertTrue(ProductSearchQuery.toTsQuery(ProductFilter.builder().name(" %% ").build()).isEmpty());
+        Assertions.assertFalse(ProductSearchQuery.hasText(ProductFilter.builder().minPrice(1.0).build()));
+    }
+
+    @Test
+    @DisplayName("Should split text into the lexemes PostgreSQL's default parser stores")
+    void shouldSplitTextLikeTheDefaultParser() {
+        Assertions.assertEquals(
+                Optional.of(List.of("e-mail", "e", "mail", "planner", "1.5", "litres")),
+                ProductSearchQuery.lexemes("E-mail Planner, 1.5 litres."));
+        Assertions.assertEquals(
+                Optional.of(List.of("usb-c", "usb", "c", "cable", "don", "t", "fray", "v2")),
+                ProductSearchQuery.lexemes("USB-C cable - don't fray (v2)!"));
+        Assertions.assertEquals(Optional.of(List.of()), ProductSearchQuery.lexemes(" ... "));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "Mail support@example.com", "See www.example.com", "Docs at http://example.com",
+            "Fits 3/4 inch", "Works at -5 degrees", "Seats 5-6 people", "Firmware v1.2", "Price: $20"
+    })
+    @DisplayName("Should not split text the parser reads as another kind of token")
+    void shouldNotSplitOtherTokens(String text) {
+        Assertions.assertTrue(ProductSearchQuery.lexemes(text).isEmpty());
+    }
+}
@@ -4,12 +4,14 @@ import com.example.ecommerce_system.config.CacheConfig;
 import com.example.ecommerce_system.dto.product.ProductFilter;
 import com.example.ecommerce_system.dto.product.ProductRequestDto;
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
-import com.example.ecommerce_system.dto.product.ProductWithReviewsDto;
 import com.example.ecommerce_system.model.Category;
 import com.example.ecommerce_system.model.Product;
 import com.example.ecommerce_system.repository.CategoryRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.service.InventoryLedgerService;
+import com.example.ecommerce_system.service.ProductSearchIndex;
 import com.example.ecommerce_system.service.ProductService;
+import com.example.ecommerce_system.util.PriceBuckets;
 import com.example.ecommerce_system.util.mapper.ProductMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -22,9 +24,10 @@ import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 import org.springframework.cache.CacheManager;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
@@ -56,6 +59,15 @@ class ProductServiceCacheIntegrationTest {
     @MockitoBean
     private ProductMapper productMapper;
 
+    @MockitoBean
+    private InventoryLedgerService inventoryLedgerService;
+
+    @MockitoBean
+    private ProductSearchIndex productSearchIndex;
+
+    @MockitoBean
+    private PriceBuckets priceBuckets;
+
     @Autowired
     private ProductService productService;
 
@@ -134,7 +146,7 @@ class ProductServiceCacheIntegrationTest {
         int limit = 10;
         int offset = 0;
         PageRequest pageRequest = PageRequest.of(offset, limit);
-        Page<Product> productPage = new PageImpl<>(List.of(testProduct), pageRequest, 1);
+        Slice<Product> productPage = new SliceImpl<>(List.of(testProduct), pageRequest, false);
 
         ProductResponseDto expectedResponse = ProductResponseDto.builder()
                 .productId(productId)
@@ -143,7 +155,7 @@ class ProductServiceCacheIntegrationTest {
                 .price(1500.0)
                 .build();
 
-        when(productRepository.findAll(pageRequest)).thenReturn(productPage);
+        when(productRepository.findSlice(pageRequest)).thenReturn(productPage);
         when(productMapper.toDTO(testProduct)).thenReturn(expectedResponse);
         when(productMapper.toDTOList(List.of(testProduct))).thenReturn(List.of(expectedResponse));
 
@@ -157,7 +169,7 @@ class ProductServiceCacheIntegrationTest {
         assertEquals(1, secondCall.size());
         assertEquals("Test Laptop", firstCall.get(0).getName());
 
-        verify(productRepository, times(1)).findAll(pageRequest);
+        verify(productRepository, times(1)).findSlice(pageRequest);
         verify(productMapper, times(1)).toDTOList(List.of(testProduct));
     }
 
@@ -168,8 +180,8 @@ class ProductServiceCacheIntegrationTest {
         int limit = 5;
         int offset = 0;
         ProductFilter filter = ProductFilter.builder().name("Laptop").build();
-        PageRequest pageRequest = PageRequest.of(offset, limit);
-        Page<Product> productPage = new PageImpl<>(List.of(testProduct), pageRequest, 1);
+        PageRequest pageRequest = PageRequest.of(offset, limit, Sort.by("productId"));
+        Slice<Product> productPage = new SliceImpl<>(List.of(testProduct), pageRequest, false);
 
         ProductResponseDto expectedResponse = ProductResponseDto.builder()
                 .productId(productId)
@@ -178,7 +190,7 @@ class ProductServiceCacheIntegrationTest {
                 .price(1500.0)
                 .build();
 
-        when(productRepository.findAll(any(Specification.class), eq(pageRequest))).thenReturn(productPage);
+        when(productRepository.findSlice(any(Specification.class), eq(pageRequest))).thenReturn(productPage);
         when(productMapper.toDTO(testProduct)).thenReturn(expectedResponse);
         when(productMapper.toDTOList(List.of(testProduct))).thenReturn(List.of(expectedResponse));
 
@@ -192,44 +204,10 @@ class ProductServiceCacheIntegrationTest {
         assertEquals(1, secondCall.size());
         assertEquals("Test Laptop", firstCall.get(0).getName());
 
-        verify(productRepository, times(1)).findAll(any(Specification.class), eq(pageRequest));
+        verify(productRepository, times(1)).findSlice(any(Specification.class), eq(pageRequest));
         verify(productMapper, times(1)).toDTOList(List.of(testProduct));
     }
 
-    @Test
-    @DisplayName("Should cache products with reviews retrieval")
-    void shouldCacheProductsWithReviewsRetrieval() {
-        int limit = 5;
-        int offset = 0;
-        int reviewLimit = 3;
-        PageRequest pageRequest = PageRequest.of(offset, limit);
-        Page<Product> productPage = new PageImpl<>(List.of(testProduct), pageRequest, 1);
-
-        ProductWithReviewsDto expectedResponse = ProductWithReviewsDto.builder()
-                .productId(productId)
-                .name("Test Laptop")
-                .description("A test laptop")
-                .price(1500.0)
-                .reviews(List.of())
-                .build();
-
-        when(productRepository.findAllWithLimitedReviews(reviewLimit, pageRequest)).thenReturn(productPage);
-        when(productMapper.toProductWithReviewsDTOList(List.of(testProduct))).thenReturn(List.of(expectedResponse));
-
-        List<ProductWithReviewsDto> firstCall = productService.getAllProductsWithReviews(limit, offset, reviewLimit);
-
-        List<ProductWithReviewsDto> secondCall = productService.getAllProductsWithReviews(limit, offset, reviewLimit);
-
-        assertNotNull(firstCall);
-        assertNotNull(secondCall);
-        assertEquals(1, firstCall.size());
-        assertEquals(1, secondCall.size());
-        assertEquals("Test Laptop", firstCall.get(0).getName());
-
-        verify(productRepository, times(1)).findAllWithLimitedReviews(reviewLimit, pageRequest);
-        verify(productMapper, times(1)).toProductWithReviewsDTOList(List.of(testProduct));
-    }
-
     @Test
     @DisplayName("Should evict cache when creating product")
     void shouldEvictCacheWhenCreatingProduct() {
@@ -256,7 +234,7 @@ class ProductServiceCacheIntegrationTest {
         int limit = 10;
         int offset = 0;
         PageRequest pageRequest = PageRequest.of(offset, limit);
-        Page<Product> productPage = new PageImpl<>(List.of(testProduct), pageRequest, 1);
+        Slice<Product> productPage = new SliceImpl<>(List.of(testProduct), pageRequest, false);
 
         ProductResponseDto testProductResponse = ProductResponseDto.builder()
                 .productId(productId)
@@ -268,11 +246,11 @@ class ProductServiceCacheIntegrationTest {
                 .name("New Product")
                 .build();
 
-        when(productRepository.findAll(pageRequest)).thenReturn(productPage);
+        when(productRepository.findSlice(pageRequest)).thenReturn(productPage);
         when(productMapper.toDTO(testProduct)).thenReturn(testProductResponse);
 
         productService.getAllProducts(limit, offset);
-        verify(productRepository, times(1)).findAll(pageRequest);
+        verify(productRepository, times(1)).findSlice(pageRequest);
 
         when(categoryRepository.findById(categoryId)).thenReturn(Optional.of(testCategory));
         when(productRepository.save(any(Product.class))).thenReturn(newProduct);
@@ -280,12 +258,12 @@ class ProductServiceCacheIntegrationTest {
 
         productService.createProduct(createRequest);
 
-        Page<Product> updatedProductPage = new PageImpl<>(List.of(testProduct, newProduct), pageRequest, 2);
-        when(productRepository.findAll(pageRequest)).thenReturn(updatedProductPage);
+        Slice<Product> updatedProductPage = new SliceImpl<>(List.of(testProduct, newProduct), pageRequest, false);
+        when(productRepository.findSlice(pageRequest)).thenReturn(updatedProductPage);
 
         productService.getAllProducts(limit, offset);
 
-        verify(productRepository, times(2)).findAll(pageRequest);
+        verify(productRepository, times(2)).findSlice(pageRequest);
     }
 
     @Test
@@ -363,6 +341,38 @@ class ProductServiceCacheIntegrationTest {
         verify(productRepository, times(2)).findById(productId);
     }
 
+    @Test
+    @DisplayName("Should only evict product pages when a product changes")
+    void shouldOnlyEvictProductPagesWhenProductChanges() {
+        int limit = 10;
+        int offset = 0;
+        PageRequest pageRequest = PageRequest.of(offset, limit);
+        Slice<Product> productPage = new SliceImpl<>(List.of(testProduct), pageRequest, false);
+
+        when(productRepository.findSlice(pageRequest)).thenReturn(productPage);
+        when(productMapper.toDTOList(List.of(testProduct))).thenReturn(List.of());
+
+        var paginated = cacheManager.getCache("paginated");
+        assertNotNull(paginated);
+        paginated.put("categories::all_10_0", List.of());
+        String customerOrdersKey = "customer_orders:" + UUID.randomUUID() + "::10_0";
+        paginated.put(customerOrdersKey, List.of());
+
+        productService.getAllProducts(limit, offset);
+        assertNotNull(paginated.get("products::all_10_0"));
+
+        when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
+        when(productRepository.save(any(Product.class))).thenReturn(testProduct);
+        productService.updateProduct(productId, new ProductRequestDto(null, null, 1600.0, null, null));
+
+        assertNull(paginated.get("products::all_10_0"));
+        assertNotNull(paginated.get("categories::all_10_0"));
+        assertNotNull(paginated.get(customerOrdersKey));
+
+        productService.getAllProducts(limit, offset);
+        verify(productRepository, times(2)).findSlice(pageRequest);
+    }
+
     @Test
     @DisplayName("Should use different cache entries for different parameters")
     void shouldUseDifferentCacheEntriesForDifferentParameters() {
@@ -372,16 +382,16 @@ class ProductServiceCacheIntegrationTest {
         PageRequest pageRequest1 = PageRequest.of(offset1, limit1);
         PageRequest pageRequest2 = PageRequest.of(offset2, limit2);
 
-        Page<Product> productPage1 = new PageImpl<>(List.of(testProduct), pageRequest1, 1);
-        Page<Product> productPage2 = new PageImpl<>(List.of(), pageRequest2, 0);
+        Slice<Product> productPage1 = new SliceImpl<>(List.of(testProduct), pageRequest1, false);
+        Slice<Product> productPage2 = new SliceImpl<>(List.of(), pageRequest2, false);
 
         ProductResponseDto expectedResponse = ProductResponseDto.builder()
                 .productId(productId)
                 .name("Test Laptop")
                 .build();
 
-        when(productRepository.findAll(pageRequest1)).thenReturn(productPage1);
-        when(productRepository.findAll(pageRequest2)).thenReturn(productPage2);
+        when(productRepository.findSlice(pageRequest1)).thenReturn(productPage1);
+        when(productRepository.findSlice(pageRequest2)).thenReturn(productPage2);
         when(productMapper.toDTO(testProduct)).thenReturn(expectedResponse);
         when(productMapper.toDTOList(List.of(testProduct))).thenReturn(List.of(expectedResponse));
 
@@ -396,8 +406,8 @@ class ProductServiceCacheIntegrationTest {
         assertEquals(1, thirdCall.size());
         assertEquals(0, fourthCall.size());
 
-        verify(productRepository, times(1)).findAll(pageRequest1);
-        verify(productRepository, times(1)).findAll(pageRequest2);
+        verify(productRepository, times(1)).findSlice(pageRequest1);
+        verify(productRepository, times(1)).findSlice(pageRequest2);
     }
 
     @Test
@@ -1,5 +1,6 @@
 package com.example.ecommerce_system;
 
+import com.example.ecommerce_system.dto.product.ProductFacetsDto;
 import com.example.ecommerce_system.dto.product.ProductFilter;
 import com.example.ecommerce_system.dto.product.ProductRequestDto;
 import com.example.ecommerce_system.dto.product.ProductResponseDto;
@@ -9,8 +10,11 @@ import com.example.ecommerce_system.model.Category;
 import com.example.ecommerce_system.model.Product;
 import com.example.ecommerce_system.repository.CategoryRepository;
 import com.example.ecommerce_system.repository.ProductRepository;
+import com.example.ecommerce_system.service.InventoryLedgerService;
+import com.example.ecommerce_system.service.ProductSearchIndex;
 import com.example.ecommerce_system.service.ProductService;
 import com.example.ecommerce_system.service.ReviewService;
+import com.example.ecommerce_system.util.PriceBuckets;
 import com.example.ecommerce_system.util.mapper.ProductMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
@@ -19,9 +23,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
@@ -47,6 +52,15 @@ class ProductServiceTest {
     @Mock
     private ProductMapper productMapper;
 
+    @Mock
+    private InventoryLedgerService inventoryLedgerService;
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private PriceBuckets priceBuckets;
+
     @InjectMocks
     private ProductService productService;
 
@@ -90,6 +104,7 @@ class ProductServiceTest {
         verify(categoryRepository).findById(categoryId);
         verify(productRepository).save(any(Product.class));
         verify(productMapper).toDTO(savedProduct);
+        verify(productSearchIndex).put(responseDto);
     }
 
     @Test
@@ -187,6 +202,7 @@ class ProductServiceTest {
 
         verify(productRepository).findById(id);
         verify(productRepository).deleteById(id);
+        verify(productSearchIndex).remove(id);
     }
 
     @Test
@@ -334,31 +350,107 @@ class ProductServiceTest {
                 .name("Laptop")
                 .build();
 
-        Page<Product> page = new PageImpl<>(products);
-        when(productRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        Slice<Product> page = new SliceImpl<>(products);
+        when(productRepository.findSlice(any(Specification.class), any(PageRequest.class))).thenReturn(page);
         when(productMapper.toDTOList(products)).thenReturn(List.of(responseDto));
 
         List<ProductResponseDto> result = productService.searchProducts(filter, 10, 0);
 
         Assertions.assertEquals(1, result.size());
         Assertions.assertEquals("Laptop", result.get(0).getName());
-        verify(productRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(productRepository).findSlice(any(Specification.class), any(PageRequest.class));
         verify(productMapper).toDTOList(products);
     }
 
+    @Test
+    @DisplayName("Should serve search from in-memory index when it is ready")
+    void shouldServeSearchFromInMemoryIndexWhenReady() {
+        ProductFilter filter = ProductFilter.builder().name("lap").build();
+        ProductResponseDto responseDto = ProductResponseDto.builder().name("Laptop").build();
+
+        when(productSearchIndex.canServe(filter)).thenReturn(true);
+        when(productSearchIndex.search(filter, PageRequest.of(0, 10))).thenReturn(List.of(responseDto));
+
+        List<ProductResponseDto> result = productService.searchProducts(filter, 10, 0);
+
+        Assertions.assertEquals(List.of(responseDto), result);
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should count facets in the database when in-memory index is not ready")
+    void shouldCountFacetsInDatabaseWhenIndexNotReady() {
+        ProductFilter filter = ProductFilter.builder().maxPrice(100.0).build();
+        ProductFacetsDto facets = ProductFacetsDto.builder().total(3).build();
+
+        when(productRepository.countFacets(filter, priceBuckets)).thenReturn(facets);
+
+        Assertions.assertSame(facets, productService.getProductFacets(filter));
+        verify(productSearchIndex, never()).countFacets(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should count facets from in-memory index when it is ready")
+    void shouldCountFacetsFromInMemoryIndexWhenReady() {
+        ProductFilter filter = ProductFilter.builder().name("lap").build();
+        ProductFacetsDto facets = ProductFacetsDto.builder().total(1).build();
+
+        when(productSearchIndex.canServe(filter)).thenReturn(true);
+        when(productSearchIndex.countFacets(filter, priceBuckets)).thenReturn(facets);
+
+        Assertions.assertSame(facets, productService.getProductFacets(filter));
+        verifyNoInteractions(productRepository);
+    }
+
+    @Test
+    @DisplayName("Should search through full-text index when filter has text and index is available")
+    void shouldSearchThroughFullTextIndexWhenAvailable() {
+        ProductFilter filter = ProductFilter.builder().name("lap").maxPrice(2000.0).build();
+        Product product = Product.builder()
+                .productId(UUID.randomUUID())
+                .name("Laptop")
+                .build();
+        ProductResponseDto responseDto = ProductResponseDto.builder()
+                .productId(product.getProductId())
+                .name("Laptop")
+                .build();
+
+        when(productRepository.isFullTextSearchAvailable()).thenReturn(true);
+        when(productRepository.searchFullText(filter, PageRequest.of(0, 10, Sort.by("productId")))).thenReturn(List.of(product));
+        when(productMapper.toDTOList(List.of(product))).thenReturn(List.of(responseDto));
+
+        List<ProductResponseDto> result = productService.searchProducts(filter, 10, 0);
+
+        Assertions.assertEquals("Laptop", result.get(0).getName());
+        verify(productRepository, never()).findSlice(any(Specification.class), any(PageRequest.class));
+    }
+
+    @Test
+    @DisplayName("Should use specification when filter has no text even if full-text index is available")
+    void shouldUseSpecificationWhenFilterHasNoText() {
+        ProductFilter filter = ProductFilter.builder().minPrice(10.0).build();
+
+        when(productRepository.findSlice(any(Specification.class), any(PageRequest.class))).thenReturn(new SliceImpl<>(List.of()));
+        when(productMapper.toDTOList(List.of())).thenReturn(List.of());
+
+        productService.searchProducts(filter, 10, 0);
+
+        verify(productRepository, never()).searchFullText(any(), any());
+    }
+
     @Test
     @DisplayName("Should return empty list when no products match filter")
     void shouldReturnEmptyListWhenNoProductsMatchFilter() {
         ProductFilter filter = ProductFilter.builder().build();
 
-        Page<Product> page = new PageImpl<>(List.of());
-        when(productRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        Slice<Product> page = new SliceImpl<>(List.of());
+        when(productRepository.findSlice(any(Specification.class), any(PageRequest.class))).thenReturn(page);
         when(productMapper.toDTOList(List.of())).thenReturn(List.of());
 
         List<ProductResponseDto> result = productService.searchProducts(filter, 10, 0);
 
         Assertions.assertEquals(0, result.size());
-        verify(productRepository).findAll(any(Specification.class), any(PageRequest.class));
+        verify(productRepository).findSlice(any(Specification.class), any(PageRequest.class));
     }
 
     @Test
@@ -427,8 +519,8 @@ class ProductServiceTest {
                 .build();
         List<Product> products = List.of(product1, product2);
 
-        Page<Product> page = new PageImpl<>(products);
-        when(productRepository.findAll(any(Specification.class), any(PageRequest.class))).thenReturn(page);
+        Slice<Product> page = new SliceImpl<>(products);
+        when(productRepository.findSlice(any(Specification.class), any(PageRequest.class))).thenReturn(page);
         when(productMapper.toDTOList(products)).thenReturn(List.of(
                 ProductResponseDto.builder().name("Phone1").build(),
                 ProductResponseDto.builder().name("Phone2").build()
@@ -437,7 +529,7 @@ class ProductServiceTest {
         List<ProductResponseDto> result = productService.searchProducts(filter, 5, 10);
 
         Assertions.assertEquals(2, result.size());
-        verify(productRepository).findAll(any(Specification.class), eq(PageRequest.of(10, 5)));
+        verify(productRepository).findSlice(any(Specification.class), eq(PageRequest.of(10, 5, Sort.by("productId"))));
     }
 
     @Test
@@ -468,8 +560,8 @@ class ProductServiceTest {
                 .build();
         List<Product> products = List.of(product1, product2);
 
-        Page<Product> page = new PageImpl<>(products);
-        when(productRepository.findAll(any(PageRequest.class))).thenReturn(page);
+        Slice<Product> page = new SliceImpl<>(products);
+        when(productRepository.findSlice(any(PageRequest.class))).thenReturn(page);
         when(productMapper.toDTOList(products)).thenReturn(List.of(
                 ProductResponseDto.builder().name("Product1").build(),
                 ProductResponseDto.builder().name("Product2").build()
@@ -478,7 +570,7 @@ class ProductServiceTest {
         List<ProductResponseDto> result = productService.getAllProducts(10, 0);
 
         Assertions.assertEquals(2, result.size());
-        verify(productRepository).findAll(any(PageRequest.class));
+        verify(productRepository).findSlice(any(PageRequest.class));
         verify(productMapper).toDTOList(products);
     }
 }
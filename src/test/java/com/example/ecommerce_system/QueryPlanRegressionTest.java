@@ -0,0 +1,208 @@
+package com.example.ecommerce_system;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Query plans of the order and product filter combinations on PostgreSQL.
+ * The schema is created from db.sql in a throwaway schema, seeded with
+ * generated rows and analyzed; each case must then be answered without a
+ * sequential scan of orders or product. Every case is selective enough that
+ * an index is the right plan, so a sequential scan means an index is missing
+ * or no longer matches the predicate.
+ *
+ * <p>The statements mirror what Hibernate generates from
+ * {@code OrderSpecification} and {@code ProductSpecification}: cursor pages
+ * ordered by date and id, and offset pages with their count query.
+ *
+ * <p>Runs only when {@code QUERY_PLAN_DB_URL} (with {@code QUERY_PLAN_DB_USER}
+ * and {@code QUERY_PLAN_DB_PASSWORD}) points at a PostgreSQL database.
+ */
+@EnabledIfEnvironmentVariable(named = "QUERY_PLAN_DB_URL", matches = ".+")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanRegressionTest {
+
+    private static final Set<String> SCANNED_TABLES = Set.of("orders", "product");
+    private static final int CUSTOMERS = 5_000;
+    private static final int ORDERS = 500_000;
+    private static final int CATEGORIES = 50;
+    private static final int PRODUCTS = 200_000;
+
+    private static final String ORDER_PAGE = """
+            SELECT o.* FROM orders o JOIN order_statuses s ON s.status_id = o.status_id
+            WHERE %s
+            ORDER BY o.order_date DESC, o.order_id DESC LIMIT 21
+            """;
+    private static final String ORDER_COUNT = """
+            SELECT count(o.order_id) FROM orders o JOIN order_statuses s ON s.status_id = o.status_id
+            WHERE %s
+            """;
+    private static final String PRODUCT_PAGE = "SELECT p.* FROM product p WHERE %s OFFSET 0 LIMIT 20";
+    private static final String PRODUCT_COUNT = "SELECT count(p.product_id) FROM product p WHERE %s";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String schema = "query_plan_" + UUID.randomUUID().toString().replace("-", "");
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private UUID customerId;
+    private UUID categoryId;
+
+    @BeforeAll
+    void createSchema() throws IOException {
+        dataSource = new SingleConnectionDataSource(
+                System.getenv("QUERY_PLAN_DB_URL"),
+                System.getenv().getOrDefault("QUERY_PLAN_DB_USER", "postgres"),
+                System.getenv().getOrDefault("QUERY_PLAN_DB_PASSWORD", ""),
+                true
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE SCHEMA " + schema);
+        jdbcTemplate.execute("SET search_path TO " + schema + ", public");
+
+        String script = new ClassPathResource("db/db.sql").getContentAsString(StandardCharsets.UTF_8);
+        for (String statement : script.split(";")) {
+            if (statement.isBlank() || statement.strip().startsWith("alter table")) continue;
+            jdbcTemplate.execute(statement);
+        }
+        seed();
+    }
+
+    @AfterAll
+    void dropSchema() {
+        if (jdbcTemplate == null) return;
+        jdbcTemplate.execute("DROP SCHEMA " + schema + " CASCADE");
+        dataSource.destroy();
+    }
+
+    /**
+     * Customers place orders evenly over two years, in one of five statuses,
+     * thirty countries and three hundred cities; products spread evenly over
+     * fifty categories and prices from 1 to 1000.
+     */
+    private void seed() {
+        jdbcTemplate.update("INSERT INTO roles (role_name, description) VALUES ('CUSTOMER', 'Customer')");
+        jdbcTemplate.update("""
+                INSERT INTO users (email, password_hash, role_id)
+                SELECT 'customer' || i || '@example.com', 'hash', (SELECT role_id FROM roles)
+                FROM generate_series(1, ?) AS i
+                """, CUSTOMERS);
+        jdbcTemplate.update("""
+                INSERT INTO customer (user_id, first_name, phone)
+                SELECT user_id, 'Customer', '0200000000' FROM users
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO order_statuses (status_name)
+                VALUES ('PENDING'), ('PROCESSING'), ('SHIPPED'), ('DELIVERED'), ('CANCELLED')
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO orders (customer_id, order_date, total_amount, shipping_country,
+                                    shipping_city, shipping_postal_code, status_id)
+                SELECT c.customer_ids[1 + i % ?],
+                       now() - (i % 730) * interval '1 day' - (i % 1440) * interval '1 minute',
+                       10 + i % 990,
+                       'Country ' || i % 30,
+                       'City ' || i % 300,
+                       '00000',
+                       s.status_ids[1 + i % 5]
+                FROM generate_series(1, ?) AS i,
+                     (SELECT array_agg(customer_id) AS customer_ids FROM customer) c,
+                     (SELECT array_agg(status_id) AS status_ids FROM order_statuses) s
+                """, CUSTOMERS, ORDERS);
+        jdbcTemplate.update("""
+                INSERT INTO category (name, description)
+                SELECT 'Category ' || i, 'Category' FROM generate_series(1, ?) AS i
+                """, CATEGORIES);
+        jdbcTemplate.update("""
+                INSERT INTO product (name, description, price, stock_quantity, category_id)
+                SELECT 'Product ' || i, 'Description', 1 + i % 1000, 1 + i % 500, c.category_ids[1 + i % ?]
+                FROM generate_series(1, ?) AS i,
+                     (SELECT array_agg(category_id) AS category_ids FROM category) c
+                """, CATEGORIES, PRODUCTS);
+        jdbcTemplate.execute("ANALYZE order_statuses, customer, orders, category, product");
+
+        customerId = jdbcTemplate.queryForObject("SELECT customer_id FROM customer LIMIT 1", UUID.class);
+        categoryId = jdbcTemplate.queryForObject("SELECT category_id FROM category LIMIT 1", UUID.class);
+    }
+
+    Stream<Arguments> filters() {
+        Timestamp monthAgo = Timestamp.from(Instant.now().minus(30, ChronoUnit.DAYS));
+        Timestamp weekAgo = Timestamp.from(Instant.now().minus(7, ChronoUnit.DAYS));
+        List<Arguments> cases = new ArrayList<>();
+
+        addOrderCases(cases, "customer", "o.customer_id = ?", customerId);
+        addOrderCases(cases, "customer and date range",
+                "o.customer_id = ? AND o.order_date >= ? AND o.order_date <= ?", customerId, monthAgo, weekAgo);
+        addOrderCases(cases, "customer and status",
+                "o.customer_id = ? AND s.status_name = ?", customerId, "SHIPPED");
+        addOrderCases(cases, "status and date range",
+                "s.status_name = ? AND o.order_date >= ? AND o.order_date <= ?", "PENDING", monthAgo, weekAgo);
+        addOrderCases(cases, "country", "lower(o.shipping_country) = ?", "country 7");
+        addOrderCases(cases, "country and city",
+                "lower(o.shipping_country) = ? AND lower(o.shipping_city) LIKE ?", "country 7", "%city 127%");
+        addOrderCases(cases, "city", "lower(o.shipping_city) LIKE ?", "%city 127%");
+        addOrderCases(cases, "date range and amount",
+                "o.order_date >= ? AND o.order_date <= ? AND o.total_amount >= ? AND o.total_amount <= ?",
+                monthAgo, weekAgo, 100.0, 500.0);
+
+        addProductCases(cases, "category and price range",
+                "p.category_id = ? AND p.price >= ? AND p.price <= ?", categoryId, 100.0, 120.0);
+        addProductCases(cases, "category, price and stock range",
+                "p.category_id = ? AND p.price >= ? AND p.price <= ? AND p.stock_quantity >= ? AND p.stock_quantity <= ?",
+                categoryId, 100.0, 200.0, 1, 250);
+
+        return cases.stream();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("filters")
+    @DisplayName("Should answer filter combinations without a sequential scan")
+    void shouldAnswerFilterWithoutSequentialScan(String name, String sql, Object[] parameters) throws IOException {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN (FORMAT JSON) " + sql, String.class, parameters);
+        JsonNode root = objectMapper.readTree(plan).get(0).get("Plan");
+
+        List<String> scanned = new ArrayList<>();
+        collectSequentialScans(root, scanned);
+        Assertions.assertTrue(scanned.isEmpty(),
+                () -> name + " scans " + scanned + " sequentially:\n" + root.toPrettyString());
+    }
+
+    private static void addOrderCases(List<Arguments> cases, String name, String where, Object... parameters) {
+        cases.add(Arguments.of("orders page by " + name, ORDER_PAGE.formatted(where), parameters));
+        cases.add(Arguments.of("orders count by " + name, ORDER_COUNT.formatted(where), parameters));
+    }
+
+    private static void addProductCases(List<Arguments> cases, String name, String where, Object... parameters) {
+        cases.add(Arguments.of("products page by " + name, PRODUCT_PAGE.formatted(where), parameters));
+        cases.add(Arguments.of("products count by " + name, PRODUCT_COUNT.formatted(where), parameters));
+    }
+
+    private static void collectSequentialScans(JsonNode node, List<String> scanned) {
+        if ("Seq Scan".equals(node.path("Node Type").asText())
+                && SCANNED_TABLES.contains(node.path("Relation Name").asText()))
+            scanned.add(node.path("Relation Name").asText());
+        node.path("Plans").forEach(child -> collectSequentialScans(child, scanned));
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.model.*;
+import com.example.ecommerce_system.repository.ReviewRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "logging.file.name="
+})
+class ReviewRepositoryTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    private final List<Customer> customers = new ArrayList<>();
+    private Category category;
+    private final Instant now = Instant.now();
+
+    @BeforeEach
+    void setUp() {
+        Role role = Role.builder().roleName(RoleType.CUSTOMER).description("Customer").build();
+        entityManager.persist(role);
+
+        for (int i = 0; i < 4; i++) {
+            User user = User.builder()
+                    .userId(UUID.randomUUID())
+                    .email("customer" + i + "@example.com")
+                    .passwordHash("hash")
+                    .role(role)
+                    .createdAt(now)
+                    .build();
+            entityManager.persist(user);
+
+            Customer customer = Customer.builder()
+                    .customerId(UUID.randomUUID())
+                    .user(user)
+                    .firstName("Customer " + i)
+                    .phone("020000000" + i)
+                    .active(true)
+                    .build();
+            entityManager.persist(customer);
+            customers.add(customer);
+        }
+
+        category = Category.builder()
+                .categoryId(UUID.randomUUID())
+                .name("Electronics")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(category);
+    }
+
+    private Product productWithReviews(int reviewCount) {
+        Product product = Product.builder()
+                .productId(UUID.randomUUID())
+                .name("Product")
+                .description("Description")
+                .price(10.0)
+                .stockQuantity(10)
+                .category(category)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        entityManager.persist(product);
+
+        for (int i = 0; i < reviewCount; i++) {
+            entityManager.persist(Review.builder()
+                    .reviewId(UUID.randomUUID())
+                    .product(product)
+                    .customer(customers.get(i))
+                    .rating(5)
+                    .comment("Review " + i)
+                    .createdAt(now.minusSeconds(i * 60L))
+                    .build());
+        }
+        return product;
+    }
+
+    @Test
+    @DisplayName("Should return at most the newest reviewLimit reviews of each product")
+    void shouldLimitReviewsPerProduct() {
+        Product popular = productWithReviews(4);
+        Product quiet = productWithReviews(1);
+        Product unreviewed = productWithReviews(0);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<Review> reviews = reviewRepository.findTopReviewsByProductIds(
+                List.of(popular.getProductId(), quiet.getProductId(), unreviewed.getProductId()), 2);
+
+        Map<UUID, List<Review>> byProduct = reviews.stream()
+                .collect(Collectors.groupingBy(review -> review.getProduct().getProductId()));
+
+        Assertions.assertEquals(3, reviews.size());
+        Assertions.assertEquals(2, byProduct.get(popular.getProductId()).size());
+        Assertions.assertEquals(1, byProduct.get(quiet.getProductId()).size());
+        Assertions.assertFalse(byProduct.containsKey(unreviewed.getProductId()));
+        Assertions.assertEquals(
+                List.of("Review 0", "Review 1"),
+                byProduct.get(popular.getProductId()).stream().map(Review::getComment).toList());
+    }
+}
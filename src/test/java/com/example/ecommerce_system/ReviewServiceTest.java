@@ -23,9 +23,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.Instant;
 import java.util.List;
@@ -206,7 +206,7 @@ class ReviewServiceTest {
         int offset = 0;
 
         List<Review> reviews = List.of(testReview);
-        Page<Review> reviewsPage = new PageImpl<>(reviews);
+        Slice<Review> reviewsPage = new SliceImpl<>(reviews);
         List<ReviewResponseDto> responseDtos = List.of(testResponseDto);
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
@@ -249,7 +249,7 @@ class ReviewServiceTest {
         int offset = 0;
 
         List<Review> reviews = List.of(testReview);
-        Page<Review> reviewsPage = new PageImpl<>(reviews);
+        Slice<Review> reviewsPage = new SliceImpl<>(reviews);
         List<ReviewResponseDto> responseDtos = List.of(testResponseDto);
 
         when(customerRepository.findById(customerId)).thenReturn(Optional.of(testCustomer));
@@ -291,7 +291,7 @@ class ReviewServiceTest {
         int limit = 5;
         int offset = 10;
 
-        Page<Review> emptyPage = new PageImpl<>(List.of());
+        Slice<Review> emptyPage = new SliceImpl<>(List.of());
 
         when(productRepository.findById(productId)).thenReturn(Optional.of(testProduct));
         when(reviewRepository.findAllByProduct_ProductId(eq(productId), any(PageRequest.class)))
@@ -311,7 +311,7 @@ class ReviewServiceTest {
         int limit = 5;
         int offset = 10;
 
-        Page<Review> emptyPage = new PageImpl<>(List.of());
+        Slice<Review> emptyPage = new SliceImpl<>(List.of());
 
         when(customerRepository.findById(customerId)).thenReturn(Optional.of(testCustomer));
         when(reviewRepository.findAllByCustomer_CustomerId(eq(customerId), any(PageRequest.class)))
@@ -390,7 +390,7 @@ class ReviewServiceTest {
                 .build();
 
         List<Review> reviews = List.of(newerReview, olderReview); // Should be sorted by createdAt descending
-        Page<Review> reviewsPage = new PageImpl<>(reviews);
+        Slice<Review> reviewsPage = new SliceImpl<>(reviews);
 
         ReviewResponseDto newerResponseDto = ReviewResponseDto.builder()
                 .reviewId(newerReview.getReviewId())
@@ -442,4 +442,42 @@ class ReviewServiceTest {
             !review.getCreatedAt().isAfter(afterCreation)
         ));
     }
+
+    @Test
+    @DisplayName("Should load top reviews for all products in one query and group them by product")
+    void shouldGroupTopReviewsByProduct() {
+        UUID otherProductId = UUID.randomUUID();
+        UUID unreviewedProductId = UUID.randomUUID();
+        Review otherReview = Review.builder()
+                .reviewId(UUID.randomUUID())
+                .product(Product.builder().productId(otherProductId).build())
+                .customer(testCustomer)
+                .build();
+        List<UUID> productIds = List.of(testProduct.getProductId(), otherProductId, unreviewedProductId);
+
+        ReviewResponseDto otherResponse = ReviewResponseDto.builder()
+                .reviewId(otherReview.getReviewId())
+                .productId(otherProductId)
+                .customerId(testCustomer.getCustomerId())
+                .build();
+
+        when(reviewRepository.findTopReviewsByProductIds(productIds, 3)).thenReturn(List.of(testReview, otherReview));
+        when(reviewMapper.toSummaryDTO(testReview)).thenReturn(testResponseDto);
+        when(reviewMapper.toSummaryDTO(otherReview)).thenReturn(otherResponse);
+
+        var result = reviewService.getTopReviewsByProducts(productIds, 3);
+
+        Assertions.assertEquals(List.of(testResponseDto), result.get(testProduct.getProductId()));
+        Assertions.assertEquals(List.of(otherResponse), result.get(otherProductId));
+        Assertions.assertFalse(result.containsKey(unreviewedProductId));
+        verify(reviewRepository, times(1)).findTopReviewsByProductIds(productIds, 3);
+        verify(reviewMapper, never()).toDTO(any());
+    }
+
+    @Test
+    @DisplayName("Should not query reviews when no products are given")
+    void shouldNotQueryTopReviewsForEmptyProductList() {
+        Assertions.assertTrue(reviewService.getTopReviewsByProducts(List.of(), 3).isEmpty());
+        verifyNoInteractions(reviewRepository);
+    }
 }
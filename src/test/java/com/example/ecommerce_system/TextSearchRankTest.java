@@ -0,0 +1,39 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.util.TextSearchRank;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class TextSearchRankTest {
+
+    @Test
+    @DisplayName("Should rank one word by its weighted occurrences like ts_rank")
+    void shouldRankOneWordByOccurrences() {
+        Assertions.assertEquals(0.6079271f, TextSearchRank.rank(List.of("cable"), List.of(), List.of("cable")), 1e-6f);
+        Assertions.assertEquals(0.6687198f,
+                TextSearchRank.rank(List.of("usb-c", "usb", "c", "cable"), List.of("braided", "cable"), List.of("cab")),
+                1e-6f);
+    }
+
+    @Test
+    @DisplayName("Should rank several words by how close together they are like ts_rank")
+    void shouldRankSeveralWordsByProximity() {
+        float adjacent = TextSearchRank.rank(List.of("usb", "cable"), List.of(), List.of("usb", "cable"));
+        float apart = TextSearchRank.rank(List.of("usb", "braided", "charging", "cable"), List.of(), List.of("usb", "cable"));
+
+        Assertions.assertEquals(0.9910322f, adjacent, 1e-6f);
+        Assertions.assertTrue(apart < adjacent);
+    }
+
+    @Test
+    @DisplayName("Should rank words matching the description below words matching the name")
+    void shouldWeighNameAboveDescription() {
+        float inName = TextSearchRank.rank(List.of("lamp"), List.of("desk"), List.of("lamp"));
+        float inDescription = TextSearchRank.rank(List.of("desk"), List.of("lamp"), List.of("lamp"));
+
+        Assertions.assertTrue(inDescription < inName);
+    }
+}
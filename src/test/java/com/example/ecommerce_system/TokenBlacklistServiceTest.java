@@ -0,0 +1,135 @@
+package com.example.ecommerce_system;
+
+import com.example.ecommerce_system.service.FileTokenRevocationStore;
+import com.example.ecommerce_system.service.JdbcTokenRevocationStore;
+import com.example.ecommerce_system.service.TokenBlacklistService;
+import com.example.ecommerce_system.service.TokenRevocationStore;
+import com.example.ecommerce_system.util.ExpiringBloomFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+class TokenBlacklistServiceTest {
+
+    @TempDir
+    Path directory;
+
+    private TokenBlacklistService newService(TokenRevocationStore store) {
+        TokenBlacklistService service = new TokenBlacklistService(store, 60_000, 1_000, 0.01);
+        service.sync();
+        return service;
+    }
+
+    private JdbcTemplate newDatabase() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:revocations-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+                create table revoked_token (
+                    jti varchar(255) not null primary key,
+                    expires_at timestamp with time zone not null,
+                    revoked_at timestamp with time zone default CURRENT_TIMESTAMP not null
+                )
+                """);
+        return jdbcTemplate;
+    }
+
+    @Test
+    @DisplayName("Should report revoked tokens and pass unrevoked ones")
+    void shouldReportRevokedTokens() {
+        TokenBlacklistService service = newService(new FileTokenRevocationStore(""));
+
+        service.blacklistToken("revoked-jti");
+
+        Assertions.assertTrue(service.isBlacklisted("revoked-jti"));
+        Assertions.assertFalse(service.isBlacklisted("other-jti"));
+    }
+
+    @Test
+    @DisplayName("Should reload unexpired revocations after a restart and drop expired ones")
+    void shouldReloadRevocationsAfterRestart() throws IOException {
+        Path file = directory.resolve("revoked.log");
+        newService(new FileTokenRevocationStore(file.toString())).blacklistToken("revoked-jti");
+        Files.writeString(file, "expired-jti,1000;\ntorn-jti,12", StandardOpenOption.APPEND);
+
+        TokenBlacklistService restarted = newService(new FileTokenRevocationStore(file.toString()));
+
+        Assertions.assertTrue(restarted.isBlacklisted("revoked-jti"));
+        Assertions.assertFalse(restarted.isBlacklisted("expired-jti"));
+        Assertions.assertEquals(1, Files.readAllLines(file).size());
+    }
+
+    @Test
+    @DisplayName("Should replicate revocations between nodes through the shared table")
+    void shouldReplicateRevocationsBetweenNodes() {
+        JdbcTemplate jdbcTemplate = newDatabase();
+        TokenBlacklistService nodeA = newService(new JdbcTokenRevocationStore(jdbcTemplate, 5_000));
+        TokenBlacklistService nodeB = newService(new JdbcTokenRevocationStore(jdbcTemplate, 5_000));
+
+        nodeA.blacklistToken("revoked-jti");
+        Assertions.assertFalse(nodeB.isBlacklisted("revoked-jti"));
+
+        nodeB.sync();
+        Assertions.assertTrue(nodeB.isBlacklisted("revoked-jti"));
+
+        TokenBlacklistService nodeC = newService(new JdbcTokenRevocationStore(jdbcTemplate, 5_000));
+        Assertions.assertTrue(nodeC.isBlacklisted("revoked-jti"));
+    }
+
+    @Test
+    @DisplayName("Should prune expired revocations from the shared table")
+    void shouldPruneExpiredRevocations() {
+        JdbcTemplate jdbcTemplate = newDatabase();
+        JdbcTokenRevocationStore store = new JdbcTokenRevocationStore(jdbcTemplate, 5_000);
+        store.revoke("expired-jti", Instant.now().minusSeconds(1));
+        store.revoke("active-jti", Instant.now().plusSeconds(60));
+
+        Assertions.assertEquals(1, store.fetchNew().size());
+
+        store.pruneExpired();
+
+        Assertions.assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revoked_token", Integer.class));
+        Assertions.assertNotNull(jdbcTemplate.queryForObject(
+                "SELECT revoked_at FROM revoked_token WHERE jti = 'active-jti'", Timestamp.class));
+    }
+
+    @Test
+    @DisplayName("Should keep Bloom filter entries for one window and forget them after two")
+    void shouldExpireBloomFilterEntries() {
+        AtomicLong now = new AtomicLong(0);
+        ExpiringBloomFilter filter = new ExpiringBloomFilter(1_000, 0.01, 100, now::get);
+
+        now.set(50);
+        filter.add("jti");
+        now.set(149);
+        Assertions.assertTrue(filter.mightContain("jti"));
+
+        now.set(250);
+        Assertions.assertFalse(filter.mightContain("jti"));
+    }
+
+    @Test
+    @DisplayName("Should keep the Bloom filter false positive rate near its target")
+    void shouldKeepFalsePositiveRateNearTarget() {
+        ExpiringBloomFilter filter = new ExpiringBloomFilter(10_000, 0.01, 60_000);
+        for (int i = 0; i < 10_000; i++) filter.add("revoked-" + i);
+
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("active-" + i)) falsePositives++;
+        }
+
+        Assertions.assertTrue(falsePositives < 2_000, "false positives: " + falsePositives);
+    }
+}